@@ -17,8 +17,12 @@
 package io.skippy.core;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 import static java.lang.System.lineSeparator;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.joining;
 
@@ -31,10 +35,25 @@ import static java.util.stream.Collectors.joining;
  *      "class": 0,
  *      "tags": ["PASSED"],
  *      "coveredClasses": [0, 1],
+ *      "methods": [
+ *          {"name": "&lt;lifecycle&gt;", "coveredClasses": [1]},
+ *          {"name": "testFoo", "coveredClasses": [0, 1]}
+ *      ],
+ *      "executedMethods": {"0": [1, 2]},
+ *      "failedMethods": ["testFoo"],
  *      "executionId": "C57F877F...."
  * }
  * </pre>
  *
+ * The {@code methods} break down the {@code coveredClasses} by test method (see {@link AnalyzedTestMethod}). They are
+ * omitted if no per-method data has been recorded.
+ * <br /><br />
+ * The {@code executedMethods} contain the methods of the covered classes that have been executed by the test (see
+ * {@link ExecutedMethods}). They are omitted if no such data has been recorded.
+ * <br /><br />
+ * The {@code failedMethods} contain the names of the test methods that have failed. They are omitted if none of the
+ * test methods has failed (or if the failure has only been recorded on the level of the test class).
+ *
  * See {@link TestImpactAnalysis} for an overview how {@link AnalyzedTest} fits into Skippy's data model.
  *
  * @author Florian McKee
@@ -43,33 +62,96 @@ final class AnalyzedTest implements Comparable<AnalyzedTest> {
 
     private final int testClassId;
     private final List<TestTag> tags;
-    private final List<Integer> coveredClassesIds;
+    private final ClassIdSet coveredClasses;
     private final Optional<String> executionId;
+    private final List<AnalyzedTestMethod> methods;
+    private final ExecutedMethods executedMethods;
+    private final List<String> failedMethods;
+
+    // names of test methods that have been skipped in the build that produced this instance (not persisted)
+    private final Set<String> skippedMethods;
 
     /**
-     * C'tor.
+     * C'tor. See {@link Builder} for a convenient way to create instances with default values for the optional data.
      *
      * @param testClassId the id of the test class in the {@link ClassFileContainer}
      * @param tags a list of {@link TestTag}s
-     * @param coveredClassesIds the ids of the covered classes in the {@link ClassFileContainer}
+     * @param coveredClasses the ids of the covered classes in the {@link ClassFileContainer}
      * @param executionId a unique identifier for the test's JaCoCo execution data if capture of execution data is enabled
+     * @param methods the classes covered by the individual test methods
+     * @param skippedMethods the names of the test methods that have been skipped in the current build
+     * @param executedMethods the methods of the covered classes that have been executed by the test
+     * @param failedMethods the names of the test methods that have failed
      */
-    AnalyzedTest(int testClassId, List<TestTag> tags, List<Integer> coveredClassesIds, Optional<String> executionId) {
+    AnalyzedTest(int testClassId, List<TestTag> tags, ClassIdSet coveredClasses, Optional<String> executionId, List<AnalyzedTestMethod> methods, Set<String> skippedMethods, ExecutedMethods executedMethods, Collection<String> failedMethods) {
         this.testClassId = testClassId;
         this.tags = tags;
-        this.coveredClassesIds = coveredClassesIds;
+        this.coveredClasses = coveredClasses;
         this.executionId = executionId;
+        this.methods = methods.stream().sorted().toList();
+        this.skippedMethods = skippedMethods;
+        this.executedMethods = executedMethods;
+        this.failedMethods = failedMethods.stream().sorted().toList();
     }
 
     static AnalyzedTest from(ClassFileContainer classFileContainer, ClassFile classFile, List<TestTag> tags, List<ClassFile> coveredClasses, Optional<String> executionId) {
+        return from(classFileContainer, classFile, tags, coveredClasses, executionId, emptyMap(), emptySet(), emptySet(), emptyMap());
+    }
+
+    static AnalyzedTest from(
+            ClassFileContainer classFileContainer,
+            ClassFile classFile,
+            List<TestTag> tags,
+            List<ClassFile> coveredClasses,
+            Optional<String> executionId,
+            Map<String, List<ClassFile>> coveredClassesByMethod,
+            Set<String> skippedMethods,
+            Set<String> failedMethods,
+            Map<ClassFile, List<String>> executedMethodsByClass
+    ) {
+        var methods = new ArrayList<AnalyzedTestMethod>();
+        for (var entry : coveredClassesByMethod.entrySet()) {
+            methods.add(new AnalyzedTestMethod(entry.getKey(), toClassIdSet(classFileContainer, entry.getValue())));
+        }
         return new AnalyzedTest(
                 classFileContainer.getId(classFile),
                 tags,
-                coveredClasses.stream().map(classFileContainer::getId).toList(),
-                executionId
+                toClassIdSet(classFileContainer, coveredClasses),
+                executionId,
+                methods,
+                skippedMethods,
+                toExecutedMethods(classFileContainer, executedMethodsByClass),
+                failedMethods
         );
     }
 
+    private static ExecutedMethods toExecutedMethods(ClassFileContainer classFileContainer, Map<ClassFile, List<String>> executedMethodsByClass) {
+        var result = new HashMap<Integer, int[]>();
+        for (var entry : executedMethodsByClass.entrySet()) {
+            var methodHashes = entry.getKey().getMethodHashes();
+            if (methodHashes.isEmpty()) {
+                continue;
+            }
+            var indexes = new int[entry.getValue().size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = methodHashes.get().indexOf(entry.getValue().get(i));
+            }
+            // methods that are unknown to the method hashes: fall back to class-level change detection
+            if (IntStream.of(indexes).allMatch(index -> index >= 0)) {
+                result.put(classFileContainer.getId(entry.getKey()), indexes);
+            }
+        }
+        return ExecutedMethods.of(result);
+    }
+
+    private static ClassIdSet toClassIdSet(ClassFileContainer classFileContainer, List<ClassFile> classFiles) {
+        var result = new ClassIdSet.Builder();
+        for (var classFile : classFiles) {
+            result.add(classFileContainer.getId(classFile));
+        }
+        return result.build();
+    }
+
     /**
      * Returns the id of the test class in the {@link ClassFileContainer}.
      *
@@ -85,8 +167,19 @@ final class AnalyzedTest implements Comparable<AnalyzedTest> {
      *
      * @return the ids of the covered classes in the {@link ClassFileContainer}
      */
+    ClassIdSet getCoveredClasses() {
+        return coveredClasses;
+    }
+
+    /**
+     * Returns the ids of the covered classes in the {@link ClassFileContainer} as list of boxed {@link Integer}s.
+     * <br /><br />
+     * Note: Performance-sensitive code should use {@link #getCoveredClasses()} instead.
+     *
+     * @return the ids of the covered classes in the {@link ClassFileContainer} in ascending order
+     */
     List<Integer> getCoveredClassesIds() {
-        return coveredClassesIds;
+        return coveredClasses.toList();
     }
 
     /**
@@ -98,6 +191,66 @@ final class AnalyzedTest implements Comparable<AnalyzedTest> {
         return executionId;
     }
 
+    /**
+     * Returns the classes covered by the individual test methods sorted by name.
+     *
+     * @return the classes covered by the individual test methods sorted by name
+     */
+    List<AnalyzedTestMethod> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Returns the classes covered by the test method with the given {@code name}.
+     *
+     * @param name the name of a test method (or {@link AnalyzedTestMethod#LIFECYCLE})
+     * @return the classes covered by the test method or {@link Optional#empty()} if none have been recorded
+     */
+    Optional<AnalyzedTestMethod> getMethod(String name) {
+        int low = 0;
+        int high = methods.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = methods.get(mid).name().compareTo(name);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return Optional.of(methods.get(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the methods of the covered classes that have been executed by the test.
+     *
+     * @return the methods of the covered classes that have been executed by the test
+     */
+    ExecutedMethods getExecutedMethods() {
+        return executedMethods;
+    }
+
+    /**
+     * Returns the names of the test methods that have failed sorted by name.
+     *
+     * @return the names of the test methods that have failed sorted by name
+     */
+    List<String> getFailedMethods() {
+        return failedMethods;
+    }
+
+    /**
+     * Returns the names of the test methods that have been skipped in the build that produced this instance. Their
+     * data is carried over from the previous {@link TestImpactAnalysis} by {@link TestImpactAnalysis#merge}.
+     *
+     * @return the names of the test methods that have been skipped in the build that produced this instance
+     */
+    Set<String> getSkippedMethods() {
+        return skippedMethods;
+    }
+
     static List<AnalyzedTest> parseList(Tokenizer tokenizer) {
         return Profiler.profile("AnalyzedTest#parseList", () -> {
             var analyzedTests = new ArrayList<AnalyzedTest>();
@@ -111,28 +264,51 @@ final class AnalyzedTest implements Comparable<AnalyzedTest> {
         });
     }
 
+    private static final byte[][] JSON_KEYS = Tokenizer.keys("class", "coveredClasses", "tags", "executionId", "methods", "executedMethods", "failedMethods");
+    private static final int CLASS = 0;
+    private static final int COVERED_CLASSES = 1;
+    private static final int TAGS = 2;
+    private static final int EXECUTION_ID = 3;
+    private static final int METHODS = 4;
+    private static final int EXECUTED_METHODS = 5;
+    private static final int FAILED_METHODS = 6;
+
     static AnalyzedTest parse(Tokenizer tokenizer) {
         tokenizer.skip('{');
         Integer clazz = null;
-        List<Integer> coveredClasses = null;
+        ClassIdSet coveredClasses = null;
         List<TestTag> testTags = null;
         Optional<String> executionId = Optional.empty();
+        List<AnalyzedTestMethod> methods = emptyList();
+        ExecutedMethods executedMethods = ExecutedMethods.EMPTY;
+        List<String> failedMethods = emptyList();
         while (true) {
-            var key = tokenizer.next();
+            var key = tokenizer.nextKey(JSON_KEYS);
             tokenizer.skip(':');
             switch (key) {
-                case "class":
-                    clazz = Integer.valueOf(tokenizer.next());
+                case CLASS:
+                    clazz = tokenizer.nextInt();
                     break;
-                case "coveredClasses":
+                case COVERED_CLASSES:
                     coveredClasses = parseCoveredClasses(tokenizer);
                     break;
-                case "tags":
+                case TAGS:
                     testTags = TestTag.parseList(tokenizer);
                     break;
-                case "executionId":
+                case EXECUTION_ID:
                     executionId = Optional.of(tokenizer.next());
                     break;
+                case METHODS:
+                    methods = parseMethods(tokenizer);
+                    break;
+                case EXECUTED_METHODS:
+                    executedMethods = ExecutedMethods.parse(tokenizer);
+                    break;
+                case FAILED_METHODS:
+                    failedMethods = parseFailedMethods(tokenizer);
+                    break;
+                default:
+                    tokenizer.skipValue();
             }
             tokenizer.skipIfNext(',');
             if (tokenizer.peek('}')) {
@@ -140,18 +316,40 @@ final class AnalyzedTest implements Comparable<AnalyzedTest> {
                 break;
             }
         }
-        return new AnalyzedTest(clazz, testTags, coveredClasses, executionId);
+        return new AnalyzedTest(clazz, testTags, coveredClasses, executionId, methods, emptySet(), executedMethods, failedMethods);
     }
 
-    static List<Integer> parseCoveredClasses(Tokenizer tokenizer) {
-        var coveredClasses = new ArrayList<Integer>();
+    private static List<String> parseFailedMethods(Tokenizer tokenizer) {
+        var failedMethods = new ArrayList<String>();
         tokenizer.skip('[');
         while ( ! tokenizer.peek(']')) {
             tokenizer.skipIfNext(',');
-            coveredClasses.add(Integer.valueOf(tokenizer.next()));
+            failedMethods.add(tokenizer.next());
         }
         tokenizer.skip(']');
-        return coveredClasses;
+        return failedMethods;
+    }
+
+    private static List<AnalyzedTestMethod> parseMethods(Tokenizer tokenizer) {
+        var methods = new ArrayList<AnalyzedTestMethod>();
+        tokenizer.skip('[');
+        while ( ! tokenizer.peek(']')) {
+            tokenizer.skipIfNext(',');
+            methods.add(AnalyzedTestMethod.parse(tokenizer));
+        }
+        tokenizer.skip(']');
+        return methods;
+    }
+
+    static ClassIdSet parseCoveredClasses(Tokenizer tokenizer) {
+        var coveredClasses = new ClassIdSet.Builder();
+        tokenizer.skip('[');
+        while ( ! tokenizer.peek(']')) {
+            tokenizer.skipIfNext(',');
+            coveredClasses.add(tokenizer.nextInt());
+        }
+        tokenizer.skip(']');
+        return coveredClasses.build();
     }
 
     List<TestTag> getTags() {
@@ -172,11 +370,32 @@ final class AnalyzedTest implements Comparable<AnalyzedTest> {
                 .map(tag -> "\"%s\"".formatted(tag.name()))
                 .collect(joining(","))));
         result.append(",%s".formatted(lineSeparator()));
-        result.append("\t\t\t\"coveredClasses\": [%s]".formatted(getCoveredClassesIds().stream()
-                .map(Integer::valueOf)
-                .sorted()
-                .map(val -> Integer.toString(val))
-                .collect(joining(","))));
+        result.append("\t\t\t\"coveredClasses\": [");
+        for (int i = 0; i < coveredClasses.size(); i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append(coveredClasses.get(i));
+        }
+        result.append(']');
+        if (false == methods.isEmpty()) {
+            result.append(",%s".formatted(lineSeparator()));
+            result.append("\t\t\t\"methods\": [%s".formatted(lineSeparator()));
+            result.append(methods.stream()
+                    .map(method -> "\t\t\t\t" + method.toJson())
+                    .collect(joining(",%s".formatted(lineSeparator()))));
+            result.append("%s\t\t\t]".formatted(lineSeparator()));
+        }
+        if (false == executedMethods.isEmpty()) {
+            result.append(",%s".formatted(lineSeparator()));
+            result.append("\t\t\t\"executedMethods\": %s".formatted(executedMethods.toJson()));
+        }
+        if (false == failedMethods.isEmpty()) {
+            result.append(",%s".formatted(lineSeparator()));
+            result.append("\t\t\t\"failedMethods\": [%s]".formatted(failedMethods.stream()
+                    .map(failedMethod -> "\"%s\"".formatted(failedMethod))
+                    .collect(joining(","))));
+        }
         if (executionId.isPresent()) {
             result.append(",%s".formatted(lineSeparator()));
             result.append("\t\t\t\"executionId\": \"%s\"".formatted(executionId.get()));
@@ -198,12 +417,66 @@ final class AnalyzedTest implements Comparable<AnalyzedTest> {
         AnalyzedTest that = (AnalyzedTest) o;
         return testClassId == that.testClassId &&
                 Objects.equals(tags, that.tags) &&
-                Objects.equals(coveredClassesIds, that.coveredClassesIds) &&
-                Objects.equals(executionId, that.executionId);
+                Objects.equals(coveredClasses, that.coveredClasses) &&
+                Objects.equals(executionId, that.executionId) &&
+                Objects.equals(methods, that.methods) &&
+                Objects.equals(executedMethods, that.executedMethods) &&
+                Objects.equals(failedMethods, that.failedMethods);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(testClassId, tags, coveredClassesIds, executionId);
+        return Objects.hash(testClassId, tags, coveredClasses, executionId, methods, executedMethods, failedMethods);
+    }
+
+    /**
+     * Builder for {@link AnalyzedTest}s: Everything beyond the test class, its tags and its covered classes is optional.
+     */
+    static final class Builder {
+
+        private final int testClassId;
+        private final List<TestTag> tags;
+        private final ClassIdSet coveredClasses;
+        private Optional<String> executionId = Optional.empty();
+        private List<AnalyzedTestMethod> methods = emptyList();
+        private Set<String> skippedMethods = emptySet();
+        private ExecutedMethods executedMethods = ExecutedMethods.EMPTY;
+        private Collection<String> failedMethods = emptyList();
+
+        Builder(int testClassId, List<TestTag> tags, ClassIdSet coveredClasses) {
+            this.testClassId = testClassId;
+            this.tags = tags;
+            this.coveredClasses = coveredClasses;
+        }
+
+        Builder executionId(String executionId) {
+            this.executionId = Optional.of(executionId);
+            return this;
+        }
+
+        Builder methods(List<AnalyzedTestMethod> methods) {
+            this.methods = methods;
+            return this;
+        }
+
+        Builder skippedMethods(Set<String> skippedMethods) {
+            this.skippedMethods = skippedMethods;
+            return this;
+        }
+
+        Builder executedMethods(ExecutedMethods executedMethods) {
+            this.executedMethods = executedMethods;
+            return this;
+        }
+
+        Builder failedMethods(Collection<String> failedMethods) {
+            this.failedMethods = failedMethods;
+            return this;
+        }
+
+        AnalyzedTest build() {
+            return new AnalyzedTest(testClassId, tags, coveredClasses, executionId, methods, skippedMethods, executedMethods, failedMethods);
+        }
     }
+
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.core;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The classes that have been covered by a single test method of an {@link AnalyzedTest}.
+ * <br /><br />
+ * Coverage that can't be attributed to a test method (e.g., constructors or {@literal @}BeforeAll methods) is stored
+ * under the pseudo-name {@link #LIFECYCLE}.
+ * <br /><br />
+ * JSON example:
+ * <pre>
+ * {"name": "testFoo", "coveredClasses": [0, 1]}
+ * </pre>
+ *
+ * @param name the name of the test method (or {@link #LIFECYCLE})
+ * @param coveredClasses the ids of the classes covered by the test method in the {@link ClassFileContainer}
+ *
+ * @author Florian McKee
+ */
+record AnalyzedTestMethod(String name, ClassIdSet coveredClasses) implements Comparable<AnalyzedTestMethod> {
+
+    /**
+     * Pseudo-name for coverage that has been recorded outside of test methods.
+     */
+    static final String LIFECYCLE = "<lifecycle>";
+
+    private static final byte[][] JSON_KEYS = Tokenizer.keys("name", "coveredClasses");
+    private static final int NAME = 0;
+    private static final int COVERED_CLASSES = 1;
+
+    static AnalyzedTestMethod parse(Tokenizer tokenizer) {
+        tokenizer.skip('{');
+        String name = null;
+        ClassIdSet coveredClasses = ClassIdSet.EMPTY;
+        while (true) {
+            var key = tokenizer.nextKey(JSON_KEYS);
+            tokenizer.skip(':');
+            switch (key) {
+                case NAME:
+                    name = tokenizer.next();
+                    break;
+                case COVERED_CLASSES:
+                    coveredClasses = AnalyzedTest.parseCoveredClasses(tokenizer);
+                    break;
+                default:
+                    tokenizer.skipValue();
+            }
+            tokenizer.skipIfNext(',');
+            if (tokenizer.peek('}')) {
+                tokenizer.skip('}');
+                break;
+            }
+        }
+        return new AnalyzedTestMethod(name, coveredClasses);
+    }
+
+    String toJson() {
+        return "{\"name\": \"%s\", \"coveredClasses\": [%s]}".formatted(
+                name,
+                coveredClasses.stream().mapToObj(Integer::toString).collect(joining(","))
+        );
+    }
+
+    @Override
+    public int compareTo(AnalyzedTestMethod other) {
+        return name.compareTo(other.name);
+    }
+}
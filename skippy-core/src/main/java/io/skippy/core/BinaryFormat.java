@@ -0,0 +1,558 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Compact binary encoding of a {@link TestImpactAnalysis} that is designed to be read from a
+ * {@link java.nio.MappedByteBuffer}.
+ * <br /><br />
+ * Layout (all numbers are big-endian):
+ * <pre>
+ * header           magic (int), version (int), index of the id in the string table (int)
+ * string table     count (int), count + 1 offsets (int), UTF-8 encoded strings
+ * class files      count (int), one fixed-width record per {@link ClassFile}:
+ *                  name, path, output folder and hash as indexes into the string table (4 x int),
+ *                  structure hash as index into the string table or -1 (int),
+ *                  offset of the method hashes record or -1 (int)
+ * method hashes    size of the records (int), one record per {@link ClassFile} with {@link MethodHashes}:
+ *                  number of methods (varint), per method: name + descriptor as index into the string table (varint)
+ *                  and hash (int)
+ * analyzed tests   count (int),
+ *                  index sorted by test class id: test class id and offset of the record (2 x int per test),
+ *                  index sorted by test class name: name as index into the string table and test class id (2 x int per test),
+ *                  size of the records (int), one record per {@link AnalyzedTest}:
+ *                  tags as bitmask (int), index of the execution id in the string table or -1 (int),
+ *                  number of covered classes (int), delta-encoded covered class ids (zig-zag encoded varints),
+ *                  number of test methods (varint), per test method: name as index into the string table (varint),
+ *                  number of covered classes (varint), delta-encoded covered class ids (zig-zag encoded varints),
+ *                  number of classes with executed methods (varint), per class: delta-encoded class id (zig-zag
+ *                  encoded varint), number of executed methods (varint), delta-encoded method indexes (varints),
+ *                  number of failed test methods (varint), names as indexes into the string table (varints)
+ * </pre>
+ * The ids of the {@link ClassFile}s are implicit: The n-th record has id n.
+ * <br /><br />
+ * The indexes allow a {@link View} to decode only the {@link AnalyzedTest}s and {@link ClassFile}s that are needed to
+ * make predictions for the tests in the current JVM.
+ *
+ * @author Florian McKee
+ */
+final class BinaryFormat {
+
+    // "SKIP"
+    private static final int MAGIC = 0x534B4950;
+    private static final int VERSION = 7;
+    private static final int CLASS_FILE_RECORD_SIZE = 6;
+    private static final int INDEX_ENTRY_SIZE = 2;
+    private static final int NO_EXECUTION_ID = -1;
+    private static final int NO_METHOD_HASHES = -1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final TestTag[] TAGS = TestTag.values();
+
+    private BinaryFormat() {
+    }
+
+    /**
+     * Writes the binary representation of the {@code testImpactAnalysis} to the {@code channel}.
+     *
+     * @param testImpactAnalysis a {@link TestImpactAnalysis}
+     * @param channel the target channel (will not be closed)
+     * @throws IOException if an I/O error occurs
+     */
+    static void write(TestImpactAnalysis testImpactAnalysis, WritableByteChannel channel) throws IOException {
+        var strings = new StringTable();
+        var idIndex = strings.indexOf(testImpactAnalysis.getId());
+        var classFileContainer = testImpactAnalysis.getClassFileContainer();
+        var classFileCount = classFileContainer.getClassFiles().size();
+        var classFileRecords = new int[classFileCount * CLASS_FILE_RECORD_SIZE];
+        var methodHashRecords = new ByteArrayOutputStream();
+        var methodHashRecordsOut = new DataOutputStream(methodHashRecords);
+        for (int id = 0; id < classFileCount; id++) {
+            var classFile = classFileContainer.getById(id);
+            if (classFile == null) {
+                throw new IllegalStateException("Expected consecutive class file ids, but id %s is missing.".formatted(id));
+            }
+            classFileRecords[id * CLASS_FILE_RECORD_SIZE] = strings.indexOf(classFile.getClassName());
+            classFileRecords[id * CLASS_FILE_RECORD_SIZE + 1] = strings.indexOf(classFile.getPath().toString());
+            classFileRecords[id * CLASS_FILE_RECORD_SIZE + 2] = strings.indexOf(classFile.getOutputFolder().toString());
+            classFileRecords[id * CLASS_FILE_RECORD_SIZE + 3] = strings.indexOf(classFile.getHash());
+            classFileRecords[id * CLASS_FILE_RECORD_SIZE + 4] = NO_METHOD_HASHES;
+            classFileRecords[id * CLASS_FILE_RECORD_SIZE + 5] = NO_METHOD_HASHES;
+            var methodHashes = classFile.getMethodHashes();
+            if (methodHashes.isPresent()) {
+                classFileRecords[id * CLASS_FILE_RECORD_SIZE + 4] = strings.indexOf(methodHashes.get().getStructureHash());
+                classFileRecords[id * CLASS_FILE_RECORD_SIZE + 5] = methodHashRecordsOut.size();
+                writeVarInt(methodHashRecordsOut, methodHashes.get().size());
+                for (int i = 0; i < methodHashes.get().size(); i++) {
+                    writeVarInt(methodHashRecordsOut, strings.indexOf(methodHashes.get().getMethod(i)));
+                    methodHashRecordsOut.writeInt(methodHashes.get().getHash(i));
+                }
+            }
+        }
+
+        var analyzedTests = testImpactAnalysis.getAnalyzedTests();
+        var records = new ByteArrayOutputStream();
+        var recordsOut = new DataOutputStream(records);
+        var recordOffsets = new int[analyzedTests.size()];
+        for (int i = 0; i < analyzedTests.size(); i++) {
+            var analyzedTest = analyzedTests.get(i);
+            var executionId = analyzedTest.getExecutionId();
+            recordOffsets[i] = recordsOut.size();
+            recordsOut.writeInt(toBitmask(analyzedTest.getTags()));
+            recordsOut.writeInt(executionId.isPresent() ? strings.indexOf(executionId.get()) : NO_EXECUTION_ID);
+            var coveredClasses = analyzedTest.getCoveredClasses();
+            recordsOut.writeInt(coveredClasses.size());
+            writeClassIds(recordsOut, coveredClasses);
+            writeVarInt(recordsOut, analyzedTest.getMethods().size());
+            for (var method : analyzedTest.getMethods()) {
+                writeVarInt(recordsOut, strings.indexOf(method.name()));
+                writeVarInt(recordsOut, method.coveredClasses().size());
+                writeClassIds(recordsOut, method.coveredClasses());
+            }
+            var executedMethods = analyzedTest.getExecutedMethods();
+            writeVarInt(recordsOut, executedMethods.size());
+            int previousClassId = 0;
+            for (int j = 0; j < executedMethods.size(); j++) {
+                writeVarInt(recordsOut, zigZag(executedMethods.getClassId(j) - previousClassId));
+                previousClassId = executedMethods.getClassId(j);
+                var methods = executedMethods.getMethods(j);
+                writeVarInt(recordsOut, methods.length);
+                int previousMethod = 0;
+                for (var method : methods) {
+                    writeVarInt(recordsOut, method - previousMethod);
+                    previousMethod = method;
+                }
+            }
+            writeVarInt(recordsOut, analyzedTest.getFailedMethods().size());
+            for (var failedMethod : analyzedTest.getFailedMethods()) {
+                writeVarInt(recordsOut, strings.indexOf(failedMethod));
+            }
+        }
+        var testsByClassName = analyzedTests.stream()
+                .sorted(Comparator.comparing((AnalyzedTest analyzedTest) -> classFileContainer.getById(analyzedTest.getTestClassId()).getClassName())
+                        .thenComparing(AnalyzedTest::getTestClassId))
+                .toList();
+
+        var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(idIndex);
+        strings.write(out);
+        out.writeInt(classFileCount);
+        for (var value : classFileRecords) {
+            out.writeInt(value);
+        }
+        out.writeInt(methodHashRecords.size());
+        methodHashRecords.writeTo(out);
+        out.writeInt(analyzedTests.size());
+        for (int i = 0; i < analyzedTests.size(); i++) {
+            out.writeInt(analyzedTests.get(i).getTestClassId());
+            out.writeInt(recordOffsets[i]);
+        }
+        for (var analyzedTest : testsByClassName) {
+            out.writeInt(classFileRecords[analyzedTest.getTestClassId() * CLASS_FILE_RECORD_SIZE]);
+            out.writeInt(analyzedTest.getTestClassId());
+        }
+        out.writeInt(records.size());
+        records.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Returns the id of the {@link TestImpactAnalysis} in the {@code buffer} without decoding anything else.
+     *
+     * @param buffer a buffer that contains the binary representation of a {@link TestImpactAnalysis}
+     * @return the id of the {@link TestImpactAnalysis} or {@link Optional#empty()} if the format is not supported or
+     *         the data is truncated
+     */
+    static Optional<String> readId(ByteBuffer buffer) {
+        if (false == hasSupportedHeader(buffer)) {
+            return Optional.empty();
+        }
+        try {
+            var view = new View(buffer);
+            if (false == view.isComplete()) {
+                return Optional.empty();
+            }
+            return Optional.of(view.getId());
+        } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns a {@link TestImpactAnalysis} that is backed by the {@code buffer}. Data is decoded on demand.
+     *
+     * @param buffer a buffer that contains the binary representation of a {@link TestImpactAnalysis}
+     * @return a {@link TestImpactAnalysis} that is backed by the {@code buffer}
+     */
+    static TestImpactAnalysis read(ByteBuffer buffer) {
+        if (false == hasSupportedHeader(buffer)) {
+            throw new IllegalStateException("Unsupported binary format for test impact analysis.");
+        }
+        return new TestImpactAnalysis(new View(buffer));
+    }
+
+    private static boolean hasSupportedHeader(ByteBuffer buffer) {
+        var in = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (in.remaining() < 3 * Integer.BYTES) {
+            return false;
+        }
+        return in.getInt() == MAGIC && in.getInt() == VERSION;
+    }
+
+    /**
+     * Random-access view of the binary representation of a {@link TestImpactAnalysis}.
+     * <br /><br />
+     * Strings, {@link ClassFile}s and {@link AnalyzedTest}s are decoded on first access and cached. The caches are
+     * populated without synchronization: Concurrent threads might decode the same entry twice, but they will always
+     * observe equal, immutable instances.
+     */
+    static final class View {
+
+        private final ByteBuffer buffer;
+        private final int idIndex;
+        private final int stringCount;
+        private final int stringOffsets;
+        private final int stringData;
+        private final int classFileCount;
+        private final int classFiles;
+        private final int methodHashes;
+        private final int analyzedTestCount;
+        private final int testsByClassId;
+        private final int testsByClassName;
+        private final int records;
+
+        private final String[] strings;
+        private final Path[] paths;
+        private final ClassFile[] classFileCache;
+        private final AnalyzedTest[] analyzedTestCache;
+
+        View(ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+            this.idIndex = this.buffer.getInt(2 * Integer.BYTES);
+            this.stringCount = this.buffer.getInt(3 * Integer.BYTES);
+            this.stringOffsets = 4 * Integer.BYTES;
+            this.stringData = stringOffsets + (stringCount + 1) * Integer.BYTES;
+            var classFileSection = stringData + this.buffer.getInt(stringOffsets + stringCount * Integer.BYTES);
+            this.classFileCount = this.buffer.getInt(classFileSection);
+            this.classFiles = classFileSection + Integer.BYTES;
+            var methodHashSection = classFiles + classFileCount * CLASS_FILE_RECORD_SIZE * Integer.BYTES;
+            this.methodHashes = methodHashSection + Integer.BYTES;
+            var analyzedTestSection = methodHashes + this.buffer.getInt(methodHashSection);
+            this.analyzedTestCount = this.buffer.getInt(analyzedTestSection);
+            this.testsByClassId = analyzedTestSection + Integer.BYTES;
+            this.testsByClassName = testsByClassId + analyzedTestCount * INDEX_ENTRY_SIZE * Integer.BYTES;
+            this.records = testsByClassName + analyzedTestCount * INDEX_ENTRY_SIZE * Integer.BYTES + Integer.BYTES;
+            this.strings = new String[stringCount];
+            this.paths = new Path[stringCount];
+            this.classFileCache = new ClassFile[classFileCount];
+            this.analyzedTestCache = new AnalyzedTest[analyzedTestCount];
+        }
+
+        String getId() {
+            return getString(idIndex);
+        }
+
+        /**
+         * Returns {@code true} if the records of the {@link AnalyzedTest}s end exactly at the end of the buffer.
+         *
+         * @return {@code true} if the buffer hasn't been truncated, {@code false} otherwise
+         */
+        boolean isComplete() {
+            return records + buffer.getInt(records - Integer.BYTES) == buffer.limit();
+        }
+
+        int getClassFileCount() {
+            return classFileCount;
+        }
+
+        int getAnalyzedTestCount() {
+            return analyzedTestCount;
+        }
+
+        /**
+         * Returns the {@link ClassFile} with the given id.
+         *
+         * @param id an id
+         * @return the {@link ClassFile} with the given id
+         */
+        ClassFile getClassFile(int id) {
+            var classFile = classFileCache[id];
+            if (classFile == null) {
+                var position = classFiles + id * CLASS_FILE_RECORD_SIZE * Integer.BYTES;
+                classFile = new ClassFile(
+                        getString(buffer.getInt(position)),
+                        getPath(buffer.getInt(position + Integer.BYTES)),
+                        getPath(buffer.getInt(position + 2 * Integer.BYTES)),
+                        getString(buffer.getInt(position + 3 * Integer.BYTES)),
+                        getMethodHashes(buffer.getInt(position + 4 * Integer.BYTES), buffer.getInt(position + 5 * Integer.BYTES))
+                );
+                classFileCache[id] = classFile;
+            }
+            return classFile;
+        }
+
+        private MethodHashes getMethodHashes(int structureHashIndex, int offset) {
+            if (offset == NO_METHOD_HASHES) {
+                return null;
+            }
+            var in = buffer.duplicate().order(ByteOrder.BIG_ENDIAN).position(methodHashes + offset);
+            var count = readVarInt(in);
+            var methods = new String[count];
+            var hashes = new int[count];
+            for (int i = 0; i < count; i++) {
+                methods[i] = getString(readVarInt(in));
+                hashes[i] = in.getInt();
+            }
+            return new MethodHashes(getString(structureHashIndex), methods, hashes);
+        }
+
+        /**
+         * Returns the {@link AnalyzedTest} for the test class with the given id.
+         *
+         * @param testClassId the id of a test class
+         * @return the {@link AnalyzedTest} for the test class with the given id or {@link Optional#empty()} if none found
+         */
+        Optional<AnalyzedTest> findAnalyzedTestByClassId(int testClassId) {
+            int low = 0;
+            int high = analyzedTestCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int midClassId = buffer.getInt(testsByClassId + mid * INDEX_ENTRY_SIZE * Integer.BYTES);
+                if (midClassId < testClassId) {
+                    low = mid + 1;
+                } else if (midClassId > testClassId) {
+                    high = mid - 1;
+                } else {
+                    return Optional.of(getAnalyzedTest(mid));
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Returns the ids of all analyzed test classes with the given {@code className}.
+         *
+         * @param className a fully qualified class name
+         * @return the ids of all analyzed test classes with the given {@code className}
+         */
+        int[] findTestClassIds(String className) {
+            int low = 0;
+            int high = analyzedTestCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (getString(buffer.getInt(testsByClassName + mid * INDEX_ENTRY_SIZE * Integer.BYTES)).compareTo(className) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            int end = low;
+            while (end < analyzedTestCount && getString(buffer.getInt(testsByClassName + end * INDEX_ENTRY_SIZE * Integer.BYTES)).equals(className)) {
+                end++;
+            }
+            var result = new int[end - low];
+            for (int i = low; i < end; i++) {
+                result[i - low] = buffer.getInt(testsByClassName + i * INDEX_ENTRY_SIZE * Integer.BYTES + Integer.BYTES);
+            }
+            return result;
+        }
+
+        ClassFileContainer toClassFileContainer() {
+            var result = new HashMap<Integer, ClassFile>();
+            for (int id = 0; id < classFileCount; id++) {
+                result.put(id, getClassFile(id));
+            }
+            return new ClassFileContainer(result);
+        }
+
+        List<AnalyzedTest> toAnalyzedTests() {
+            var result = new ArrayList<AnalyzedTest>(analyzedTestCount);
+            for (int i = 0; i < analyzedTestCount; i++) {
+                result.add(getAnalyzedTest(i));
+            }
+            return result;
+        }
+
+        private AnalyzedTest getAnalyzedTest(int index) {
+            var analyzedTest = analyzedTestCache[index];
+            if (analyzedTest == null) {
+                var indexEntry = testsByClassId + index * INDEX_ENTRY_SIZE * Integer.BYTES;
+                var testClassId = buffer.getInt(indexEntry);
+                var in = buffer.duplicate().order(ByteOrder.BIG_ENDIAN).position(records + buffer.getInt(indexEntry + Integer.BYTES));
+                var tags = fromBitmask(in.getInt());
+                var executionIdIndex = in.getInt();
+                var coveredClasses = readClassIds(in, in.getInt());
+                var methodCount = readVarInt(in);
+                var methods = new ArrayList<AnalyzedTestMethod>(methodCount);
+                for (int j = 0; j < methodCount; j++) {
+                    var name = getString(readVarInt(in));
+                    methods.add(new AnalyzedTestMethod(name, readClassIds(in, readVarInt(in))));
+                }
+                var executedMethodsCount = readVarInt(in);
+                var executedMethods = new HashMap<Integer, int[]>();
+                int classId = 0;
+                for (int j = 0; j < executedMethodsCount; j++) {
+                    classId += unZigZag(readVarInt(in));
+                    var indexes = new int[readVarInt(in)];
+                    int method = 0;
+                    for (int k = 0; k < indexes.length; k++) {
+                        method += readVarInt(in);
+                        indexes[k] = method;
+                    }
+                    executedMethods.put(classId, indexes);
+                }
+                var failedMethods = new String[readVarInt(in)];
+                for (int j = 0; j < failedMethods.length; j++) {
+                    failedMethods[j] = getString(readVarInt(in));
+                }
+                var executionId = executionIdIndex == NO_EXECUTION_ID ? Optional.<String>empty() : Optional.of(getString(executionIdIndex));
+                analyzedTest = new AnalyzedTest(testClassId, tags, coveredClasses, executionId, methods, Collections.emptySet(), ExecutedMethods.of(executedMethods), Arrays.asList(failedMethods));
+                analyzedTestCache[index] = analyzedTest;
+            }
+            return analyzedTest;
+        }
+
+        private String getString(int index) {
+            var result = strings[index];
+            if (result == null) {
+                var start = buffer.getInt(stringOffsets + index * Integer.BYTES);
+                var end = buffer.getInt(stringOffsets + (index + 1) * Integer.BYTES);
+                var bytes = new byte[end - start];
+                buffer.get(stringData + start, bytes);
+                result = new String(bytes, StandardCharsets.UTF_8);
+                strings[index] = result;
+            }
+            return result;
+        }
+
+        private Path getPath(int index) {
+            var result = paths[index];
+            if (result == null) {
+                result = Path.of(getString(index));
+                paths[index] = result;
+            }
+            return result;
+        }
+    }
+
+    private static int toBitmask(List<TestTag> tags) {
+        int result = 0;
+        for (var tag : tags) {
+            result |= 1 << tag.ordinal();
+        }
+        return result;
+    }
+
+    private static List<TestTag> fromBitmask(int bitmask) {
+        var result = new ArrayList<TestTag>(1);
+        for (var tag : TAGS) {
+            if ((bitmask & (1 << tag.ordinal())) != 0) {
+                result.add(tag);
+            }
+        }
+        return result;
+    }
+
+    private static void writeClassIds(DataOutputStream out, ClassIdSet classIds) throws IOException {
+        int previous = 0;
+        for (int i = 0; i < classIds.size(); i++) {
+            writeVarInt(out, zigZag(classIds.get(i) - previous));
+            previous = classIds.get(i);
+        }
+    }
+
+    private static ClassIdSet readClassIds(ByteBuffer in, int count) {
+        var ids = new int[count];
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unZigZag(readVarInt(in));
+            ids[i] = previous;
+        }
+        return ClassIdSet.of(ids);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return result;
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class StringTable {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+
+        int indexOf(String value) {
+            var index = indexes.get(value);
+            if (index == null) {
+                index = values.size();
+                indexes.put(value, index);
+                values.add(value.getBytes(StandardCharsets.UTF_8));
+            }
+            return index;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(values.size());
+            int offset = 0;
+            out.writeInt(offset);
+            for (var value : values) {
+                offset += value.length;
+                out.writeInt(offset);
+            }
+            for (var value : values) {
+                out.write(value);
+            }
+        }
+    }
+
+}
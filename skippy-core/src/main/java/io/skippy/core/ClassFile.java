@@ -16,10 +16,6 @@
 
 package io.skippy.core;
 
-import org.jacoco.core.internal.data.CRC64;
-
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -37,9 +33,14 @@ import static java.util.Comparator.comparing;
  *      "path": "com/example/Foo.class",
  *      "outputFolder": "build/classes/java/main",
  *      "hash": "ZT0GoiWG8Az5TevH9/JwBg==",
+ *      "structureHash": "5AB4C2F1",
+ *      "methods": {"&lt;init&gt;()V": "1F0A2B3C", "foo()V": "8E994DD8"}
  *  }
  * </pre>
  *
+ * The {@code structureHash} and the {@code methods} are the {@link MethodHashes} of the class file. They are omitted
+ * for class files that have been analyzed by older versions of Skippy.
+ *
  * See {@link TestImpactAnalysis} for an overview how {@link ClassFile} fits into Skippy's data model.
  *
  * @author Florian McKee
@@ -54,6 +55,12 @@ public final class ClassFile implements Comparable<ClassFile> {
     private final Path fullyQualifiedPath;
     private final String hash;
 
+    // only available for class files that have been collected from the file system: it is not part of the JSON
+    private final Long jaCoCoId;
+
+    // may be null
+    private final MethodHashes methodHashes;
+
     /**
      * C'tor.
      *
@@ -64,11 +71,28 @@ public final class ClassFile implements Comparable<ClassFile> {
      * @param hash                  a hash of the class file
      */
     ClassFile(String className, Path fullyQualifiedPath, Path path, Path outputFolder, String hash) {
+        this(className, fullyQualifiedPath, path, outputFolder, hash, null, null);
+    }
+
+    /**
+     * C'tor.
+     *
+     * @param className             the fully qualified class name
+     * @param fullyQualifiedPath    the fully qualified path of the class file
+     * @param path                  the path of the class file relative to the output folder (e.g., com/example/Foo.class)
+     * @param outputFolder          the path of the output folder relative to the project root (e.g., build/classes/java/main)
+     * @param hash                  a hash of the class file
+     * @param jaCoCoId              the JaCoCo id of the class file (may be {@code null})
+     * @param methodHashes          the {@link MethodHashes} of the class file (may be {@code null})
+     */
+    private ClassFile(String className, Path fullyQualifiedPath, Path path, Path outputFolder, String hash, Long jaCoCoId, MethodHashes methodHashes) {
         this.className = className;
         this.fullyQualifiedPath = fullyQualifiedPath;
         this.outputFolder = outputFolder;
         this.path = path;
         this.hash = hash;
+        this.jaCoCoId = jaCoCoId;
+        this.methodHashes = methodHashes;
     }
 
     /**
@@ -83,6 +107,19 @@ public final class ClassFile implements Comparable<ClassFile> {
         this(className, null, path, outputFolder, hash);
     }
 
+    /**
+     * C'tor.
+     *
+     * @param className    the fully qualified class name
+     * @param path         the path of the class file relative to the output folder (e.g., com/example/Foo.class)
+     * @param outputFolder the path of the output folder relative to the project root (e.g., build/classes/java/main)
+     * @param hash         a hash of the class file
+     * @param methodHashes the {@link MethodHashes} of the class file (may be {@code null})
+     */
+    ClassFile(String className, Path path, Path outputFolder, String hash, MethodHashes methodHashes) {
+        this(className, null, path, outputFolder, hash, null, methodHashes);
+    }
+
     /**
      * Creates a new instance based off a class file in one of the project's output folders.
      *
@@ -93,10 +130,12 @@ public final class ClassFile implements Comparable<ClassFile> {
      */
     public static ClassFile fromFileSystem(Path projectDir, Path outputFolder, Path classFile) {
         return new ClassFile(
-            ClassUtil.getFullyQualifiedClassName(classFile),
+                ClassFileHashCache.className(classFile),
                 classFile,
                 outputFolder.relativize(classFile), projectDir.relativize(outputFolder),
-                exists(classFile) ? HashUtil.debugAgnosticHash(classFile) : ""
+                ClassFileHashCache.debugAgnosticHash(classFile),
+                ClassFileHashCache.jaCoCoId(classFile),
+                ClassFileHashCache.methodHashes(classFile)
         );
     }
 
@@ -136,23 +175,68 @@ public final class ClassFile implements Comparable<ClassFile> {
         return hash;
     }
 
+    /**
+     * Returns the {@link MethodHashes} of the class file.
+     *
+     * @return the {@link MethodHashes} of the class file or {@link Optional#empty()} if they are not available
+     */
+    Optional<MethodHashes> getMethodHashes() {
+        return Optional.ofNullable(methodHashes);
+    }
+
+    private static final byte[][] JSON_KEYS = Tokenizer.keys("name", "path", "outputFolder", "hash", "structureHash", "methods");
+    private static final int NAME = 0;
+    private static final int PATH = 1;
+    private static final int OUTPUT_FOLDER = 2;
+    private static final int HASH = 3;
+    private static final int STRUCTURE_HASH = 4;
+    private static final int METHODS = 5;
+
     static ClassFile parse(Tokenizer tokenizer) {
-        return Profiler.profile("ClassFile#parse", () -> {
-            tokenizer.skip('{');
-            var entries = new HashMap<String, String>();
-            while (entries.size() < 4) {
-                var key = tokenizer.next();
-                tokenizer.skip(':');
-                var value = tokenizer.next();
-                entries.put(key, value);
-                if (entries.size() < 4) {
-                    tokenizer.skip(',');
-                }
+        tokenizer.skip('{');
+        String className = null;
+        String path = null;
+        String outputFolder = null;
+        String hash = null;
+        String structureHash = null;
+        MethodHashes methodHashes = null;
+        while (true) {
+            var key = tokenizer.nextKey(JSON_KEYS);
+            tokenizer.skip(':');
+            switch (key) {
+                case NAME:
+                    className = tokenizer.next();
+                    break;
+                case PATH:
+                    path = tokenizer.next();
+                    break;
+                case OUTPUT_FOLDER:
+                    outputFolder = tokenizer.next();
+                    break;
+                case HASH:
+                    hash = tokenizer.next();
+                    break;
+                case STRUCTURE_HASH:
+                    structureHash = tokenizer.next();
+                    break;
+                case METHODS:
+                    methodHashes = MethodHashes.parse(tokenizer);
+                    break;
+                default:
+                    tokenizer.skipValue();
+            }
+            tokenizer.skipIfNext(',');
+            if (tokenizer.peek('}')) {
+                tokenizer.skip('}');
+                break;
             }
-            tokenizer.skip('}');
-            var result = new ClassFile(entries.get("name"), Path.of(entries.get("path")), Path.of(entries.get("outputFolder")), entries.get("hash"));
-            return result;
-        });
+        }
+        if (methodHashes != null && structureHash != null) {
+            methodHashes = methodHashes.withStructureHash(structureHash);
+        } else {
+            methodHashes = null;
+        }
+        return new ClassFile(className, Path.of(path), Path.of(outputFolder), hash, methodHashes);
     }
 
 
@@ -171,6 +255,13 @@ public final class ClassFile implements Comparable<ClassFile> {
         result.append("\t\t\t\"outputFolder\": \"%s\",".formatted(outputFolder));
         result.append(lineSeparator());
         result.append("\t\t\t\"hash\": \"%s\"".formatted(hash));
+        if (methodHashes != null) {
+            result.append(",");
+            result.append(lineSeparator());
+            result.append("\t\t\t\"structureHash\": \"%s\",".formatted(methodHashes.getStructureHash()));
+            result.append(lineSeparator());
+            result.append("\t\t\t\"methods\": %s".formatted(methodHashes.toJson()));
+        }
         result.append(lineSeparator());
         result.append("\t\t}");
         return result.toString();
@@ -200,19 +291,59 @@ public final class ClassFile implements Comparable<ClassFile> {
     }
 
     boolean hasChanged() {
-        return ! hash.equals(HashUtil.debugAgnosticHash(outputFolder.resolve(path)));
+        return ! hash.equals(ClassFileHashCache.debugAgnosticHash(outputFolder.resolve(path)));
+    }
+
+    /**
+     * Returns the indexes of the methods (see {@link MethodHashes}) that have been changed or removed since the class
+     * file has been analyzed. Should only be invoked if the class file {@link #hasChanged()}.
+     *
+     * @return the indexes of the changed methods or {@link Optional#empty()} if the structure of the class file has
+     *         changed or if no {@link MethodHashes} are available
+     */
+    Optional<BitSet> getChangedMethods() {
+        if (methodHashes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(methodHashes.getChangedMethods(ClassFileHashCache.methodHashes(outputFolder.resolve(path))));
+    }
+
+    /**
+     * Returns the {@link MethodProbes} of the class file. Only available for class files that have been collected from
+     * the file system (see {@link #fromFileSystem(Path, Path, Path)}).
+     *
+     * @return the {@link MethodProbes} of the class file or {@link Optional#empty()} if they are not available
+     */
+    Optional<MethodProbes> getMethodProbes() {
+        if (fullyQualifiedPath == null) {
+            return Optional.empty();
+        }
+        return Optional.of(MethodProbes.of(fullyQualifiedPath));
     }
 
     boolean classFileNotFound() {
         return false == exists(outputFolder.resolve(path));
     }
 
+    /**
+     * Returns {@code true} if the JaCoCo id is available (see {@link #getJaCoCoId()}), {@code false} otherwise.
+     *
+     * @return {@code true} if the JaCoCo id is available, {@code false} otherwise
+     */
+    boolean isJaCoCoIdAvailable() {
+        return jaCoCoId != null || fullyQualifiedPath != null;
+    }
+
+    /**
+     * Returns the id that JaCoCo uses to identify this class file in its execution data.
+     *
+     * @return the id that JaCoCo uses to identify this class file in its execution data
+     */
     long getJaCoCoId() {
-        try {
-            return CRC64.classId(Files.readAllBytes(fullyQualifiedPath));
-        } catch (IOException e) {
-            throw new RuntimeException("Unable to compute JaCoCo id for %s: %s".formatted(fullyQualifiedPath, e), e);
+        if (jaCoCoId != null) {
+            return jaCoCoId;
         }
+        return ClassFileHashCache.jaCoCoId(fullyQualifiedPath);
     }
 
 }
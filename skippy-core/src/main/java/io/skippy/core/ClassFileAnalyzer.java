@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.jacoco.core.internal.data.CRC64;
+import org.objectweb.asm.ClassReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Extracts everything Skippy needs to know about a class file from a single read from disk:
+ * <ul>
+ *     <li>the fully-qualified class name,</li>
+ *     <li>the debug-agnostic hash (see {@link HashUtil#debugAgnosticHash(Path)}),</li>
+ *     <li>the id that JaCoCo uses to identify the class in its execution data and</li>
+ *     <li>the hashes of the individual methods (see {@link MethodHashes}).</li>
+ * </ul>
+ * The class file is read into a per-thread buffer that is re-used across invocations. Note that the bytecode is still
+ * visited twice by ASM: once for the debug-agnostic hash and once for the method hashes. The two visits use different
+ * parsing options (frames are only skipped for the method hashes), and merging them would change the hashes that
+ * are stored in existing {@link TestImpactAnalysis} instances.
+ *
+ * @author Florian McKee
+ */
+final class ClassFileAnalyzer {
+
+    /**
+     * The result of the analysis of a class file.
+     *
+     * @param className the fully-qualified class name (e.g., com.example.Foo)
+     * @param hash the debug-agnostic hash
+     * @param jaCoCoId the JaCoCo id
+     * @param methodHashes the {@link MethodHashes}
+     */
+    record Result(String className, String hash, long jaCoCoId, MethodHashes methodHashes) {
+    }
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[64 * 1024]);
+
+    private ClassFileAnalyzer() {
+    }
+
+    /**
+     * Analyzes the {@code classFile}.
+     *
+     * @param classFile a class file
+     * @return the {@link Result} of the analysis
+     */
+    static Result analyze(Path classFile) {
+        try (var channel = FileChannel.open(classFile, READ)) {
+            var buffer = BUFFER.get();
+            long size = channel.size();
+            if (size > buffer.length) {
+                buffer = new byte[Integer.highestOneBit(Math.toIntExact(size)) << 1];
+                BUFFER.set(buffer);
+            }
+            var byteBuffer = ByteBuffer.wrap(buffer, 0, (int) size);
+            while (byteBuffer.hasRemaining()) {
+                if (channel.read(byteBuffer) == -1) {
+                    break;
+                }
+            }
+            int length = byteBuffer.position();
+            var classReader = new ClassReader(buffer, 0, length);
+            return new Result(
+                    classReader.getClassName().replace('/', '.'),
+                    HashUtil.debugAgnosticHash(classReader),
+                    jaCoCoId(buffer, length),
+                    MethodHashes.of(classReader)
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to analyze class file %s: %s".formatted(classFile, e), e);
+        }
+    }
+
+    /**
+     * Returns the JaCoCo id of the class file in the first {@code length} bytes of the {@code buffer}.
+     *
+     * @param buffer a buffer that contains a class file
+     * @param length the length of the class file
+     * @return the JaCoCo id of the class file
+     */
+    static long jaCoCoId(byte[] buffer, int length) {
+        return CRC64.classId(length == buffer.length ? buffer : Arrays.copyOf(buffer, length));
+    }
+
+}
@@ -18,12 +18,14 @@ package io.skippy.core;
 
 import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
 import static io.skippy.core.ClassUtil.getOutputFolder;
 import static java.lang.System.lineSeparator;
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * Container for {@link ClassFile}s that stores static information about classes in a project.
@@ -62,7 +64,10 @@ final class ClassFileContainer {
 
     private final Map<Integer, ClassFile> classFilesById = new HashMap<>();
 
-     private ClassFileContainer(Map<Integer, ClassFile> classFilesById) {
+    // built on first use: only needed to map JaCoCo execution data to class files at the end of a build
+    private volatile Map<ClassNameAndJaCoCoId, List<ClassFile>> classFilesByClassNameAndJaCoCoId;
+
+    ClassFileContainer(Map<Integer, ClassFile> classFilesById) {
         for (var entry : classFilesById.entrySet()) {
             var id = entry.getKey();
             var classFile = entry.getValue();
@@ -103,10 +108,31 @@ final class ClassFileContainer {
      * @return all {@link ClassFile}s that match the given {@code classNameAndJaCoCoId}
      */
     List<ClassFile> getClassFilesMatching(ClassNameAndJaCoCoId classNameAndJaCoCoId) {
-        return idsByClassName.getOrDefault(classNameAndJaCoCoId.className(), emptyList()).stream()
-                .map(this::getById)
-                .filter(classFile -> classFile.getJaCoCoId() == classNameAndJaCoCoId.jaCoCoId())
-                .toList();
+        return getClassFilesByClassNameAndJaCoCoId().getOrDefault(classNameAndJaCoCoId, emptyList());
+    }
+
+    private Map<ClassNameAndJaCoCoId, List<ClassFile>> getClassFilesByClassNameAndJaCoCoId() {
+        var result = classFilesByClassNameAndJaCoCoId;
+        if (result == null) {
+            synchronized (this) {
+                result = classFilesByClassNameAndJaCoCoId;
+                if (result == null) {
+                    result = new HashMap<>();
+                    for (var ids : idsByClassName.values()) {
+                        for (var id : ids) {
+                            var classFile = getById(id);
+                            if (false == classFile.isJaCoCoIdAvailable()) {
+                                continue;
+                            }
+                            var key = new ClassNameAndJaCoCoId(classFile.getClassName(), classFile.getJaCoCoId());
+                            result.computeIfAbsent(key, k -> new ArrayList<>()).add(classFile);
+                        }
+                    }
+                    classFilesByClassNameAndJaCoCoId = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -142,7 +168,7 @@ final class ClassFileContainer {
     }
 
     Optional<AnalyzedTest> getAnalyzedTestForTestClass(Class<?> clazz, List<AnalyzedTest> analyzedTests) {
-        var analyzedTestIds = analyzedTests.stream().map(AnalyzedTest::getTestClassId).toList();
+        var analyzedTestIds = analyzedTests.stream().map(AnalyzedTest::getTestClassId).collect(toSet());
         var matchingIdsByClassName = idsByClassName.getOrDefault(clazz.getName(), emptyList()).stream()
                 .filter(analyzedTestIds::contains).toList();
         if (matchingIdsByClassName.size() == 0) {
@@ -160,18 +186,27 @@ final class ClassFileContainer {
     }
 
     String toJson() {
-        StringBuilder result = new StringBuilder();
-        result.append("{" + lineSeparator());
+        var result = new StringBuilder();
+        toJson(result::append);
+        return result.toString();
+    }
+
+    /**
+     * Renders this instance as a sequence of JSON fragments whose concatenation is equal to {@link #toJson()}.
+     *
+     * @param fragments a consumer for the JSON fragments
+     */
+    void toJson(Consumer<String> fragments) {
+        fragments.accept("{" + lineSeparator());
         for (int i = 0; i < classFiles.size(); i++) {
-            result.append("\t\t\"%s\": ".formatted(i));
-            result.append(classFilesById.get(i).toJson());
+            fragments.accept("\t\t\"%s\": ".formatted(i));
+            fragments.accept(classFilesById.get(i).toJson());
             if (i < classFiles.size() - 1) {
-                result.append("," + lineSeparator());
+                fragments.accept("," + lineSeparator());
             }
         }
-        result.append(lineSeparator());
-        result.append("\t}");
-        return result.toString();
+        fragments.accept(lineSeparator());
+        fragments.accept("\t}");
     }
 
     static ClassFileContainer parse(Tokenizer tokenizer) {
@@ -179,7 +214,7 @@ final class ClassFileContainer {
             tokenizer.skip('{');
             var classFiles = new HashMap<Integer, ClassFile>();
             while (!tokenizer.peek('}')) {
-                var id = Integer.valueOf(tokenizer.next());
+                var id = tokenizer.nextInt();
                 tokenizer.skip(':');
                 classFiles.put(id, ClassFile.parse(tokenizer));
                 tokenizer.skipIfNext(',');
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.Files.exists;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Thread-safe, per-JVM cache for the class names, debug-agnostic hashes (see {@link HashUtil#debugAgnosticHash(Path)}),
+ * JaCoCo ids and {@link MethodHashes} of class files (see {@link ClassFileAnalyzer}).
+ * <br /><br />
+ * Classes like DTOs or utilities are covered by almost every test. Without the cache, they would be re-read and
+ * re-hashed for every single prediction.
+ * <br /><br />
+ * The cache assumes that class files don't change while it is in use. This holds for test JVMs. Long-lived JVMs
+ * like the Gradle daemon have to {@link #clear()} the cache whenever class files might have been recompiled (see
+ * {@link SkippyBuildApi}).
+ * <br /><br />
+ * In addition, the cache can be persisted across builds (see {@link #save(Path, Path)} and {@link #load(Path)}).
+ * A persisted entry is re-used as long as the size, the last-modified time and the file key (e.g., the inode) of the
+ * class file are unchanged. In incremental builds, this limits hashing to the class files that have been recompiled.
+ *
+ * @author Florian McKee
+ */
+final class ClassFileHashCache {
+
+    private static final int FORMAT_VERSION = 3;
+
+    // entries for files that have been modified shortly before they were hashed are not persisted: a subsequent
+    // modification within the resolution of the file system's timestamps could go unnoticed otherwise
+    private static final long RACY_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private static final Map<Path, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final Map<Path, Entry> PERSISTED_ENTRIES = new ConcurrentHashMap<>();
+
+    private record Entry(long size, long lastModified, String fileKey, String className, String hash, long jaCoCoId, MethodHashes methodHashes, boolean racy) {
+
+        boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size() &&
+                    lastModified == attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS) &&
+                    fileKey.equals(String.valueOf(attributes.fileKey()));
+        }
+
+    }
+
+    private ClassFileHashCache() {
+    }
+
+    /**
+     * Returns the debug-agnostic hash of the {@code classFile}. The hash is computed at most once per JVM (unless
+     * the cache is cleared).
+     *
+     * @param classFile a class file
+     * @return the debug-agnostic hash of the {@code classFile}
+     */
+    static String debugAgnosticHash(Path classFile) {
+        return get(classFile).hash();
+    }
+
+    /**
+     * Returns the fully-qualified class name (e.g., com.example.Foo) of the {@code classFile}.
+     *
+     * @param classFile a class file
+     * @return the fully-qualified class name of the {@code classFile}
+     */
+    static String className(Path classFile) {
+        return get(classFile).className();
+    }
+
+    /**
+     * Returns the id that JaCoCo uses to identify the {@code classFile} in its execution data. The id is computed at
+     * most once per JVM (unless the cache is cleared).
+     *
+     * @param classFile a class file
+     * @return the JaCoCo id of the {@code classFile}
+     */
+    static long jaCoCoId(Path classFile) {
+        return get(classFile).jaCoCoId();
+    }
+
+    /**
+     * Returns the {@link MethodHashes} of the {@code classFile}. They are computed at most once per JVM (unless the
+     * cache is cleared).
+     *
+     * @param classFile a class file
+     * @return the {@link MethodHashes} of the {@code classFile}
+     */
+    static MethodHashes methodHashes(Path classFile) {
+        return get(classFile).methodHashes();
+    }
+
+    /**
+     * Removes all cached hashes.
+     */
+    static void clear() {
+        ENTRIES.clear();
+        PERSISTED_ENTRIES.clear();
+    }
+
+    /**
+     * Loads the entries that have been persisted via {@link #save(Path, Path)}. Unreadable cache files are ignored.
+     *
+     * @param cacheFile the cache file
+     */
+    static void load(Path cacheFile) {
+        if (false == exists(cacheFile)) {
+            return;
+        }
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return;
+            }
+            var entries = new ConcurrentHashMap<Path, Entry>();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                var path = Path.of(in.readUTF());
+                entries.put(path, new Entry(in.readLong(), in.readLong(), in.readUTF(), in.readUTF(), in.readUTF(), in.readLong(), readMethodHashes(in), false));
+            }
+            PERSISTED_ENTRIES.putAll(entries);
+        } catch (IOException e) {
+            // the cache is an optimization: fall back to re-hashing all class files
+        }
+    }
+
+    /**
+     * Persists all entries for class files in the {@code projectDir}. The cache file is replaced atomically, so
+     * that concurrent readers never see a partially written file.
+     *
+     * @param projectDir the project's root folder
+     * @param cacheFile the cache file
+     */
+    static void save(Path projectDir, Path cacheFile) {
+        var projectFolder = projectDir.toAbsolutePath().normalize();
+        var entries = ENTRIES.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(projectFolder))
+                .filter(entry -> false == entry.getValue().racy())
+                .toList();
+        try {
+            var tmpFile = Files.createTempFile(cacheFile.toAbsolutePath().getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(entries.size());
+                for (var entry : entries) {
+                    var value = entry.getValue();
+                    out.writeUTF(entry.getKey().toString());
+                    out.writeLong(value.size());
+                    out.writeLong(value.lastModified());
+                    out.writeUTF(value.fileKey());
+                    out.writeUTF(value.className());
+                    out.writeUTF(value.hash());
+                    out.writeLong(value.jaCoCoId());
+                    writeMethodHashes(out, value.methodHashes());
+                }
+            }
+            Files.move(tmpFile, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to save class file hashes to %s: %s".formatted(cacheFile, e), e);
+        }
+    }
+
+    private static MethodHashes readMethodHashes(DataInputStream in) throws IOException {
+        var structureHash = in.readUTF();
+        int count = in.readInt();
+        var methods = new String[count];
+        var hashes = new int[count];
+        for (int i = 0; i < count; i++) {
+            methods[i] = in.readUTF();
+            hashes[i] = in.readInt();
+        }
+        return new MethodHashes(structureHash, methods, hashes);
+    }
+
+    private static void writeMethodHashes(DataOutputStream out, MethodHashes methodHashes) throws IOException {
+        out.writeUTF(methodHashes.getStructureHash());
+        out.writeInt(methodHashes.size());
+        for (int i = 0; i < methodHashes.size(); i++) {
+            out.writeUTF(methodHashes.getMethod(i));
+            out.writeInt(methodHashes.getHash(i));
+        }
+    }
+
+    private static Entry get(Path classFile) {
+        return ENTRIES.computeIfAbsent(classFile.toAbsolutePath().normalize(), ClassFileHashCache::compute);
+    }
+
+    private static Entry compute(Path classFile) {
+        try {
+            var attributes = Files.readAttributes(classFile, BasicFileAttributes.class);
+            var persistedEntry = PERSISTED_ENTRIES.get(classFile);
+            if (persistedEntry != null && persistedEntry.matches(attributes)) {
+                return persistedEntry;
+            }
+            var lastModified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+            var racy = lastModified >= TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - RACY_WINDOW_NANOS;
+            var analysis = ClassFileAnalyzer.analyze(classFile);
+            return new Entry(
+                    attributes.size(),
+                    lastModified,
+                    String.valueOf(attributes.fileKey()),
+                    analysis.className(),
+                    analysis.hash(),
+                    analysis.jaCoCoId(),
+                    analysis.methodHashes(),
+                    racy
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to hash class file %s: %s".formatted(classFile, e), e);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scans output folders for class files and hashes them on all available cores.
+ * <br /><br />
+ * The directory walk is a {@link RecursiveTask} that forks one sub-task per sub-directory. The subsequent hashing
+ * (see {@link ClassFile#fromFileSystem(Path, Path, Path)}) runs in a parallel stream. The result is independent of
+ * the degree of parallelism: the {@link ClassFile}s in each output folder are sorted, and the output folders are
+ * processed in the given order.
+ *
+ * @author Florian McKee
+ */
+public final class ClassFileScanner {
+
+    private ClassFileScanner() {
+    }
+
+    /**
+     * Collects all {@link ClassFile}s in the {@code outputFolders}.
+     *
+     * @param projectDir the project's root folder
+     * @param outputFolders the output folders (e.g., build/classes/java/main, build/classes/java/test)
+     * @return all {@link ClassFile}s in the {@code outputFolders}, sorted per output folder
+     */
+    public static List<ClassFile> scan(Path projectDir, List<File> outputFolders) {
+        var result = new ArrayList<ClassFile>();
+        for (var outputFolder : outputFolders) {
+            var classFiles = ForkJoinPool.commonPool().invoke(new DirectoryWalk(outputFolder));
+            result.addAll(classFiles.parallelStream()
+                    .map(classFile -> ClassFile.fromFileSystem(projectDir, outputFolder.toPath(), classFile.toPath()))
+                    .sorted()
+                    .toList());
+        }
+        return result;
+    }
+
+    private static final class DirectoryWalk extends RecursiveTask<List<File>> {
+
+        private final File directory;
+
+        private DirectoryWalk(File directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        protected List<File> compute() {
+            var result = new ArrayList<File>();
+            var subTasks = new ArrayList<DirectoryWalk>();
+            File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    if (file.isDirectory()) {
+                        subTasks.add(new DirectoryWalk(file));
+                    } else if (file.getName().endsWith(".class")) {
+                        result.add(file);
+                    }
+                }
+            }
+            for (var subTask : invokeAll(subTasks)) {
+                result.addAll(subTask.join());
+            }
+            return result;
+        }
+    }
+
+}
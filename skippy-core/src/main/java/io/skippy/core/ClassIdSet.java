@@ -0,0 +1,215 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable set of ids that reference {@link ClassFile}s in a {@link ClassFileContainer}.
+ * <br /><br />
+ * The ids are stored as sorted {@code int[]} without duplicates. This is much more compact than a list of boxed
+ * {@link Integer}s and allows for {@link #contains(int)} and {@link #intersects(ClassIdSet)} checks without any
+ * allocations.
+ *
+ * @author Florian McKee
+ */
+final class ClassIdSet {
+
+    static final ClassIdSet EMPTY = new ClassIdSet(new int[0]);
+
+    private final int[] ids;
+
+    private ClassIdSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Creates a new instance for the given {@code ids}.
+     *
+     * @param ids class ids in any order, duplicates are allowed (the array will not be modified)
+     * @return a new instance for the given {@code ids}
+     */
+    static ClassIdSet of(int... ids) {
+        return of(ids, ids.length);
+    }
+
+    /**
+     * Creates a new instance for the given {@code ids}.
+     *
+     * @param ids class ids in any order, duplicates are allowed
+     * @return a new instance for the given {@code ids}
+     */
+    static ClassIdSet of(Collection<Integer> ids) {
+        var result = new int[ids.size()];
+        int i = 0;
+        for (var id : ids) {
+            result[i++] = id;
+        }
+        return of(result, result.length);
+    }
+
+    private static ClassIdSet of(int[] ids, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        if (isStrictlyIncreasing(ids, length)) {
+            return new ClassIdSet(Arrays.copyOf(ids, length));
+        }
+        var sorted = Arrays.copyOf(ids, length);
+        Arrays.sort(sorted);
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return new ClassIdSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+    }
+
+    private static boolean isStrictlyIncreasing(int[] ids, int length) {
+        for (int i = 1; i < length; i++) {
+            if (ids[i - 1] >= ids[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    /**
+     * Returns the n-th smallest id in this set.
+     *
+     * @param index an index between 0 (inclusive) and {@link #size()} (exclusive)
+     * @return the n-th smallest id in this set
+     */
+    int get(int index) {
+        return ids[index];
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * Returns {@code true} if this and the {@code other} set have at least one id in common.
+     *
+     * @param other another {@link ClassIdSet}
+     * @return {@code true} if this and the {@code other} set have at least one id in common
+     */
+    boolean intersects(ClassIdSet other) {
+        int i = 0;
+        int j = 0;
+        while (i < ids.length && j < other.ids.length) {
+            if (ids[i] < other.ids[j]) {
+                i++;
+            } else if (ids[i] > other.ids[j]) {
+                j++;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applies the {@code action} to each id in ascending order.
+     *
+     * @param action the action
+     */
+    void forEach(IntConsumer action) {
+        for (var id : ids) {
+            action.accept(id);
+        }
+    }
+
+    /**
+     * Returns a new instance that contains the result of applying the {@code mapper} to each id in this set.
+     *
+     * @param mapper the mapping function
+     * @return a new instance that contains the mapped ids
+     */
+    ClassIdSet map(IntUnaryOperator mapper) {
+        var result = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            result[i] = mapper.applyAsInt(ids[i]);
+        }
+        return of(result, result.length);
+    }
+
+    IntStream stream() {
+        return Arrays.stream(ids);
+    }
+
+    /**
+     * Returns the ids as list of boxed {@link Integer}s in ascending order.
+     *
+     * @return the ids as list of boxed {@link Integer}s in ascending order
+     */
+    List<Integer> toList() {
+        return stream().boxed().toList();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClassIdSet that = (ClassIdSet) o;
+        return Arrays.equals(ids, that.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(ids);
+    }
+
+    /**
+     * Incrementally collects ids without boxing them.
+     */
+    static final class Builder {
+
+        private int[] ids = new int[16];
+        private int size = 0;
+
+        Builder add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+            return this;
+        }
+
+        ClassIdSet build() {
+            return of(ids, size);
+        }
+    }
+
+}
@@ -18,9 +18,11 @@ package io.skippy.core;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.zip.Deflater;
@@ -32,6 +34,8 @@ import static java.nio.file.Files.*;
  * Default {@link SkippyRepositoryExtension} implementation that
  * <ul>
  *     <li>stores and retrieves all data in / from the .skippy folder,</li>
+ *     <li>stores the {@link TestImpactAnalysis} in a binary format that is memory-mapped when read (the JSON
+ *     representation is stored alongside for debugging purposes),</li>
  *     <li>only retains the latest {@link TestImpactAnalysis} and </li>
  *     <li>only retains the JaCoCo execution data files that are referenced by the latest {@link TestImpactAnalysis}.</li>
  * </ul>
@@ -70,12 +74,20 @@ public final class DefaultRepositoryExtension implements SkippyRepositoryExtensi
     @Override
     public Optional<TestImpactAnalysis> findTestImpactAnalysis(String id) {
         try {
+            var binaryFile = SkippyFolder.get(projectDir).resolve(Path.of("test-impact-analysis.bin"));
+            if (exists(binaryFile)) {
+                var buffer = map(binaryFile);
+                if (BinaryFormat.readId(buffer).filter(id::equals).isPresent()) {
+                    return Optional.of(TestImpactAnalysis.parseBinary(buffer));
+                }
+            }
+
             var jsonFile = SkippyFolder.get(projectDir).resolve(Path.of("test-impact-analysis.json"));
 
             if (false == exists(jsonFile)) {
                 return Optional.empty();
             }
-            var tia = TestImpactAnalysis.parse(readString(jsonFile, StandardCharsets.UTF_8));
+            var tia = TestImpactAnalysis.parse(readAllBytes(jsonFile));
             if ( ! id.equals(tia.getId())) {
                 return Optional.empty();
             }
@@ -88,8 +100,18 @@ public final class DefaultRepositoryExtension implements SkippyRepositoryExtensi
     @Override
     public void saveTestImpactAnalysis(TestImpactAnalysis testImpactAnalysis) {
         try {
+            // write the JSON file first: it computes the id of the analysis as a by-product
             var jsonFile = SkippyFolder.get(projectDir).resolve(Path.of("test-impact-analysis.json"));
-            Files.writeString(jsonFile, testImpactAnalysis.toJson(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            try (var channel = FileChannel.open(jsonFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                testImpactAnalysis.writeJson(channel);
+            }
+            var binaryFile = SkippyFolder.get(projectDir).resolve(Path.of("test-impact-analysis.bin"));
+            var tmpFile = binaryFile.resolveSibling("test-impact-analysis.bin.tmp");
+            try (var channel = FileChannel.open(tmpFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                testImpactAnalysis.writeBinary(channel);
+            }
+            // the binary file might still be memory-mapped by findTestImpactAnalysis: it must never be truncated in place
+            Files.move(tmpFile, binaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
             deleteObsoleteExecutionDataFiles(testImpactAnalysis);
         } catch (IOException e) {
             throw new UncheckedIOException("Unable to save test impact analysis %s: %s.".formatted(testImpactAnalysis.getId(), e), e);
@@ -118,6 +140,12 @@ public final class DefaultRepositoryExtension implements SkippyRepositoryExtensi
         }
     }
 
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
     private void deleteObsoleteExecutionDataFiles(TestImpactAnalysis testImpactAnalysis) {
         var executions = testImpactAnalysis.getExecutionIds();
         try (var directoryStream  = Files.newDirectoryStream(SkippyFolder.get(projectDir), path -> path.toString().endsWith(".exec"))) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Immutable mapping from the ids of the classes covered by a test to the methods of those classes that the test has
+ * executed. The methods are stored as indexes into the {@link MethodHashes} of the covered class.
+ * <br /><br />
+ * JSON example:
+ * <pre>
+ * {"0": [1, 3], "2": [0]}
+ * </pre>
+ * Covered classes without an entry are treated as if the test had executed all of their methods.
+ *
+ * @author Florian McKee
+ */
+final class ExecutedMethods {
+
+    static final ExecutedMethods EMPTY = new ExecutedMethods(new int[0], new int[0][]);
+
+    // sorted in ascending order
+    private final int[] classIds;
+
+    // sorted method indexes for each class id
+    private final int[][] methods;
+
+    private ExecutedMethods(int[] classIds, int[][] methods) {
+        this.classIds = classIds;
+        this.methods = methods;
+    }
+
+    /**
+     * Creates a new instance for the given {@code executedMethods}.
+     *
+     * @param executedMethods mapping from class ids to the indexes of the executed methods
+     * @return a new instance for the given {@code executedMethods}
+     */
+    static ExecutedMethods of(Map<Integer, int[]> executedMethods) {
+        if (executedMethods.isEmpty()) {
+            return EMPTY;
+        }
+        var sorted = new TreeMap<>(executedMethods);
+        var classIds = new int[sorted.size()];
+        var methods = new int[sorted.size()][];
+        int i = 0;
+        for (var entry : sorted.entrySet()) {
+            classIds[i] = entry.getKey();
+            methods[i] = IntStream.of(entry.getValue()).sorted().distinct().toArray();
+            i++;
+        }
+        return new ExecutedMethods(classIds, methods);
+    }
+
+    boolean isEmpty() {
+        return classIds.length == 0;
+    }
+
+    int size() {
+        return classIds.length;
+    }
+
+    /**
+     * Returns the n-th smallest class id.
+     *
+     * @param index an index between 0 (inclusive) and {@link #size()} (exclusive)
+     * @return the n-th smallest class id
+     */
+    int getClassId(int index) {
+        return classIds[index];
+    }
+
+    /**
+     * Returns the executed methods of the class with the n-th smallest class id.
+     *
+     * @param index an index between 0 (inclusive) and {@link #size()} (exclusive)
+     * @return the indexes of the executed methods in ascending order
+     */
+    int[] getMethods(int index) {
+        return methods[index];
+    }
+
+    /**
+     * Returns the executed methods of the class with the given {@code classId}.
+     *
+     * @param classId a class id
+     * @return the indexes of the executed methods in ascending order or {@code null} if unknown
+     */
+    int[] get(int classId) {
+        var index = Arrays.binarySearch(classIds, classId);
+        return index < 0 ? null : methods[index];
+    }
+
+    /**
+     * Returns the union of this and the {@code other} instance.
+     *
+     * @param other another {@link ExecutedMethods} instance
+     * @return the union of this and the {@code other} instance
+     */
+    ExecutedMethods union(ExecutedMethods other) {
+        var result = new HashMap<Integer, int[]>();
+        for (var executedMethods : List.of(this, other)) {
+            for (int i = 0; i < executedMethods.size(); i++) {
+                var existing = result.getOrDefault(executedMethods.classIds[i], new int[0]);
+                result.put(executedMethods.classIds[i], IntStream.concat(IntStream.of(existing), IntStream.of(executedMethods.methods[i])).toArray());
+            }
+        }
+        return of(result);
+    }
+
+    /**
+     * Returns a new instance that only contains the classes that match the {@code classIdFilter}.
+     *
+     * @param classIdFilter a filter for class ids
+     * @return a new instance that only contains the classes that match the {@code classIdFilter}
+     */
+    ExecutedMethods filter(IntPredicate classIdFilter) {
+        var result = new HashMap<Integer, int[]>();
+        for (int i = 0; i < classIds.length; i++) {
+            if (classIdFilter.test(classIds[i])) {
+                result.put(classIds[i], methods[i]);
+            }
+        }
+        return of(result);
+    }
+
+    static ExecutedMethods parse(Tokenizer tokenizer) {
+        var result = new HashMap<Integer, int[]>();
+        tokenizer.skip('{');
+        while ( ! tokenizer.peek('}')) {
+            tokenizer.skipIfNext(',');
+            var classId = tokenizer.nextInt();
+            tokenizer.skip(':');
+            var methods = new ArrayList<Integer>();
+            tokenizer.skip('[');
+            while ( ! tokenizer.peek(']')) {
+                tokenizer.skipIfNext(',');
+                methods.add(tokenizer.nextInt());
+            }
+            tokenizer.skip(']');
+            result.put(classId, methods.stream().mapToInt(Integer::intValue).toArray());
+        }
+        tokenizer.skip('}');
+        return of(result);
+    }
+
+    String toJson() {
+        var result = new StringBuilder("{");
+        for (int i = 0; i < classIds.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append("\"%s\": [%s]".formatted(classIds[i], IntStream.of(methods[i]).mapToObj(Integer::toString).collect(joining(","))));
+        }
+        result.append('}');
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ExecutedMethods that = (ExecutedMethods) o;
+        return Arrays.equals(classIds, that.classIds) && Arrays.deepEquals(methods, that.methods);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(classIds) + Arrays.deepHashCode(methods);
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+
+}
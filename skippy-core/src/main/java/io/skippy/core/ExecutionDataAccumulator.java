@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.jacoco.core.data.ExecutionData;
+import org.jacoco.core.data.ExecutionDataReader;
+import org.jacoco.core.data.ExecutionDataStore;
+import org.jacoco.core.data.ExecutionDataWriter;
+import org.jacoco.core.data.SessionInfoStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Accumulates the JaCoCo execution data of a test class in memory.
+ * <br /><br />
+ * Execution data is merged into the existing probe arrays in place (a probe is hit if it has been hit in any of the
+ * merged executions). This avoids repeated serialization and de-serialization of the accumulated data whenever
+ * another chunk of execution data becomes available (e.g., after each test method or each nested test class).
+ *
+ * @author Florian McKee
+ */
+final class ExecutionDataAccumulator {
+
+    private final ExecutionDataStore executionDataStore = new ExecutionDataStore();
+    private final SessionInfoStore sessionInfoStore = new SessionInfoStore();
+
+    /**
+     * Merges the {@code jacocoExecutionData} into this accumulator.
+     *
+     * @param jacocoExecutionData JaCoCo execution data
+     */
+    synchronized void add(byte[] jacocoExecutionData) {
+        try {
+            var reader = new ExecutionDataReader(new ByteArrayInputStream(jacocoExecutionData));
+            reader.setSessionInfoVisitor(sessionInfoStore);
+            reader.setExecutionDataVisitor(executionDataStore);
+            reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to merge JaCoCo execution data: %s.".formatted(e), e);
+        }
+    }
+
+    /**
+     * Merges the execution data of the {@code other} accumulator into this accumulator.
+     *
+     * @param other another {@link ExecutionDataAccumulator}
+     */
+    synchronized void add(ExecutionDataAccumulator other) {
+        synchronized (other) {
+            for (var executionData : other.executionDataStore.getContents()) {
+                executionDataStore.put(new ExecutionData(executionData.getId(), executionData.getName(), executionData.getProbes().clone()));
+            }
+            for (var sessionInfo : other.sessionInfoStore.getInfos()) {
+                sessionInfoStore.visitSessionInfo(sessionInfo);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if no execution data has been added yet, {@code false} otherwise.
+     *
+     * @return {@code true} if no execution data has been added yet, {@code false} otherwise
+     */
+    synchronized boolean isEmpty() {
+        return executionDataStore.getContents().isEmpty() && sessionInfoStore.isEmpty();
+    }
+
+    /**
+     * Returns the accumulated execution data in JaCoCo's exec file format.
+     *
+     * @return the accumulated execution data in JaCoCo's exec file format
+     */
+    synchronized byte[] toByteArray() {
+        try {
+            var outputStream = new ByteArrayOutputStream();
+            var writer = new ExecutionDataWriter(outputStream);
+            sessionInfoStore.accept(writer);
+            executionDataStore.accept(writer);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize JaCoCo execution data: %s.".formatted(e), e);
+        }
+    }
+
+}
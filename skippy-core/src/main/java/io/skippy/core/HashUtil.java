@@ -58,6 +58,20 @@ final class HashUtil {
         return fullHash(data).substring(24, 32);
     }
 
+    /**
+     * Generates the same hash as {@link #hashWith8Digits(byte[])} as {@code int} (without the detour via a
+     * hexadecimal string).
+     *
+     * @param data the input
+     * @return the hash of the input as {@code int}
+     */
+    static int hashAsInt(byte[] data) {
+        var md = newDigest();
+        md.update(data);
+        var digest = md.digest();
+        return (digest[12] & 0xFF) << 24 | (digest[13] & 0xFF) << 16 | (digest[14] & 0xFF) << 8 | (digest[15] & 0xFF);
+    }
+
     /**
      * Generates a 8-digit hexadecimal hash for the {@code classfile} that is agnostic of debug information.
      *
@@ -75,28 +89,54 @@ final class HashUtil {
      * @return a 8-digit hexadecimal  hash of the {@code classfile} that is agnostic of debug information
      */
     static String debugAgnosticHash(Path classFile) {
-        return hashWith8Digits(getBytecodeWithoutDebugInformation(classFile));
+        try (var inputStream = newInputStream(classFile)) {
+            return debugAgnosticHash(new ClassReader(inputStream));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to get bytecode without debug information for class file %s: %s".formatted(classFile, e), e);
+        }
     }
 
-    private static String fullHash(byte[] data) {
+    /**
+     * Same as {@link #debugAgnosticHash(Path)} for class files that have already been read into memory.
+     *
+     * @param classReader a {@link ClassReader} for a class file
+     * @return a 8-digit hexadecimal  hash of the class file that is agnostic of debug information
+     */
+    static String debugAgnosticHash(ClassReader classReader) {
+        var classWriter = new ClassWriter(Opcodes.ASM9);
+        var classVisitor = new ClassVisitor(Opcodes.ASM9, classWriter) {};
+        classReader.accept(classVisitor, ClassReader.SKIP_DEBUG);
+        return hashWith8Digits(classWriter.toByteArray());
+    }
+
+    /**
+     * Returns a new {@link MessageDigest} for incremental computation of a hash that is equivalent to
+     * {@link #hashWith32Digits(byte[])} (see {@link #hashWith32Digits(MessageDigest)}).
+     *
+     * @return a new {@link MessageDigest}
+     */
+    static MessageDigest newDigest() {
         try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            md.update(data);
-            return bytesToHex(md.digest());
+            return MessageDigest.getInstance("MD5");
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("Generation of hash failed: %s".formatted(e), e);
         }
     }
 
-    private static byte[] getBytecodeWithoutDebugInformation(Path classFile) {
-        try (var inputStream = newInputStream(classFile)) {
-            var classWriter = new ClassWriter(Opcodes.ASM9);
-            var classVisitor = new ClassVisitor(Opcodes.ASM9, classWriter) {};
-            new ClassReader(inputStream).accept(classVisitor, ClassReader.SKIP_DEBUG);
-            return classWriter.toByteArray();
-        } catch (IOException e) {
-            throw new UncheckedIOException("Unable to get bytecode without debug information for class file %s: %s".formatted(classFile, e), e);
-        }
+    /**
+     * Generates a 32-digit hexadecimal hash of all data that has been fed into the {@code digest}.
+     *
+     * @param digest a {@link MessageDigest} created via {@link #newDigest()}
+     * @return a 32-digit hexadecimal hash of all data that has been fed into the {@code digest}
+     */
+    static String hashWith32Digits(MessageDigest digest) {
+        return bytesToHex(digest.digest());
+    }
+
+    private static String fullHash(byte[] data) {
+        var md = newDigest();
+        md.update(data);
+        return bytesToHex(md.digest());
     }
 
     private static String bytesToHex(byte[] bytes) {
@@ -21,14 +21,17 @@ import org.jacoco.core.data.ExecutionDataWriter;
 import org.jacoco.core.data.SessionInfoStore;
 import org.jacoco.core.tools.ExecFileLoader;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.LinkedList;
+import java.io.*;
+import java.security.DigestOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.logging.Logger;
 
+import static java.util.Collections.unmodifiableList;
+
 /**
  * JaCoCo related utility methods.
  *
@@ -72,25 +75,98 @@ class JacocoUtil {
         }
     }
 
+    /**
+     * The result of {@link #analyzeExecutionData(byte[], BiFunction)}.
+     *
+     * @param coveredClasses the classes that are covered by the execution data in ascending order
+     * @param executionId an identifier that uniquely identifies the execution data (see {@link #getExecutionId(byte[])})
+     * @param executedMethods the methods (name + descriptor) that have been executed in the covered classes
+     */
+    record ExecutionDataAnalysis(List<ClassNameAndJaCoCoId> coveredClasses, String executionId, Map<ClassNameAndJaCoCoId, List<String>> executedMethods) {
+    }
+
+    /**
+     * Same as {@link #analyzeExecutionData(byte[], BiFunction)} without the detection of executed methods.
+     *
+     * @param jacocoExecutionData JaCoCo execution data
+     * @return the {@link ExecutionDataAnalysis} for the {@code jacocoExecutionData}
+     */
+    static ExecutionDataAnalysis analyzeExecutionData(byte[] jacocoExecutionData) {
+        return analyzeExecutionData(jacocoExecutionData, (coveredClass, probes) -> null);
+    }
+
+    /**
+     * Extracts the covered classes and the execution id from JaCoCo execution data in a single pass.
+     * <br /><br />
+     * Classes without any hits are ignored. The execution id is computed by streaming the execution data blocks into
+     * a digest instead of writing them into an intermediate buffer.
+     * <br /><br />
+     * The probe array of each covered class is passed to the {@code executedMethods} function (see
+     * {@link MethodProbes}). The probe arrays are not retained: This keeps the memory footprint of the analysis
+     * proportional to the number of executed methods.
+     *
+     * @param jacocoExecutionData JaCoCo execution data
+     * @param executedMethods maps the probe array of a covered class to the executed methods of the class (may return
+     *                        {@code null} if the executed methods can't be determined)
+     * @return the {@link ExecutionDataAnalysis} for the {@code jacocoExecutionData}
+     */
+    static ExecutionDataAnalysis analyzeExecutionData(byte[] jacocoExecutionData, BiFunction<ClassNameAndJaCoCoId, boolean[], List<String>> executedMethods) {
+        try {
+            var coveredClasses = new ArrayList<ClassNameAndJaCoCoId>();
+            var executedMethodsByClass = new HashMap<ClassNameAndJaCoCoId, List<String>>();
+            var digest = HashUtil.newDigest();
+            var writer = new ExecutionDataWriter(new BufferedOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest)));
+            var reader = new ExecutionDataReader(new ByteArrayInputStream(jacocoExecutionData));
+            reader.setSessionInfoVisitor(new SessionInfoStore());
+            reader.setExecutionDataVisitor(executionData -> {
+                if (false == executionData.hasHits()) {
+                    return;
+                }
+                var coveredClass = new ClassNameAndJaCoCoId(
+                    executionData.getName().replace("/", ".").trim(),
+                    executionData.getId()
+                );
+                coveredClasses.add(coveredClass);
+                var methods = executedMethods.apply(coveredClass, executionData.getProbes());
+                if (methods != null) {
+                    executedMethodsByClass.put(coveredClass, methods);
+                }
+                writer.visitClassExecution(executionData);
+            });
+            reader.read();
+            writer.flush();
+            coveredClasses.sort(null);
+            return new ExecutionDataAnalysis(unmodifiableList(coveredClasses), HashUtil.hashWith32Digits(digest), executedMethodsByClass);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to analyze JaCoCo execution data: %s.".formatted(e), e);
+        }
+    }
+
     /**
      * Extracts the names of the classes from JaCoCo execution data.
      *
      * @param jacocoExecutionData JaCoCo execution data
+     * <br /><br />
+     * Unlike {@link #analyzeExecutionData(byte[], BiFunction)}, this method doesn't compute the execution id. This makes it cheap
+     * enough to be invoked for every test method.
+     *
      * @return the names of the classes that are covered by the JaCoCo execution data
      */
     static List<ClassNameAndJaCoCoId> getCoveredClasses(byte[] jacocoExecutionData) {
         try {
-            var coveredClasses = new LinkedList<ClassNameAndJaCoCoId>();
+            var coveredClasses = new ArrayList<ClassNameAndJaCoCoId>();
             var reader = new ExecutionDataReader(new ByteArrayInputStream(jacocoExecutionData));
             reader.setSessionInfoVisitor(new SessionInfoStore());
-            reader.setExecutionDataVisitor(visitor -> coveredClasses.add(new ClassNameAndJaCoCoId(
-                visitor.getName().replace("/", ".").trim(),
-                visitor.getId()
-            )));
+            reader.setExecutionDataVisitor(executionData -> {
+                if (executionData.hasHits()) {
+                    coveredClasses.add(new ClassNameAndJaCoCoId(executionData.getName().replace("/", ".").trim(), executionData.getId()));
+                }
+            });
             reader.read();
-            return coveredClasses.stream().sorted().toList();
+            coveredClasses.sort(null);
+            return unmodifiableList(coveredClasses);
         } catch (IOException e) {
-            throw new UncheckedIOException("Unable to compute covered classes for JaCoCo execution data: %s.".formatted(e), e);
+            throw new UncheckedIOException("Unable to analyze JaCoCo execution data: %s.".formatted(e), e);
         }
     }
 
@@ -103,17 +179,7 @@ class JacocoUtil {
      * @return an identifier that uniquely identifies the execution data (ignoring the session info data)
      */
     static String getExecutionId(byte[] jacocoExecutionData)  {
-        try {
-            var byteArrayOutputStream = new ByteArrayOutputStream();
-            var writer = new ExecutionDataWriter(byteArrayOutputStream);
-            var reader = new ExecutionDataReader(new ByteArrayInputStream(jacocoExecutionData));
-            reader.setSessionInfoVisitor(new SessionInfoStore());
-            reader.setExecutionDataVisitor(executionData -> writer.visitClassExecution(executionData));
-            reader.read();
-            return HashUtil.hashWith32Digits(byteArrayOutputStream.toByteArray());
-        } catch (IOException e) {
-            throw new UncheckedIOException("Unable to compute execution id from JaCoCo execution data: %s.".formatted(e), e);
-        }
+        return analyzeExecutionData(jacocoExecutionData).executionId();
     }
 
     static byte[] mergeExecutionData(List<byte[]> executionDataList) {
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Write-behind writer for Skippy's log files (e.g., predictions.log).
+ * <br /><br />
+ * {@link #append(Path, String)} only enqueues the text. Pending text is written synchronously when {@link #flush()} is
+ * invoked. Skippy does this at fixed points (e.g., after each test class and when all tests have been executed) since
+ * a JVM that is killed or halted never runs shutdown hooks. In addition, a single background thread per JVM writes
+ * pending text in batches (one append per file and batch) every {@value #FLUSH_INTERVAL_MILLIS}ms. This is merely an
+ * optimization that keeps the amount of text that is written by the fixed points small.
+ *
+ * @author Florian McKee
+ */
+final class LogWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(LogWriter.class.getName());
+
+    private static final long FLUSH_INTERVAL_MILLIS = 100;
+
+    private record Entry(Path file, String text) {
+    }
+
+    private static final ConcurrentLinkedQueue<Entry> PENDING = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean STARTED = new AtomicBoolean(false);
+    private static final Object WRITE_LOCK = new Object();
+
+    private LogWriter() {
+    }
+
+    /**
+     * Appends the {@code text} to the {@code file} asynchronously.
+     *
+     * @param file a log file
+     * @param text the text to append (including line separators)
+     */
+    static void append(Path file, String text) {
+        PENDING.add(new Entry(file, text));
+        if (STARTED.compareAndSet(false, true)) {
+            var executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "skippy-log-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(LogWriter::flushQuietly, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all text that has been passed to {@link #append(Path, String)} before the invocation of this method.
+     */
+    static void flush() {
+        synchronized (WRITE_LOCK) {
+            var batch = new LinkedHashMap<Path, StringBuilder>();
+            Entry entry;
+            while ((entry = PENDING.poll()) != null) {
+                batch.computeIfAbsent(entry.file(), file -> new StringBuilder()).append(entry.text());
+            }
+            var errors = new ArrayList<IOException>();
+            for (var file : batch.entrySet()) {
+                try {
+                    Files.writeString(file.getKey(), file.getValue(), StandardCharsets.UTF_8, CREATE, APPEND);
+                } catch (IOException e) {
+                    errors.add(e);
+                }
+            }
+            if (false == errors.isEmpty()) {
+                throw new RuntimeException("Unable to write log file(s): %s.".formatted(errors), errors.get(0));
+            }
+        }
+    }
+
+    private static void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.severe(e.getMessage());
+        }
+    }
+
+}
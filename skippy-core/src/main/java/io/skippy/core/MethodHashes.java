@@ -0,0 +1,220 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+
+/**
+ * Debug-agnostic hashes of the individual methods of a class file and a hash of its structure.
+ * <br /><br />
+ * The structure hash covers everything that is not part of a method body: the class header, annotations, fields,
+ * method signatures (including the addition and removal of methods) and the static initializer. The method hashes
+ * cover the bodies of all other methods. Methods are identified by their name and descriptor (e.g.,
+ * {@code padLeft(Ljava/lang/String;I)Ljava/lang/String;}).
+ * <br /><br />
+ * Together with the methods a test has executed (see {@link ExecutedMethods}), this allows Skippy to ignore changes
+ * in methods a test never executed.
+ *
+ * @author Florian McKee
+ */
+final class MethodHashes {
+
+    private static final String STATIC_INITIALIZER = "<clinit>";
+
+    private final String structureHash;
+
+    // sorted in ascending order
+    private final String[] methods;
+    private final int[] hashes;
+
+    /**
+     * C'tor.
+     *
+     * @param structureHash the hash of the class file's structure
+     * @param methods the methods (name + descriptor) in ascending order
+     * @param hashes the hashes of the {@code methods}
+     */
+    MethodHashes(String structureHash, String[] methods, int[] hashes) {
+        this.structureHash = structureHash;
+        this.methods = methods;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Computes the {@link MethodHashes} for the class file read by the {@code classReader}.
+     *
+     * @param classReader a {@link ClassReader} for a class file
+     * @return the {@link MethodHashes} for the class file
+     */
+    static MethodHashes of(ClassReader classReader) {
+        var classNode = new ClassNode();
+        classReader.accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        var methodNodes = classNode.methods.stream()
+                .filter(methodNode -> false == STATIC_INITIALIZER.equals(methodNode.name))
+                .sorted(Comparator.comparing(MethodHashes::key))
+                .toList();
+        var methods = new String[methodNodes.size()];
+        var hashes = new int[methodNodes.size()];
+        for (int i = 0; i < methodNodes.size(); i++) {
+            var methodNode = methodNodes.get(i);
+            methods[i] = key(methodNode);
+            hashes[i] = hash(methodNode);
+            removeBody(methodNode);
+        }
+        var classWriter = new ClassWriter(0);
+        classNode.accept(classWriter);
+        return new MethodHashes(HashUtil.hashWith8Digits(classWriter.toByteArray()), methods, hashes);
+    }
+
+    private static String key(MethodNode methodNode) {
+        return methodNode.name + methodNode.desc;
+    }
+
+    private static int hash(MethodNode methodNode) {
+        var classWriter = new ClassWriter(0);
+        classWriter.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "Method", null, "java/lang/Object", null);
+        methodNode.accept(classWriter);
+        classWriter.visitEnd();
+        return HashUtil.hashAsInt(classWriter.toByteArray());
+    }
+
+    private static void removeBody(MethodNode methodNode) {
+        methodNode.instructions = new InsnList();
+        methodNode.tryCatchBlocks.clear();
+        methodNode.maxStack = 0;
+        methodNode.maxLocals = 0;
+    }
+
+    /**
+     * Returns the hash of the class file's structure.
+     *
+     * @return the hash of the class file's structure
+     */
+    String getStructureHash() {
+        return structureHash;
+    }
+
+    int size() {
+        return methods.length;
+    }
+
+    /**
+     * Returns the n-th method (name + descriptor) in ascending order.
+     *
+     * @param index an index between 0 (inclusive) and {@link #size()} (exclusive)
+     * @return the n-th method in ascending order
+     */
+    String getMethod(int index) {
+        return methods[index];
+    }
+
+    /**
+     * Returns the hash of the n-th method.
+     *
+     * @param index an index between 0 (inclusive) and {@link #size()} (exclusive)
+     * @return the hash of the n-th method
+     */
+    int getHash(int index) {
+        return hashes[index];
+    }
+
+    /**
+     * Returns the index of the {@code method}.
+     *
+     * @param method a method (name + descriptor)
+     * @return the index of the {@code method} or a negative value if this instance doesn't contain the method
+     */
+    int indexOf(String method) {
+        return Arrays.binarySearch(methods, method);
+    }
+
+    /**
+     * Compares this instance (the state of a class file at the time it has been analyzed) with the {@code current}
+     * state of the class file.
+     *
+     * @param current the current {@link MethodHashes} of the class file
+     * @return the indexes of the methods in this instance that have been changed or removed, or {@code null} if the
+     *         structure of the class file has changed
+     */
+    BitSet getChangedMethods(MethodHashes current) {
+        if (false == structureHash.equals(current.structureHash)) {
+            return null;
+        }
+        var result = new BitSet(methods.length);
+        for (int i = 0; i < methods.length; i++) {
+            var index = current.indexOf(methods[i]);
+            if (index < 0 || current.hashes[index] != hashes[i]) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Renders the method hashes as JSON object (e.g., <code>{"&lt;init&gt;()V": "1A2B3C4D"}</code>). The structure
+     * hash is not part of the JSON.
+     *
+     * @return the method hashes as JSON object
+     */
+    String toJson() {
+        var result = new StringBuilder("{");
+        for (int i = 0; i < methods.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append("\"%s\": \"%08X\"".formatted(methods[i], hashes[i]));
+        }
+        result.append('}');
+        return result.toString();
+    }
+
+    /**
+     * Parses the JSON representation of the method hashes (see {@link #toJson()}). The structure hash has to be
+     * supplied separately (see {@link #withStructureHash(String)}).
+     *
+     * @param tokenizer a {@link Tokenizer}
+     * @return the parsed {@link MethodHashes}
+     */
+    static MethodHashes parse(Tokenizer tokenizer) {
+        var methods = new ArrayList<String>();
+        var hashes = new ArrayList<Integer>();
+        tokenizer.skip('{');
+        while ( ! tokenizer.peek('}')) {
+            tokenizer.skipIfNext(',');
+            methods.add(tokenizer.next());
+            tokenizer.skip(':');
+            hashes.add(Integer.parseUnsignedInt(tokenizer.next(), 16));
+        }
+        tokenizer.skip('}');
+        return new MethodHashes(null, methods.toArray(new String[0]), hashes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    MethodHashes withStructureHash(String structureHash) {
+        return new MethodHashes(structureHash, methods, hashes);
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.jacoco.core.internal.flow.ClassProbesAdapter;
+import org.jacoco.core.internal.flow.ClassProbesVisitor;
+import org.jacoco.core.internal.flow.IFrame;
+import org.jacoco.core.internal.flow.LabelInfo;
+import org.jacoco.core.internal.flow.MethodProbesVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Label;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps the probes that JaCoCo inserts into a class file to the methods of the class file.
+ * <br /><br />
+ * JaCoCo assigns probe ids method by method in the order of the methods in the class file. Hence, the probes of each
+ * method form a contiguous range. This allows Skippy to determine the methods a test has executed from the probe
+ * array in the test's execution data (see {@link #getExecutedMethods(boolean[])}).
+ * <br /><br />
+ * The static initializer is ignored: It is part of the structure of a class (see {@link MethodHashes}).
+ *
+ * @author Florian McKee
+ */
+final class MethodProbes {
+
+    private static final String STATIC_INITIALIZER = "<clinit>";
+
+    private final List<String> methods;
+    private final int[] firstProbes;
+    private final int[] lastProbes;
+    private final int probeCount;
+
+    private MethodProbes(List<String> methods, int[] firstProbes, int[] lastProbes, int probeCount) {
+        this.methods = methods;
+        this.firstProbes = firstProbes;
+        this.lastProbes = lastProbes;
+        this.probeCount = probeCount;
+    }
+
+    /**
+     * Determines the probe ranges of the methods in the {@code classFile}.
+     *
+     * @param classFile a class file
+     * @return the {@link MethodProbes} for the {@code classFile}
+     */
+    static MethodProbes of(Path classFile) {
+        try {
+            return of(new ClassReader(Files.readAllBytes(classFile)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to determine probes of class file %s: %s".formatted(classFile, e), e);
+        }
+    }
+
+    /**
+     * Same as {@link #of(Path)} for class files that have already been read into memory.
+     *
+     * @param classReader a {@link ClassReader} for a class file
+     * @return the {@link MethodProbes} for the class file
+     */
+    static MethodProbes of(ClassReader classReader) {
+        var visitor = new ProbeRangeVisitor();
+        classReader.accept(new ClassProbesAdapter(visitor, false), 0);
+        var size = visitor.methods.size();
+        var firstProbes = new int[size];
+        var lastProbes = new int[size];
+        for (int i = 0; i < size; i++) {
+            firstProbes[i] = visitor.probeRanges.get(i).first;
+            lastProbes[i] = visitor.probeRanges.get(i).last;
+        }
+        return new MethodProbes(visitor.methods, firstProbes, lastProbes, visitor.probeCount);
+    }
+
+    /**
+     * Returns the methods (name + descriptor) that have been executed according to JaCoCo's {@code probes}.
+     *
+     * @param probes the probe array of the class in JaCoCo's execution data
+     * @return the methods that have been executed in class-file order or {@code null} if the {@code probes} don't
+     *         match the class file
+     */
+    List<String> getExecutedMethods(boolean[] probes) {
+        if (probes.length != probeCount) {
+            return null;
+        }
+        var result = new ArrayList<String>();
+        for (int i = 0; i < methods.size(); i++) {
+            for (int probe = firstProbes[i]; probe <= lastProbes[i]; probe++) {
+                if (probes[probe]) {
+                    result.add(methods.get(i));
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static final class ProbeRange {
+
+        private int first = Integer.MAX_VALUE;
+        private int last = -1;
+
+        void add(int probeId) {
+            if (probeId == LabelInfo.NO_PROBE) {
+                return;
+            }
+            first = Math.min(first, probeId);
+            last = Math.max(last, probeId);
+        }
+
+    }
+
+    private static final class ProbeRangeVisitor extends ClassProbesVisitor {
+
+        private final List<String> methods = new ArrayList<>();
+        private final List<ProbeRange> probeRanges = new ArrayList<>();
+        private int probeCount;
+
+        @Override
+        public MethodProbesVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+            var probeRange = new ProbeRange();
+            if (false == STATIC_INITIALIZER.equals(name)) {
+                methods.add(name + desc);
+                probeRanges.add(probeRange);
+            }
+            return new MethodProbesVisitor() {
+
+                @Override
+                public void visitProbe(int probeId) {
+                    probeRange.add(probeId);
+                }
+
+                @Override
+                public void visitJumpInsnWithProbe(int opcode, Label label, int probeId, IFrame frame) {
+                    probeRange.add(probeId);
+                }
+
+                @Override
+                public void visitInsnWithProbe(int opcode, int probeId) {
+                    probeRange.add(probeId);
+                }
+
+                @Override
+                public void visitTableSwitchInsnWithProbes(int min, int max, Label dflt, Label[] labels, IFrame frame) {
+                    addSwitchProbes(dflt, labels);
+                }
+
+                @Override
+                public void visitLookupSwitchInsnWithProbes(Label dflt, int[] keys, Label[] labels, IFrame frame) {
+                    addSwitchProbes(dflt, labels);
+                }
+
+                private void addSwitchProbes(Label dflt, Label[] labels) {
+                    probeRange.add(LabelInfo.getProbeId(dflt));
+                    for (var label : labels) {
+                        probeRange.add(LabelInfo.getProbeId(label));
+                    }
+                }
+
+            };
+        }
+
+        @Override
+        public void visitTotalProbeCount(int count) {
+            probeCount = count;
+        }
+
+    }
+
+}
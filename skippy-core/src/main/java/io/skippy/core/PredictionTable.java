@@ -0,0 +1,263 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Skip-or-execute predictions for all tests in a {@link TestImpactAnalysis} that have been computed once by the build
+ * (see {@link SkippyBuildApi#predict()}) for consumption by all test JVMs. The table is stored in the build
+ * directory: It is only valid for the current build.
+ * <br /><br />
+ * Without the table, each forked test JVM would have to load the {@link TestImpactAnalysis} and hash the class files
+ * of the tests it executes and of all classes they cover.
+ * <br /><br />
+ * Layout (all numbers are big-endian, strings are length-prefixed UTF-8):
+ * <pre>
+ * header           magic (int), version (int), id of the {@link TestImpactAnalysis} (string)
+ * predictions      count (int), one record per test:
+ *                  class name (string), output folder (string), {@link Prediction} (byte),
+ *                  {@link Reason.Category} (byte), details of the reason or empty string (string),
+ *                  duration of the last execution in milliseconds or -1 (long)
+ * </pre>
+ *
+ * @author Florian McKee
+ */
+final class PredictionTable {
+
+    // "SKPT"
+    private static final int MAGIC = 0x534B5054;
+    private static final int VERSION = 2;
+    private static final long NO_DURATION = -1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Prediction[] PREDICTIONS = Prediction.values();
+    private static final Reason.Category[] CATEGORIES = Reason.Category.values();
+
+    /**
+     * A prediction for the test identified by the {@code className} and {@code outputFolder}.
+     *
+     * @param className the test's class name (e.g., com.example.FooTest)
+     * @param outputFolder the test's output folder relative to the project folder (e.g., build/classes/java/test)
+     * @param predictionWithReason the prediction
+     * @param duration the duration of the test's last execution in milliseconds (if it has been recorded)
+     */
+    record Entry(String className, Path outputFolder, PredictionWithReason predictionWithReason, Optional<Long> duration) {
+    }
+
+    private final String testImpactAnalysisId;
+    private final Map<String, List<Entry>> entriesByClassName;
+
+    private PredictionTable(String testImpactAnalysisId, Map<String, List<Entry>> entriesByClassName) {
+        this.testImpactAnalysisId = testImpactAnalysisId;
+        this.entriesByClassName = entriesByClassName;
+    }
+
+    /**
+     * Creates a new instance from the result of {@link TestImpactAnalysis#predictAll(SkippyConfiguration, SkippyRepository)}.
+     *
+     * @param testImpactAnalysisId the id of the {@link TestImpactAnalysis} the predictions have been made for
+     * @param predictions the predictions keyed by the test's {@link ClassFile}
+     * @return a new instance
+     */
+    static PredictionTable from(String testImpactAnalysisId, Map<ClassFile, PredictionWithReason> predictions) {
+        return from(testImpactAnalysisId, predictions, emptyList());
+    }
+
+    /**
+     * Creates a new instance from the result of {@link TestImpactAnalysis#predictAll(SkippyConfiguration, SkippyRepository)}
+     * and the durations of the tests' last executions.
+     *
+     * @param testImpactAnalysisId the id of the {@link TestImpactAnalysis} the predictions have been made for
+     * @param predictions the predictions keyed by the test's {@link ClassFile}
+     * @param testDurations the {@link TestDuration}s that have been recorded by previous builds
+     * @return a new instance
+     */
+    static PredictionTable from(String testImpactAnalysisId, Map<ClassFile, PredictionWithReason> predictions, List<TestDuration> testDurations) {
+        var durations = new HashMap<Map.Entry<String, Path>, Long>();
+        for (var testDuration : testDurations) {
+            durations.put(Map.entry(testDuration.className(), testDuration.outputFolder()), testDuration.durationMillis());
+        }
+        var entriesByClassName = new HashMap<String, List<Entry>>();
+        for (var prediction : predictions.entrySet()) {
+            var testClass = prediction.getKey();
+            var duration = Optional.ofNullable(durations.get(Map.entry(testClass.getClassName(), testClass.getOutputFolder())));
+            entriesByClassName.computeIfAbsent(testClass.getClassName(), className -> new ArrayList<>(1))
+                    .add(new Entry(testClass.getClassName(), testClass.getOutputFolder(), prediction.getValue(), duration));
+        }
+        return new PredictionTable(testImpactAnalysisId, entriesByClassName);
+    }
+
+    /**
+     * Returns the id of the {@link TestImpactAnalysis} the predictions have been made for.
+     *
+     * @return the id of the {@link TestImpactAnalysis} the predictions have been made for
+     */
+    String getTestImpactAnalysisId() {
+        return testImpactAnalysisId;
+    }
+
+    int size() {
+        return entriesByClassName.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Returns all predictions in this table sorted by class name.
+     *
+     * @return all predictions in this table sorted by class name
+     */
+    List<Entry> entries() {
+        return entriesByClassName.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .flatMap(entries -> entries.getValue().stream())
+                .toList();
+    }
+
+    /**
+     * Returns the prediction for the test identified by the {@code className} and {@code outputFolder}.
+     * <br /><br />
+     * The {@code outputFolder} is only used if there are multiple tests with the same class name (e.g., in different
+     * output folders). This mirrors {@link TestImpactAnalysis#predict(Class, SkippyConfiguration, SkippyRepository)}.
+     *
+     * @param className the test's class name (e.g., com.example.FooTest)
+     * @param outputFolder the test's output folder relative to the project folder (e.g., build/classes/java/test)
+     * @return the prediction for the test or an empty {@link Optional} if the table doesn't contain the test
+     */
+    Optional<PredictionWithReason> get(String className, Path outputFolder) {
+        return find(className, outputFolder).map(Entry::predictionWithReason);
+    }
+
+    /**
+     * Returns the duration of the last execution of the test identified by the {@code className} and
+     * {@code outputFolder} (see {@link #get(String, Path)}).
+     *
+     * @param className the test's class name (e.g., com.example.FooTest)
+     * @param outputFolder the test's output folder relative to the project folder (e.g., build/classes/java/test)
+     * @return the duration in milliseconds or an empty {@link Optional} if it hasn't been recorded
+     */
+    Optional<Long> getDuration(String className, Path outputFolder) {
+        return find(className, outputFolder).flatMap(Entry::duration);
+    }
+
+    private Optional<Entry> find(String className, Path outputFolder) {
+        var entries = entriesByClassName.getOrDefault(className, List.of());
+        if (entries.size() == 1) {
+            return Optional.of(entries.get(0));
+        }
+        for (var entry : entries) {
+            if (entry.outputFolder().equals(outputFolder)) {
+                return Optional.of(entry);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the binary representation of this table to the {@code channel}.
+     *
+     * @param channel the target channel (will not be closed)
+     * @throws IOException if an I/O error occurs
+     */
+    void write(WritableByteChannel channel) throws IOException {
+        var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeString(out, testImpactAnalysisId);
+        out.writeInt(size());
+        for (var entry : entries()) {
+            var predictionWithReason = entry.predictionWithReason();
+            writeString(out, entry.className());
+            writeString(out, entry.outputFolder().toString());
+            out.writeByte(predictionWithReason.prediction().ordinal());
+            out.writeByte(predictionWithReason.reason().category().ordinal());
+            writeString(out, predictionWithReason.reason().details().orElse(""));
+            out.writeLong(entry.duration().orElse(NO_DURATION));
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads the id of the {@link TestImpactAnalysis} from the {@code buffer} without decoding the predictions.
+     *
+     * @param buffer the binary representation of a table (typically a {@link java.nio.MappedByteBuffer})
+     * @return the id or an empty {@link Optional} if the {@code buffer} doesn't contain a table in the current format
+     */
+    static Optional<String> readTestImpactAnalysisId(ByteBuffer buffer) {
+        var input = buffer.duplicate();
+        if (input.remaining() < 12 || input.getInt() != MAGIC || input.getInt() != VERSION) {
+            return Optional.empty();
+        }
+        return Optional.of(readString(input));
+    }
+
+    /**
+     * Parses the binary representation of a table.
+     *
+     * @param buffer the binary representation of a table (typically a {@link java.nio.MappedByteBuffer})
+     * @return the parsed table
+     */
+    static PredictionTable parse(ByteBuffer buffer) {
+        var input = buffer.duplicate();
+        if (input.getInt() != MAGIC) {
+            throw new IllegalStateException("Invalid prediction table: magic number mismatch.");
+        }
+        var version = input.getInt();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported prediction table version %s (expected %s).".formatted(version, VERSION));
+        }
+        var testImpactAnalysisId = readString(input);
+        var count = input.getInt();
+        var entriesByClassName = new HashMap<String, List<Entry>>(count * 4 / 3 + 1);
+        for (int i = 0; i < count; i++) {
+            var className = readString(input);
+            var outputFolder = Path.of(readString(input));
+            var prediction = PREDICTIONS[input.get()];
+            var category = CATEGORIES[input.get()];
+            var details = readString(input);
+            var durationMillis = input.getLong();
+            var duration = durationMillis == NO_DURATION ? Optional.<Long>empty() : Optional.of(durationMillis);
+            var reason = new Reason(category, details.isEmpty() ? Optional.empty() : Optional.of(details));
+            entriesByClassName.computeIfAbsent(className, key -> new ArrayList<>(1))
+                    .add(new Entry(className, outputFolder, new PredictionWithReason(prediction, reason), duration));
+        }
+        return new PredictionTable(testImpactAnalysisId, entriesByClassName);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer input) {
+        var length = input.getInt();
+        var bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -16,7 +16,16 @@
 
 package io.skippy.core;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyList;
 
 /**
  * API that is used by Skippy's Gradle and Maven plugins to remove the Skippy folder and to inform Skippy about events
@@ -60,21 +69,154 @@ public final class SkippyBuildApi {
      * Informs Skippy that a build has started.
      */
     public void buildStarted() {
+        ClassFileHashCache.clear();
         skippyRepository.deleteLogFiles();
         skippyRepository.deleteTmpFolder();
+        skippyRepository.deletePredictionTable();
         skippyRepository.saveConfiguration(skippyConfiguration);
     }
 
+    /**
+     * Computes the skip-or-execute predictions for all tests in the latest {@link TestImpactAnalysis} and stores them
+     * in a {@link PredictionTable}. This allows the test JVMs to look up predictions without loading the
+     * {@link TestImpactAnalysis} and hashing class files.
+     * <br /><br />
+     * Must be invoked after the compilation of the tests and before their execution.
+     */
+    public void predict() {
+        try {
+            skippyRepository.deletePredictionTable();
+            skippyRepository.loadClassFileHashes();
+            var testImpactAnalysis = skippyRepository.readLatestTestImpactAnalysis();
+            if (testImpactAnalysis == TestImpactAnalysis.NOT_FOUND) {
+                return;
+            }
+            var predictions = testImpactAnalysis.predictAll(skippyConfiguration, skippyRepository);
+            skippyRepository.savePredictionTable(PredictionTable.from(testImpactAnalysis.getId(), predictions, skippyRepository.readTestDurations()));
+        } finally {
+            ClassFileHashCache.clear();
+        }
+    }
+
+    /**
+     * Returns the tests that don't need to be executed according to the {@link PredictionTable} (see
+     * {@link #predict()}). This allows the build to exclude them before the test JVMs are forked. The predictions
+     * for the excluded tests are written to the predictions log as if the tests had been skipped in the test JVM.
+     * <br /><br />
+     * Only top-level test classes are returned: Nested tests are executed as part of their enclosing class. Hence, a
+     * top-level class is only excluded if its nested classes (e.g., com.example.FooTest$Nested) can be skipped as well.
+     * Tests are never excluded if the {@link PredictionModifier} can't be applied to them.
+     *
+     * @param outputFolders the output folders of the tests relative to the project folder (e.g., build/classes/java/test)
+     * @param testClasspath the classpath of the tests, used to apply the {@link PredictionModifier}
+     * @return the class names of the tests that don't need to be executed (e.g., com.example.FooTest)
+     */
+    public List<String> excludeSkippedTests(List<Path> outputFolders, List<Path> testClasspath) {
+        Optional<PredictionTable> predictionTable;
+        try {
+            predictionTable = skippyRepository.readPredictionTable();
+        } catch (UncheckedIOException e) {
+            // the tests will be executed and the predictions will be made in the test JVMs
+            skippyRepository.log("Unable to read prediction table: %s".formatted(e));
+            return emptyList();
+        }
+        if (predictionTable.isEmpty()) {
+            return emptyList();
+        }
+        var entriesByClassName = new LinkedHashMap<String, List<PredictionTable.Entry>>();
+        for (var entry : predictionTable.get().entries()) {
+            if (false == outputFolders.contains(entry.outputFolder())) {
+                continue;
+            }
+            entriesByClassName.computeIfAbsent(topLevelClassName(entry.className()), className -> new ArrayList<>(1)).add(entry);
+        }
+        var result = new ArrayList<String>();
+        try (var classLoader = new URLClassLoader(toUrls(testClasspath), SkippyBuildApi.class.getClassLoader())) {
+            var predictionModifier = skippyConfiguration.predictionModifier(classLoader);
+            for (var entries : entriesByClassName.entrySet()) {
+                var className = entries.getKey();
+                if (entries.getValue().stream().noneMatch(entry -> entry.className().equals(className))) {
+                    continue;
+                }
+                if (entries.getValue().stream().anyMatch(entry -> entry.predictionWithReason().prediction() != Prediction.SKIP)) {
+                    continue;
+                }
+                var modifiedPredictions = applyPredictionModifier(predictionModifier, classLoader, entries.getValue());
+                if (modifiedPredictions.isEmpty()) {
+                    continue;
+                }
+                for (int i = 0; i < entries.getValue().size(); i++) {
+                    var entry = entries.getValue().get(i);
+                    skippyRepository.logPrediction(entry.outputFolder(), entry.className(), modifiedPredictions.get().get(i));
+                }
+                result.add(className);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // the tests will be executed and the predictions will be made in the test JVMs
+            skippyRepository.log("Unable to exclude skipped tests: %s".formatted(e));
+            return emptyList();
+        } finally {
+            LogWriter.flush();
+        }
+        return result;
+    }
+
+    private static String topLevelClassName(String className) {
+        var index = className.indexOf('$');
+        return index == -1 ? className : className.substring(0, index);
+    }
+
+    private static Optional<List<PredictionWithReason>> applyPredictionModifier(PredictionModifier predictionModifier, ClassLoader classLoader, List<PredictionTable.Entry> entries) {
+        try {
+            var result = new ArrayList<PredictionWithReason>();
+            for (var entry : entries) {
+                var testClass = Class.forName(entry.className(), false, classLoader);
+                var modifiedPrediction = predictionModifier.passThruOrModify(testClass, entry.predictionWithReason());
+                if (modifiedPrediction.prediction() != Prediction.SKIP) {
+                    return Optional.empty();
+                }
+                result.add(modifiedPrediction);
+            }
+            return Optional.of(result);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    private static URL[] toUrls(List<Path> classpath) {
+        var result = new URL[classpath.size()];
+        for (int i = 0; i < classpath.size(); i++) {
+            try {
+                result[i] = classpath.get(i).toUri().toURL();
+            } catch (MalformedURLException e) {
+                throw new UncheckedIOException("Invalid classpath entry %s: %s.".formatted(classpath.get(i), e), e);
+            }
+        }
+        return result;
+    }
+
     /**
      * Informs Skippy that a build has finished.
      */
     public void buildFinished() {
-        var existingAnalysis = skippyRepository.readLatestTestImpactAnalysis();
-        var newAnalysis = getTestImpactAnalysis();
-        var mergedAnalysis = existingAnalysis.merge(newAnalysis);
-        skippyRepository.saveTestImpactAnalysis(mergedAnalysis);
-        if (skippyConfiguration.generateCoverageForSkippedTests()) {
-            generateCoverageForSkippedTests(mergedAnalysis);
+        try {
+            // the predictions are only valid for the test execution of the current build
+            skippyRepository.deletePredictionTable();
+            skippyRepository.loadClassFileHashes();
+            var existingAnalysis = skippyRepository.readLatestTestImpactAnalysis();
+            var classFileContainer = ClassFileContainer.from(classFileCollector.collect());
+            var testRecordings = getTestRecordings(classFileContainer);
+            var newAnalysis = getTestImpactAnalysis(classFileContainer, testRecordings);
+            var mergedAnalysis = existingAnalysis.merge(newAnalysis);
+            skippyRepository.saveTestImpactAnalysis(mergedAnalysis);
+            saveTestDurations(testRecordings);
+            skippyRepository.saveClassFileHashes();
+            if (skippyConfiguration.generateCoverageForSkippedTests()) {
+                generateCoverageForSkippedTests(mergedAnalysis);
+            }
+        } finally {
+            // the Gradle daemon outlives the build: class files might be recompiled before the next one
+            ClassFileHashCache.clear();
         }
     }
 
@@ -96,29 +238,86 @@ public final class SkippyBuildApi {
         skippyRepository.saveExecutionDataForSkippedTests(mergeExecutionData);
     }
 
-    private TestImpactAnalysis getTestImpactAnalysis() {
-        var classFileContainer = ClassFileContainer.from(classFileCollector.collect());
-        var testRecordings = skippyRepository.getTestRecordings();
+    private List<TestRecording> getTestRecordings(ClassFileContainer classFileContainer) {
+        var methodProbes = new ConcurrentHashMap<ClassNameAndJaCoCoId, Optional<MethodProbes>>();
+        return skippyRepository.getTestRecordings(
+                skippyConfiguration.generateCoverageForSkippedTests(),
+                (coveredClass, probes) -> getExecutedMethods(coveredClass, probes, classFileContainer, methodProbes)
+        );
+    }
+
+    private TestImpactAnalysis getTestImpactAnalysis(ClassFileContainer classFileContainer, List<TestRecording> testRecordings) {
         var analyzedTests = testRecordings.stream()
                 .map(testWithExecutionData -> getAnalyzedTests(testWithExecutionData, classFileContainer))
                 .toList();
         return new TestImpactAnalysis(classFileContainer, analyzedTests);
     }
 
+    /**
+     * Replaces the durations of the tests that have been executed in the current build. The durations of all other
+     * tests are retained.
+     */
+    private void saveTestDurations(List<TestRecording> testRecordings) {
+        var testDurations = new LinkedHashMap<Map.Entry<String, Path>, TestDuration>();
+        for (var testDuration : skippyRepository.readTestDurations()) {
+            testDurations.put(Map.entry(testDuration.className(), testDuration.outputFolder()), testDuration);
+        }
+        for (var testRecording : testRecordings) {
+            testRecording.duration().ifPresent(duration -> testDurations.put(
+                    Map.entry(testRecording.className(), testRecording.outputFolder()),
+                    new TestDuration(testRecording.className(), testRecording.outputFolder(), duration)
+            ));
+        }
+        skippyRepository.saveTestDurations(new ArrayList<>(testDurations.values()));
+    }
+
+    /**
+     * Maps the JaCoCo probes of a covered class to the methods that have been executed. The {@link MethodProbes} are
+     * determined at most once per class and build.
+     */
+    private static List<String> getExecutedMethods(
+            ClassNameAndJaCoCoId coveredClass,
+            boolean[] probes,
+            ClassFileContainer classFileContainer,
+            Map<ClassNameAndJaCoCoId, Optional<MethodProbes>> methodProbes
+    ) {
+        var probesOfClass = methodProbes.computeIfAbsent(coveredClass, key -> classFileContainer.getClassFilesMatching(key).stream()
+                .findFirst()
+                .flatMap(ClassFile::getMethodProbes));
+        return probesOfClass.map(value -> value.getExecutedMethods(probes)).orElse(null);
+    }
+
     private AnalyzedTest getAnalyzedTests(
             TestRecording testRecording,
             ClassFileContainer classFileContainer
     ) {
         var classFile = classFileContainer.getClassFileFor(testRecording);
-        var executionId = skippyConfiguration.generateCoverageForSkippedTests() ?
-                Optional.of(skippyRepository.saveJacocoExecutionData(testRecording.jacocoExecutionData())) :
-                Optional.<String>empty();
-        return AnalyzedTest.from(classFileContainer, classFile, testRecording.tags(), getCoveredClasses(testRecording, classFileContainer), executionId);
+        var coveredClassesByMethod = new HashMap<String, List<ClassFile>>();
+        for (var entry : testRecording.coveredClassesByMethod().entrySet()) {
+            coveredClassesByMethod.put(entry.getKey(), getCoveredClasses(entry.getValue(), classFileContainer));
+        }
+        var executedMethods = new HashMap<ClassFile, List<String>>();
+        for (var entry : testRecording.executedMethods().entrySet()) {
+            for (var coveredClass : classFileContainer.getClassFilesMatching(entry.getKey())) {
+                executedMethods.put(coveredClass, entry.getValue());
+            }
+        }
+        return AnalyzedTest.from(
+                classFileContainer,
+                classFile,
+                testRecording.tags(),
+                getCoveredClasses(testRecording.coveredClasses(), classFileContainer),
+                testRecording.executionId(),
+                coveredClassesByMethod,
+                testRecording.skippedMethods(),
+                testRecording.failedMethods(),
+                executedMethods
+        );
     }
 
-    private List<ClassFile> getCoveredClasses(TestRecording testRecording, ClassFileContainer classFileContainer) {
+    private List<ClassFile> getCoveredClasses(List<ClassNameAndJaCoCoId> coveredClasses, ClassFileContainer classFileContainer) {
         var result = new LinkedList<ClassFile>();
-        for (var coveredClass : testRecording.coveredClasses()) {
+        for (var coveredClass : coveredClasses) {
             result.addAll(classFileContainer.getClassFilesMatching(coveredClass));
         }
         return result;
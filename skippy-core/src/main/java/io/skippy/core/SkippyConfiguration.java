@@ -81,8 +81,19 @@ public class SkippyConfiguration {
      * @return the {@link PredictionModifier} for this build
      */
     PredictionModifier predictionModifier() {
+        return predictionModifier(SkippyConfiguration.class.getClassLoader());
+    }
+
+    /**
+     * Returns the {@link PredictionModifier} for this build.
+     *
+     * @param classLoader the {@link ClassLoader} that is used to load the {@link PredictionModifier} (e.g., a class
+     *                    loader for the test classpath if the modifier is used outside of a test JVM)
+     * @return the {@link PredictionModifier} for this build
+     */
+    PredictionModifier predictionModifier(ClassLoader classLoader) {
         try {
-            Class<?> clazz = Class.forName(predictionModifierClass);
+            Class<?> clazz = Class.forName(predictionModifierClass, true, classLoader);
             Constructor<?> constructor = clazz.getConstructor();
             return (PredictionModifier) constructor.newInstance();
         } catch (Exception e) {
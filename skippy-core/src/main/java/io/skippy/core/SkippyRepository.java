@@ -18,14 +18,18 @@ package io.skippy.core;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
 import static io.skippy.core.ClassUtil.getOutputFolder;
 import static java.nio.file.Files.*;
+import static java.lang.System.lineSeparator;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.util.Arrays.asList;
@@ -45,6 +49,18 @@ import static java.util.Collections.emptyList;
  */
 public final class SkippyRepository {
 
+    private static final String TEST_METHOD_COVERED = "COVERED";
+    private static final String TEST_METHOD_SKIPPED = "SKIPPED";
+    private static final String TEST_METHOD_FAILED = "FAILED";
+    private static final String CLASS_FILE_HASHES_FILE = "skippy-class-file-hashes.bin";
+    private static final String PREDICTION_TABLE_FILE = "skippy-predictions.bin";
+    private static final String TEST_DURATIONS_FILE = "skippy-test-durations.txt";
+
+    /**
+     * System property that tells the test JVMs where the build directory is.
+     */
+    public static final String BUILD_DIR_PROPERTY = "skippy.buildDir";
+
     private final Path projectDir;
     private final Path buildDir;
     private final SkippyRepositoryExtension extension;
@@ -69,12 +85,16 @@ public final class SkippyRepository {
 
     /**
      * Returns the {@link SkippyRepository} instance for Skippy's JUnit libraries.
+     * <br /><br />
+     * The build directory is passed to the test JVMs by Skippy's build plugins via the {@code skippy.buildDir} system
+     * property. Without it, the JUnit libraries fall back to the slower code paths that don't require any build output.
      *
      * @param skippyConfiguration the {@link SkippyConfiguration}
      * @return the {@link SkippyRepository}
      */
     public static SkippyRepository getInstance(SkippyConfiguration skippyConfiguration) {
-        return getInstance(skippyConfiguration, Path.of(""), null);
+        var buildDir = System.getProperty(BUILD_DIR_PROPERTY);
+        return getInstance(skippyConfiguration, Path.of(""), buildDir == null ? null : Path.of(buildDir));
     }
 
     /**
@@ -85,6 +105,7 @@ public final class SkippyRepository {
             deleteTmpFolder();
             deleteLogFiles();
             deleteIfExists(SkippyFolder.get(projectDir).resolve("test-impact-analysis.json"));
+            deleteIfExists(SkippyFolder.get(projectDir).resolve("test-impact-analysis.bin"));
             deleteIfExists(SkippyFolder.get(projectDir).resolve("LATEST"));
         } catch (IOException e) {
             throw new RuntimeException("Unable to reset skippy folder %s: %s".formatted(SkippyFolder.get(projectDir), e), e);
@@ -133,28 +154,73 @@ public final class SkippyRepository {
      * @return the contents of the predictions.log file in the Skippy folder
      */
     List<ClassNameAndPrediction> readPredictionsLog() {
+        LogWriter.flush();
         try {
             var predictionsLog = SkippyFolder.get(projectDir).resolve("predictions.log");
             if (false == exists(predictionsLog)) {
                 return emptyList();
             }
-            return Files.readAllLines(predictionsLog, StandardCharsets.UTF_8).stream().
-                    map(line -> {
-                        var className = line.split(",")[1];
-                        var prediction = Prediction.valueOf(line.split(",")[2]);
-                        return new ClassNameAndPrediction(className, prediction);
-                    })
-                    .toList();
+            var result = new ArrayList<ClassNameAndPrediction>();
+            try (var reader = Files.newBufferedReader(predictionsLog, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (false == line.isEmpty()) {
+                        result.add(parsePrediction(line));
+                    }
+                }
+            }
+            return result;
 
         } catch (IOException e) {
             throw new UncheckedIOException("Unable to read predictions log: %s.".formatted(e), e);
         }
     }
 
+    // output folder, class name, prediction, reason and optional details in a single pass over the line
+    private static ClassNameAndPrediction parsePrediction(String line) {
+        int endOfOutputFolder = line.indexOf(',');
+        int endOfClassName = line.indexOf(',', endOfOutputFolder + 1);
+        int endOfPrediction = line.indexOf(',', endOfClassName + 1);
+        if (endOfOutputFolder == -1 || endOfClassName == -1) {
+            throw new IllegalStateException("Unable to parse line '%s' in predictions log.".formatted(line));
+        }
+        var className = line.substring(endOfOutputFolder + 1, endOfClassName);
+        var prediction = line.substring(endOfClassName + 1, endOfPrediction == -1 ? line.length() : endOfPrediction);
+        return new ClassNameAndPrediction(className, Prediction.valueOf(prediction));
+    }
+
+    /**
+     * Appends a prediction to the predictions.log file in the Skippy folder.
+     *
+     * @param outputFolder the test's output folder relative to the project folder (e.g., build/classes/java/test)
+     * @param className the test's class name (e.g., com.example.FooTest)
+     * @param predictionWithReason the prediction
+     */
+    void logPrediction(Path outputFolder, String className, PredictionWithReason predictionWithReason) {
+        var predictionsLog = SkippyFolder.get(projectDir).resolve("predictions.log");
+        if (predictionWithReason.reason().details().isPresent()) {
+            LogWriter.append(predictionsLog, "%s,%s,%s,%s,\"%s\"%s".formatted(
+                    outputFolder,
+                    className,
+                    predictionWithReason.prediction(),
+                    predictionWithReason.reason().category(),
+                    predictionWithReason.reason().details().get(),
+                    lineSeparator()));
+        } else {
+            LogWriter.append(predictionsLog, "%s,%s,%s,%s%s".formatted(
+                    outputFolder,
+                    className,
+                    predictionWithReason.prediction(),
+                    predictionWithReason.reason().category(),
+                    lineSeparator()));
+        }
+    }
+
     /**
      * Deletes all log files from the Skippy folder.
      */
     void deleteLogFiles() {
+        LogWriter.flush();
         try (var directoryStream  = Files.newDirectoryStream(SkippyFolder.get(projectDir),
                 file -> file.getFileName().toString().endsWith(".log"))) {
             for (var logFile : directoryStream) {
@@ -166,10 +232,12 @@ public final class SkippyRepository {
     }
 
     /**
-     * Records the execution data for all tests in {@code testClass}.
+     * Records the execution data for the tests in {@code testClass}. The data is merged with execution data that has
+     * been recorded for {@code testClass} before (e.g., by an earlier write for the same test class in the current
+     * build).
      *
      * @param testClass the test {@link Class}
-     * @param jacocoExecutionData Jacoco execution data for all tests in {@code testClass}
+     * @param jacocoExecutionData Jacoco execution data for the tests in {@code testClass}
      */
     void afterAll(Class<?> testClass, byte[] jacocoExecutionData) {
         try {
@@ -177,74 +245,246 @@ public final class SkippyRepository {
                 getFolderWithTestRecording(testClass).resolve("%s.classpath".formatted(testClass.getName())),
                 getClassPath(), CREATE, TRUNCATE_EXISTING
             );
-            Files.write(getFolderWithTestRecording(testClass).resolve("%s.exec".formatted(testClass.getName())), jacocoExecutionData, CREATE, TRUNCATE_EXISTING);
+            var execFile = getFolderWithTestRecording(testClass).resolve("%s.exec".formatted(testClass.getName()));
+            if (exists(execFile)) {
+                var merged = new ExecutionDataAccumulator();
+                merged.add(Files.readAllBytes(execFile));
+                merged.add(jacocoExecutionData);
+                Files.write(execFile, merged.toByteArray(), CREATE, TRUNCATE_EXISTING);
+            } else {
+                Files.write(execFile, jacocoExecutionData, CREATE, TRUNCATE_EXISTING);
+            }
         } catch (Exception e) {
             throw new RuntimeException("Unable to save temporary test execution data file for current build: %s / %s.".formatted(testClass.getName(), e), e);
         }
     }
 
     /**
-     * Records the execution for {@code testMethod} in {@code testClass}.
+     * Records the classes that have been covered by the individual test methods in {@code testClass} and the names of
+     * the test methods that have been skipped. The data is appended to the data that has been recorded for
+     * {@code testClass} before.
+     * <br /><br />
+     * Format (one line per test method, tab-separated):
+     * <pre>
+     * COVERED  testFoo  com.example.Foo:-6271188169386934272  com.example.FooTest:5457478476545328742
+     * SKIPPED  testBar
+     * </pre>
      *
      * @param testClass the test {@link Class}
-     * @param testMethod the name of the test method
-     * @param jacocoExecutionData JaCoCo execution data for {@code testMethod}
+     * @param coveredClassesByMethod the classes covered by the individual test methods
+     * @param skippedMethods the names of the test methods that have been skipped
      */
-    void after(Class<?> testClass, String testMethod, byte[] jacocoExecutionData) {
-        try {
-            Files.write(
-                getFolderWithTestRecording(testClass).resolve("%s.classpath".formatted(testClass.getName())),
-                getClassPath(), CREATE, TRUNCATE_EXISTING
-            );
-            var execFile = getFolderWithTestRecording(testClass).resolve("%s.exec".formatted(testClass.getName()));
-            if (exists(execFile)) {
-                var merged = JacocoUtil.mergeExecutionData(asList(Files.readAllBytes(execFile), jacocoExecutionData));
-                Files.write(getFolderWithTestRecording(testClass).resolve("%s.exec".formatted(testClass.getName())), merged, CREATE, TRUNCATE_EXISTING);
-            } else {
-                Files.write(getFolderWithTestRecording(testClass).resolve("%s.exec".formatted(testClass.getName())), jacocoExecutionData, CREATE, TRUNCATE_EXISTING);
+    void saveTestMethods(Class<?> testClass, Map<String, ? extends Collection<ClassNameAndJaCoCoId>> coveredClassesByMethod, Set<String> skippedMethods) {
+        var lines = new ArrayList<String>();
+        for (var entry : coveredClassesByMethod.entrySet()) {
+            var line = new StringBuilder(TEST_METHOD_COVERED).append('\t').append(entry.getKey());
+            for (var coveredClass : entry.getValue()) {
+                line.append('\t').append(coveredClass.className()).append(':').append(coveredClass.jaCoCoId());
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Unable to save temporary test execution data file for current build: %s / %s.".formatted(testClass.getName(), e), e);
+            lines.add(line.toString());
+        }
+        for (var skippedMethod : skippedMethods) {
+            lines.add(TEST_METHOD_SKIPPED + '\t' + skippedMethod);
+        }
+        var methodsFile = getFolderWithTestRecording(testClass).resolve("%s.methods".formatted(testClass.getName()));
+        try {
+            Files.write(methodsFile, lines, StandardCharsets.UTF_8, StandardOpenOption.APPEND, StandardOpenOption.CREATE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to save test methods of %s in file %s: %s.".formatted(testClass.getName(), methodsFile, e), e);
+        }
+    }
+
+    /**
+     * Records the name of a test method in {@code testClass} that has failed. The data is appended to the file that is
+     * written by {@link #saveTestMethods(Class, Map, Set)}:
+     * <pre>
+     * FAILED  testFoo
+     * </pre>
+     *
+     * @param testClass the test {@link Class}
+     * @param testMethod the name of the test method that has failed
+     */
+    void saveFailedTestMethod(Class<?> testClass, String testMethod) {
+        var methodsFile = getFolderWithTestRecording(testClass).resolve("%s.methods".formatted(testClass.getName()));
+        try {
+            Files.write(methodsFile, asList(TEST_METHOD_FAILED + '\t' + testMethod), StandardCharsets.UTF_8, StandardOpenOption.APPEND, StandardOpenOption.CREATE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to save failed test method %s#%s in file %s: %s.".formatted(testClass.getName(), testMethod, methodsFile, e), e);
         }
     }
 
     /**
      * Returns the test execution data written by {@link #afterAll(Class, byte[])}
+     * <br /><br />
+     * The recordings are processed by a fixed number of worker threads that are fed through a bounded queue. The raw
+     * JaCoCo execution data of a recording is released as soon as the covered classes (and the execution id) have been
+     * extracted and the execution data has been saved. This keeps the memory footprint independent of the number of
+     * tests.
+     * <br /><br />
+     * The execution data is saved via the {@link SkippyRepositoryExtension} on the calling thread. Extensions therefore
+     * don't need to be thread-safe.
      *
+     * @param saveExecutionData {@code true} if the JaCoCo execution data of each recording should be saved (see
+     *                          {@link #saveJacocoExecutionData(byte[])}), {@code false} otherwise
      * @return the test execution data written by {@link #afterAll(Class, byte[])}
      */
-    List<TestRecording> getTestRecordings() {
-        var result = new ArrayList<TestRecording>();
+    List<TestRecording> getTestRecordings(boolean saveExecutionData) {
+        return getTestRecordings(saveExecutionData, (coveredClass, probes) -> null);
+    }
+
+    /**
+     * Same as {@link #getTestRecordings(boolean)}. In addition, the methods that have been executed in the covered
+     * classes are determined via the {@code executedMethods} function (see
+     * {@link JacocoUtil#analyzeExecutionData(byte[], BiFunction)}).
+     *
+     * @param saveExecutionData {@code true} if the JaCoCo execution data of each recording should be saved (see
+     *                          {@link #saveJacocoExecutionData(byte[])}), {@code false} otherwise
+     * @param executedMethods maps the JaCoCo probes of a covered class to the executed methods of the class (must be
+     *                        thread-safe)
+     * @return the test execution data written by {@link #afterAll(Class, byte[])}
+     */
+    List<TestRecording> getTestRecordings(boolean saveExecutionData, BiFunction<ClassNameAndJaCoCoId, boolean[], List<String>> executedMethods) {
         var tmpDir = SkippyFolder.get(projectDir).resolve("tmp");
         if (false == exists(tmpDir)) {
             return emptyList();
         }
+        List<Path> execFiles;
         try (Stream<Path> stream = Files.walk(tmpDir)) {
-            stream
+            execFiles = stream
                     .filter(Files::isRegularFile)
                     .filter(path -> path.toString().endsWith(".exec"))
-                    .forEach(file -> {
-                        var fileName = file.getFileName().toString();
-                        var className = fileName.substring(0, fileName.lastIndexOf("."));
-                        var outputFolder = tmpDir.relativize(file.getParent());
-                        try {
-                            var jacocoExecData = Files.readAllBytes(file);
-                            var tagsFile = tmpDir.resolve(outputFolder).resolve("%s.tags".formatted(className));
-                            var tags = new ArrayList<TestTag>();
-                            if (exists(tagsFile)) {
-                                tags.addAll(Files.readAllLines(tagsFile).stream().map(line -> TestTag.valueOf(line)).toList());
-                            }
-                            if (false == tags.contains(TestTag.FAILED)) {
-                                tags.add(TestTag.PASSED);
-                            }
-                            result.add(new TestRecording(className, outputFolder, tags, JacocoUtil.getCoveredClasses(jacocoExecData), jacocoExecData));
-                        } catch (IOException e) {
-                            throw new RuntimeException("Unable to read recorded test data for current build: %s.".formatted(e), e);
-                        }
-                    });
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read recorded test data for current build: %s.".formatted(e), e);
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        var executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(2 * threads),
+                runnable -> {
+                    var thread = new Thread(runnable, "skippy-test-recordings");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            var result = new ArrayList<TestRecording>();
+            var pending = new ArrayDeque<Future<DecodedTestRecording>>();
+            for (var execFile : execFiles) {
+                pending.add(executor.submit(() -> readTestRecording(tmpDir, execFile, saveExecutionData, executedMethods)));
+                // bounds the number of decoded recordings whose execution data hasn't been saved yet
+                while (false == pending.isEmpty() && (pending.peek().isDone() || pending.size() > 4 * threads)) {
+                    result.add(save(pending.poll().get()));
+                }
+            }
+            while (false == pending.isEmpty()) {
+                result.add(save(pending.poll().get()));
+            }
             return result;
-        } catch (Exception e) {
-            throw new RuntimeException("Unable to read recorded test data for current build: %s.".formatted(e), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while reading recorded test data for current build: %s.".formatted(e), e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Unable to read recorded test data for current build: %s.".formatted(e.getCause()), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Records the wall-clock duration of the execution of (some of) the test methods in {@code testClass}. The duration
+     * is appended to the durations that have been recorded for {@code testClass} before.
+     *
+     * @param testClass the test {@link Class}
+     * @param durationMillis the duration in milliseconds
+     */
+    void saveDuration(Class<?> testClass, long durationMillis) {
+        var durationFile = getFolderWithTestRecording(testClass).resolve("%s.duration".formatted(testClass.getName()));
+        try {
+            Files.write(durationFile, asList(Long.toString(durationMillis)), StandardCharsets.UTF_8, StandardOpenOption.APPEND, StandardOpenOption.CREATE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to save duration of %s in file %s: %s.".formatted(testClass.getName(), durationFile, e), e);
+        }
+    }
+
+    /**
+     * A {@link TestRecording} and the JaCoCo execution data that still has to be saved ({@code null} if the execution
+     * data should not be saved).
+     */
+    private record DecodedTestRecording(TestRecording testRecording, byte[] jacocoExecutionData) {
+    }
+
+    private TestRecording save(DecodedTestRecording decodedTestRecording) {
+        var testRecording = decodedTestRecording.testRecording();
+        if (decodedTestRecording.jacocoExecutionData() != null) {
+            extension.saveJacocoExecutionData(testRecording.executionId().get(), decodedTestRecording.jacocoExecutionData());
+        }
+        return testRecording;
+    }
+
+    private DecodedTestRecording readTestRecording(Path tmpDir, Path execFile, boolean saveExecutionData, BiFunction<ClassNameAndJaCoCoId, boolean[], List<String>> executedMethods) {
+        var fileName = execFile.getFileName().toString();
+        var className = fileName.substring(0, fileName.lastIndexOf("."));
+        var outputFolder = tmpDir.relativize(execFile.getParent());
+        try {
+            var jacocoExecData = Files.readAllBytes(execFile);
+            var tagsFile = tmpDir.resolve(outputFolder).resolve("%s.tags".formatted(className));
+            var tags = new ArrayList<TestTag>();
+            if (exists(tagsFile)) {
+                tags.addAll(Files.readAllLines(tagsFile).stream().map(line -> TestTag.valueOf(line)).toList());
+            }
+            if (false == tags.contains(TestTag.FAILED)) {
+                tags.add(TestTag.PASSED);
+            }
+            var analysis = JacocoUtil.analyzeExecutionData(jacocoExecData, executedMethods);
+            var executionId = saveExecutionData ? Optional.of(analysis.executionId()) : Optional.<String>empty();
+            var coveredClassesByMethod = new HashMap<String, List<ClassNameAndJaCoCoId>>();
+            var skippedMethods = new HashSet<String>();
+            var failedMethods = new HashSet<String>();
+            var methodsFile = tmpDir.resolve(outputFolder).resolve("%s.methods".formatted(className));
+            if (exists(methodsFile)) {
+                readTestMethods(methodsFile, coveredClassesByMethod, skippedMethods, failedMethods);
+            }
+            var durationFile = tmpDir.resolve(outputFolder).resolve("%s.duration".formatted(className));
+            var duration = Optional.<Long>empty();
+            if (exists(durationFile)) {
+                duration = Optional.of(Files.readAllLines(durationFile, StandardCharsets.UTF_8).stream().mapToLong(Long::parseLong).sum());
+            }
+            var testRecording = new TestRecording(className, outputFolder, tags, analysis.coveredClasses(), executionId, coveredClassesByMethod, skippedMethods, failedMethods, analysis.executedMethods(), duration);
+            return new DecodedTestRecording(testRecording, saveExecutionData ? jacocoExecData : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read recorded test data for current build: %s.".formatted(e), e);
+        }
+    }
+
+    private static void readTestMethods(Path methodsFile, Map<String, List<ClassNameAndJaCoCoId>> coveredClassesByMethod, Set<String> skippedMethods, Set<String> failedMethods) throws IOException {
+        for (var line : Files.readAllLines(methodsFile, StandardCharsets.UTF_8)) {
+            var tokens = line.split("\t");
+            switch (tokens[0]) {
+                case TEST_METHOD_COVERED:
+                    var coveredClasses = coveredClassesByMethod.computeIfAbsent(tokens[1], key -> new ArrayList<>());
+                    for (int i = 2; i < tokens.length; i++) {
+                        var separator = tokens[i].lastIndexOf(':');
+                        coveredClasses.add(new ClassNameAndJaCoCoId(tokens[i].substring(0, separator), Long.parseLong(tokens[i].substring(separator + 1))));
+                    }
+                    break;
+                case TEST_METHOD_SKIPPED:
+                    skippedMethods.add(tokens[1]);
+                    break;
+                case TEST_METHOD_FAILED:
+                    failedMethods.add(tokens[1]);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected line in file %s: %s.".formatted(methodsFile, line));
+            }
+        }
+        // a test method that has been executed in one JVM wasn't skipped
+        skippedMethods.removeAll(coveredClassesByMethod.keySet());
+
+        // the per-method coverage of a test class with a single test method wouldn't allow for more skipped tests
+        // than the coverage of the class as a whole
+        var testMethodCount = coveredClassesByMethod.size() - (coveredClassesByMethod.containsKey(AnalyzedTestMethod.LIFECYCLE) ? 1 : 0);
+        if (testMethodCount < 2 && skippedMethods.isEmpty()) {
+            coveredClassesByMethod.clear();
         }
     }
 
@@ -292,15 +532,144 @@ public final class SkippyRepository {
 
     void saveTestImpactAnalysis(TestImpactAnalysis testImpactAnalysis) {
         try {
+            extension.saveTestImpactAnalysis(testImpactAnalysis);
             var versionFile = SkippyFolder.get(projectDir).resolve(Path.of("LATEST"));
             Files.writeString(versionFile, testImpactAnalysis.getId(), StandardCharsets.UTF_8, CREATE, TRUNCATE_EXISTING);
-            extension.saveTestImpactAnalysis(testImpactAnalysis);
             deleteTmpFolder();
         } catch (IOException e) {
             throw new UncheckedIOException("Unable to save TestImpactAnalysis %s: %s".formatted(testImpactAnalysis.getId(), e), e);
         }
     }
 
+    /**
+     * Loads the class file hashes that have been persisted by a previous build into the {@link ClassFileHashCache}.
+     * <br /><br />
+     * The hashes are stored in the build directory: They contain absolute paths, timestamps and file keys that are
+     * meaningless on any other machine.
+     */
+    void loadClassFileHashes() {
+        if (buildDir == null) {
+            return;
+        }
+        ClassFileHashCache.load(buildDir.resolve(CLASS_FILE_HASHES_FILE));
+    }
+
+    /**
+     * Persists the content of the {@link ClassFileHashCache} for use in subsequent builds.
+     */
+    void saveClassFileHashes() {
+        if (buildDir == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(buildDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create build directory %s: %s.".formatted(buildDir, e), e);
+        }
+        ClassFileHashCache.save(projectDir, buildDir.resolve(CLASS_FILE_HASHES_FILE));
+    }
+
+    /**
+     * Reads the {@link TestDuration}s that have been saved by previous builds.
+     *
+     * @return the {@link TestDuration}s that have been saved by previous builds
+     */
+    List<TestDuration> readTestDurations() {
+        if (buildDir == null || false == exists(buildDir.resolve(TEST_DURATIONS_FILE))) {
+            return emptyList();
+        }
+        try {
+            return Files.readAllLines(buildDir.resolve(TEST_DURATIONS_FILE), StandardCharsets.UTF_8).stream()
+                    .map(TestDuration::parse)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read test durations: %s.".formatted(e), e);
+        }
+    }
+
+    /**
+     * Saves the {@link TestDuration}s in the build directory for use in subsequent builds.
+     *
+     * @param testDurations the {@link TestDuration}s
+     */
+    void saveTestDurations(List<TestDuration> testDurations) {
+        if (buildDir == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(buildDir);
+            Files.write(buildDir.resolve(TEST_DURATIONS_FILE), testDurations.stream().map(TestDuration::toLine).toList(), StandardCharsets.UTF_8, CREATE, TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to save test durations: %s.".formatted(e), e);
+        }
+    }
+
+    /**
+     * Reads the {@link PredictionTable} that has been computed by the build from the build directory.
+     *
+     * @return the {@link PredictionTable} or an empty {@link Optional} if there is no table for the latest
+     *         {@link TestImpactAnalysis}
+     */
+    Optional<PredictionTable> readPredictionTable() {
+        if (buildDir == null) {
+            return Optional.empty();
+        }
+        try {
+            var versionFile = SkippyFolder.get(projectDir).resolve(Path.of("LATEST"));
+            var tableFile = buildDir.resolve(PREDICTION_TABLE_FILE);
+            if (false == exists(versionFile) || false == exists(tableFile)) {
+                return Optional.empty();
+            }
+            var id = Files.readString(versionFile, StandardCharsets.UTF_8);
+            try (var channel = FileChannel.open(tableFile, StandardOpenOption.READ)) {
+                var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (PredictionTable.readTestImpactAnalysisId(buffer).filter(id::equals).isEmpty()) {
+                    return Optional.empty();
+                }
+                return Optional.of(PredictionTable.parse(buffer));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read prediction table: %s.".formatted(e), e);
+        }
+    }
+
+    /**
+     * Saves the {@link PredictionTable} in the build directory for consumption by the test JVMs.
+     *
+     * @param predictionTable the {@link PredictionTable}
+     */
+    void savePredictionTable(PredictionTable predictionTable) {
+        if (buildDir == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(buildDir);
+            var tableFile = buildDir.resolve(PREDICTION_TABLE_FILE);
+            var tmpFile = tableFile.resolveSibling(PREDICTION_TABLE_FILE + ".tmp");
+            try (var channel = FileChannel.open(tmpFile, CREATE, TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                predictionTable.write(channel);
+            }
+            // test JVMs must never see a partially written table
+            Files.move(tmpFile, tableFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to save prediction table: %s.".formatted(e), e);
+        }
+    }
+
+    /**
+     * Deletes the {@link PredictionTable} to make sure that a table from a previous build is never used.
+     */
+    void deletePredictionTable() {
+        if (buildDir == null) {
+            return;
+        }
+        try {
+            deleteIfExists(buildDir.resolve(PREDICTION_TABLE_FILE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to delete prediction table: %s.".formatted(e), e);
+        }
+    }
+
     Optional<byte[]> readJacocoExecutionData(String executionId) {
         return extension.findJacocoExecutionData(executionId);
     }
@@ -381,12 +750,7 @@ public final class SkippyRepository {
     }
 
     void log(String statement) {
-        var logFile = SkippyFolder.get(projectDir).resolve("logging.log");
-        try {
-            Files.write(logFile, asList(statement), StandardCharsets.UTF_8, StandardOpenOption.APPEND, StandardOpenOption.CREATE);
-        } catch (IOException e) {
-            throw new RuntimeException("Unable to write log statement: %s.".formatted(e), e);
-        }
+        LogWriter.append(SkippyFolder.get(projectDir).resolve("logging.log"), statement + lineSeparator());
     }
 }
 
@@ -19,23 +19,17 @@ package io.skippy.core;
 import org.jacoco.agent.rt.IAgent;
 import org.jacoco.agent.rt.RT;
 
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Stack;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static io.skippy.core.ClassUtil.getOutputFolder;
-import static io.skippy.core.JacocoUtil.mergeExecutionData;
 import static io.skippy.core.JacocoUtil.swallowJacocoExceptions;
-import static io.skippy.core.SkippyConstants.PREDICTIONS_LOG_FILE;
-import static java.lang.System.lineSeparator;
-import static java.nio.file.StandardOpenOption.APPEND;
-import static java.nio.file.StandardOpenOption.CREATE;
-import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * API that is used by Skippy's JUnit libraries to query for skip-or-execute predictions and to trigger the generation of .exec files.
@@ -49,11 +43,13 @@ public final class SkippyTestApi {
      */
     public static SkippyTestApi INSTANCE = getInstance();
 
-    private final TestImpactAnalysis testImpactAnalysis;
+    private final Optional<PredictionTable> predictionTable;
+    private final Supplier<TestImpactAnalysis> testImpactAnalysis;
     private final SkippyRepository skippyRepository;
     private final PredictionModifier predictionModifier;
     private final SkippyConfiguration skippyConfiguration;
-    private final Map<Class<?>, Prediction> predictions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, PredictionWithReason> predictions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Risk> risks = new ConcurrentHashMap<>();
 
     /**
      * Stack that keeps track of the execution data across nested test classes.
@@ -83,9 +79,9 @@ public final class SkippyTestApi {
      *  By the time <code>testSomething</code> is executed, the stack would be populated as follows:
      *  <br /><br />
      *  <pre>
-     *  frame 2 = { execution data for Level1$Level2$Level3.class }
-     *  frame 1 = { execution data for Level1$Level2.class }
-     *  frame 0 = { execution data for Level1.class }
+     *  frame 2 = { recording for Level1$Level2$Level3.class }
+     *  frame 1 = { recording for Level1$Level2.class }
+     *  frame 0 = { recording for Level1.class }
      *  </pre>
      *
      *  The stack is used for two purposes:
@@ -94,9 +90,26 @@ public final class SkippyTestApi {
      *      <li>It allows nested tests classes to contribute their execution data back to the parents.</li>
      *  </ul>
      */
-    private final Stack<List<byte[]>> executionDataStack = new Stack<>();
+    private final Stack<TestClassRecording> executionDataStack = new Stack<>();
 
-    SkippyTestApi(TestImpactAnalysis testImpactAnalysis, SkippyConfiguration skippyConfiguration, SkippyRepository skippyRepository) {
+    /**
+     * Recordings for test classes that have been executed by Skippy's JUnit4 library. The execution data is accumulated
+     * across the test methods of a test class and written after each test method: JUnit 4 has no after-all callback
+     * for rules. The recordings are released when the next test class starts, the class rule finishes or the test run
+     * finishes.
+     */
+    private final Map<Class<?>, TestClassRecording> pendingExecutionData = new ConcurrentHashMap<>();
+
+    /**
+     * C'tor.
+     *
+     * @param predictionTable the {@link PredictionTable} that has been computed by the build (if any)
+     * @param testImpactAnalysis supplies the {@link TestImpactAnalysis} for tests that are not in the {@code predictionTable}
+     * @param skippyConfiguration the {@link SkippyConfiguration}
+     * @param skippyRepository the {@link SkippyRepository}
+     */
+    SkippyTestApi(Optional<PredictionTable> predictionTable, Supplier<TestImpactAnalysis> testImpactAnalysis, SkippyConfiguration skippyConfiguration, SkippyRepository skippyRepository) {
+        this.predictionTable = predictionTable;
         this.testImpactAnalysis = testImpactAnalysis;
         this.skippyRepository = skippyRepository;
         this.predictionModifier = skippyConfiguration.predictionModifier();
@@ -106,8 +119,26 @@ public final class SkippyTestApi {
     private static SkippyTestApi getInstance() {
         var skippyConfiguration = SkippyRepository.readConfiguration();
         var skippyRepository = SkippyRepository.getInstance(skippyConfiguration);
-        var tia = skippyRepository.readLatestTestImpactAnalysis();
-        return new SkippyTestApi(tia, skippyConfiguration, skippyRepository);
+        var predictionTable = skippyRepository.readPredictionTable();
+        var tia = lazy(() -> {
+            skippyRepository.loadClassFileHashes();
+            return skippyRepository.readLatestTestImpactAnalysis();
+        });
+        return new SkippyTestApi(predictionTable, tia, skippyConfiguration, skippyRepository);
+    }
+
+    private static <T> Supplier<T> lazy(Supplier<T> supplier) {
+        var value = new AtomicReference<T>();
+        return () -> {
+            if (value.get() == null) {
+                synchronized (value) {
+                    if (value.get() == null) {
+                        value.set(supplier.get());
+                    }
+                }
+            }
+            return value.get();
+        };
     }
 
     /**
@@ -123,6 +154,21 @@ public final class SkippyTestApi {
         skippyRepository.tagTest(testClass, tag);
     }
 
+    /**
+     * Tags a test as {@link TestTag#FAILED} and records the name of the test method that has failed. If nothing else
+     * has changed, the next build will only re-run the failed test methods of the test.
+     *
+     * @param testClass the test's {@link Class}
+     * @param testMethod the name of the test method that has failed
+     */
+    public void tagTestMethodAsFailed(Class<?> testClass, String testMethod) {
+        if (false == ClassUtil.locationAvailable(testClass)) {
+            return;
+        }
+        skippyRepository.tagTest(testClass, TestTag.FAILED);
+        skippyRepository.saveFailedTestMethod(testClass, getMethodName(testMethod));
+    }
+
     /**
      * Returns {@code true} if {@code test} needs to be executed, {@code false} otherwise.
      *
@@ -137,40 +183,20 @@ public final class SkippyTestApi {
             try {
                 // re-use prediction made for the first test method in a class for all subsequent test methods
                 if (predictions.containsKey(test)) {
-                    return predictions.get(test) != Prediction.SKIP;
+                    return predictions.get(test).prediction() != Prediction.SKIP;
                 }
-                var predictionWithReason = predictionModifier.passThruOrModify(test, testImpactAnalysis.predict(test, skippyConfiguration, skippyRepository));
+                var predictionWithReason = predictionModifier.passThruOrModify(test, predict(test));
 
                 // record {@link Prediction#ALWAYS_EXECUTE} as tags: this is required for JUnit 5's @Nested tests
                 if (predictionWithReason.prediction() == Prediction.ALWAYS_EXECUTE) {
                     skippyRepository.tagTest(test, TestTag.ALWAYS_EXECUTE);
                 }
-                var outputFolder = getOutputFolder(Path.of(""), test);
-                if (predictionWithReason.reason().details().isPresent()) {
-                    Files.writeString(
-                        SkippyFolder.get().resolve(PREDICTIONS_LOG_FILE),
-                        "%s,%s,%s,%s,\"%s\"%s".formatted(
-                                outputFolder,
-                                test.getName(),
-                                predictionWithReason.prediction(),
-                                predictionWithReason.reason().category(),
-                                predictionWithReason.reason().details().orElseGet(() -> "n/a"),
-                                lineSeparator()),
-                        StandardCharsets.UTF_8, CREATE, APPEND
-                    );
-                } else {
-                    Files.writeString(
-                            SkippyFolder.get().resolve(PREDICTIONS_LOG_FILE),
-                            "%s,%s,%s,%s%s".formatted(
-                                    outputFolder,
-                                    test.getName(),
-                                    predictionWithReason.prediction(),
-                                    predictionWithReason.reason().category(),
-                                    lineSeparator()),
-                            StandardCharsets.UTF_8, CREATE, APPEND
-                    );
+                skippyRepository.logPrediction(getOutputFolder(Path.of(""), test), test.getName(), predictionWithReason);
+                if (predictionWithReason.prediction() == Prediction.SKIP) {
+                    // skipped tests never reach any of the other points where the log is flushed
+                    LogWriter.flush();
                 }
-                predictions.put(test, predictionWithReason.prediction());
+                predictions.put(test, predictionWithReason);
                 return predictionWithReason.prediction() != Prediction.SKIP;
             } catch (Exception e) {
                 throw new RuntimeException("Unable to check if test %s needs to be executed: %s.".formatted(test.getName(), e), e);
@@ -178,6 +204,112 @@ public final class SkippyTestApi {
         });
     }
 
+    /**
+     * Returns {@code true} if {@code testMethod} in {@code test} needs to be executed, {@code false} otherwise.
+     * <br /><br />
+     * Test methods are only skipped individually if {@code test} has to be executed due to a change in a covered class
+     * that isn't covered by {@code testMethod}. Per-method predictions are disabled if
+     * {@link SkippyConfiguration#generateCoverageForSkippedTests()} is enabled since the coverage of skipped test
+     * methods would be missing from the coverage reports.
+     *
+     * @param test a class object representing a test
+     * @param testMethod the name of the test method
+     * @return {@code true} if {@code testMethod} in {@code test} needs to be executed, {@code false} otherwise
+     */
+    public boolean testMethodNeedsToBeExecuted(Class<?> test, String testMethod) {
+        if (false == testNeedsToBeExecuted(test)) {
+            return false;
+        }
+        return Profiler.profile("SkippyTestApi#testMethodNeedsToBeExecuted", () -> {
+            var classPrediction = predictions.get(test);
+            if (classPrediction == null || classPrediction.prediction() != Prediction.EXECUTE) {
+                return true;
+            }
+            if (skippyConfiguration.generateCoverageForSkippedTests() || false == TestImpactAnalysis.supportsMethodLevelPredictions(classPrediction.reason())) {
+                return true;
+            }
+            try {
+                var methodName = getMethodName(testMethod);
+                var prediction = testImpactAnalysis.get().predictMethod(test, methodName, skippyRepository);
+                if (prediction.prediction() != Prediction.SKIP) {
+                    return true;
+                }
+                if (isNestedTest() && executionDataStack.lastElement().testClass == test) {
+                    executionDataStack.lastElement().skippedMethods.add(methodName);
+                } else {
+                    // JUnit 4: skipped test methods are recorded right away since they never reach the coverage file rule
+                    skippyRepository.saveTestMethods(test, emptyMap(), Set.of(methodName));
+                }
+                return false;
+            } catch (Exception e) {
+                throw new RuntimeException("Unable to check if test method %s#%s needs to be executed: %s.".formatted(test.getName(), testMethod, e), e);
+            }
+        });
+    }
+
+    /**
+     * Returns a {@link Comparator} that orders test classes by risk to surface failures as early as possible:
+     * <ol>
+     *     <li>tests that cover a changed class (or have been changed themselves),</li>
+     *     <li>tests that failed previously and</li>
+     *     <li>all other tests.</li>
+     * </ol>
+     * Each group is ordered by the duration of the tests' last execution (shortest first). The durations are taken from
+     * the {@link PredictionTable}. Tests without a recorded duration come last within their group.
+     *
+     * @return a {@link Comparator} that orders test classes by risk
+     */
+    public Comparator<Class<?>> getRiskBasedOrder() {
+        return Comparator.comparing(test -> risks.computeIfAbsent(test, this::assessRisk));
+    }
+
+    private Risk assessRisk(Class<?> test) {
+        return Profiler.profile("SkippyTestApi#assessRisk", () -> {
+            if (false == ClassUtil.locationAvailable(test)) {
+                return new Risk(Risk.OTHER, Long.MAX_VALUE);
+            }
+            try {
+                var prediction = predictions.containsKey(test) ? predictions.get(test) : predict(test);
+                var duration = predictionTable
+                        .flatMap(table -> table.getDuration(test.getName(), getOutputFolder(Path.of(""), test)))
+                        .orElse(Long.MAX_VALUE);
+                switch (prediction.reason().category()) {
+                    case BYTECODE_CHANGE_IN_TEST:
+                    case BYTECODE_CHANGE_IN_COVERED_CLASS:
+                        return new Risk(Risk.CHANGED, duration);
+                    case TEST_FAILED_PREVIOUSLY:
+                        return new Risk(Risk.FAILED_PREVIOUSLY, duration);
+                    default:
+                        return new Risk(Risk.OTHER, duration);
+                }
+            } catch (Exception e) {
+                throw new RuntimeException("Unable to assess risk of test %s: %s.".formatted(test.getName(), e), e);
+            }
+        });
+    }
+
+    /**
+     * Strips the parameters from the names of parameterized JUnit 4 test methods (e.g., testFoo[0] becomes testFoo).
+     */
+    private static String getMethodName(String testMethod) {
+        var parameters = testMethod.indexOf('[');
+        return parameters == -1 ? testMethod : testMethod.substring(0, parameters);
+    }
+
+    /**
+     * Looks up the prediction in the {@link PredictionTable}. Only tests that are not in the table (e.g., because
+     * the tests are executed outside of a Skippy-enabled build) require the {@link TestImpactAnalysis} to be loaded.
+     */
+    private PredictionWithReason predict(Class<?> test) {
+        if (predictionTable.isPresent()) {
+            var prediction = predictionTable.get().get(test.getName(), getOutputFolder(Path.of(""), test));
+            if (prediction.isPresent()) {
+                return prediction.get();
+            }
+        }
+        return testImpactAnalysis.get().predict(test, skippyConfiguration, skippyRepository);
+    }
+
     /**
      * Informs Skippy that {@code testMethod} in {@code testClass} is about to be executed.
      * <br /><br />
@@ -191,6 +323,8 @@ public final class SkippyTestApi {
             if (false == ClassUtil.locationAvailable(testClass)) {
                 return;
             }
+            releaseRecordings(testClass);
+            pendingExecutionData.computeIfAbsent(testClass, TestClassRecording::new).methodStartTime = System.nanoTime();
             swallowJacocoExceptions(() -> {
                 IAgent agent = RT.getAgent();
                 agent.reset();
@@ -211,16 +345,58 @@ public final class SkippyTestApi {
             swallowJacocoExceptions(() -> {
                 IAgent agent = RT.getAgent();
                 if (isNestedTest()) {
-                    addExecutionDataToParent(asList(agent.getExecutionData(false)));
+                    executionDataStack.lastElement().add(AnalyzedTestMethod.LIFECYCLE, agent.getExecutionData(false));
                 }
                 agent.reset();
-                executionDataStack.push(new ArrayList<>());
+                executionDataStack.push(new TestClassRecording(testClass));
+            });
+        });
+    }
+
+    /**
+     * Informs Skippy that {@code testMethod} in {@code testClass} is about to be executed.
+     * <br /><br />
+     * Note: This method is only intended to be used by Skippy's JUnit5 library. The coverage that has been recorded
+     * since the last test method is attributed to the test class as a whole.
+     *
+     * @param testClass the test {@link Class}
+     * @param testMethod the name of the test method
+     */
+    public void beforeEach(Class<?> testClass, String testMethod) {
+        Profiler.profile("SkippyTestApi#beforeEach", () -> {
+            if (false == ClassUtil.locationAvailable(testClass) || executionDataStack.isEmpty()) {
+                return;
+            }
+            swallowJacocoExceptions(() -> {
+                IAgent agent = RT.getAgent();
+                executionDataStack.lastElement().add(AnalyzedTestMethod.LIFECYCLE, agent.getExecutionData(true));
+            });
+        });
+    }
+
+    /**
+     * Informs Skippy that {@code testMethod} in {@code testClass} has been executed.
+     * <br /><br />
+     * Note: This method is only intended to be used by Skippy's JUnit5 library.
+     *
+     * @param testClass the test {@link Class}
+     * @param testMethod the name of the test method
+     */
+    public void afterEach(Class<?> testClass, String testMethod) {
+        Profiler.profile("SkippyTestApi#afterEach", () -> {
+            if (false == ClassUtil.locationAvailable(testClass) || executionDataStack.isEmpty()) {
+                return;
+            }
+            swallowJacocoExceptions(() -> {
+                IAgent agent = RT.getAgent();
+                executionDataStack.lastElement().add(getMethodName(testMethod), agent.getExecutionData(true));
             });
         });
     }
 
     /**
-     * Informs Skippy that a test method in the test methods in the {@code testClass} has been executed.
+     * Informs Skippy that a test method in the test methods in the {@code testClass} has been executed. The execution
+     * data that has been accumulated for the {@code testClass} and the pending log statements are written.
      * <br /><br />
      * Note: This method is only intended to be used by Skippy's JUnit4 library since it does not support nested tests.
      *
@@ -234,13 +410,36 @@ public final class SkippyTestApi {
             }
             swallowJacocoExceptions(() -> {
                 IAgent agent = RT.getAgent();
-                skippyRepository.after(testClass, testMethod, agent.getExecutionData(true));
+                var recording = pendingExecutionData.computeIfAbsent(testClass, TestClassRecording::new);
+                recording.duration += System.nanoTime() - recording.methodStartTime;
+                var methodName = getMethodName(testMethod);
+                var coveredClasses = recording.add(methodName, agent.getExecutionData(true));
+                skippyRepository.afterAll(testClass, recording.executionData.toByteArray());
+                var durationMillis = NANOSECONDS.toMillis(recording.duration);
+                skippyRepository.saveDuration(testClass, durationMillis - recording.savedDurationMillis);
+                recording.savedDurationMillis = durationMillis;
+                skippyRepository.saveTestMethods(testClass, Map.of(methodName, coveredClasses), emptySet());
             });
+            LogWriter.flush();
         });
     }
 
     /**
-     * Informs Skippy that all test methods in the {@code testClass} have been executed.
+     * Informs Skippy that all test methods in the {@code testClass} have been executed. The execution data that has been
+     * accumulated for the {@code testClass} is released and the pending log statements are written.
+     * <br /><br />
+     * Note: This method is only intended to be used by Skippy's JUnit4 library since it does not support nested tests.
+     *
+     * @param testClass the test {@link Class}
+     */
+    public void afterClass(Class<?> testClass) {
+        pendingExecutionData.remove(testClass);
+        LogWriter.flush();
+    }
+
+    /**
+     * Informs Skippy that all test methods in the {@code testClass} have been executed. The execution data of the
+     * {@code testClass} and the pending log statements are written.
      *
      * @param testClass the test {@link Class}
      */
@@ -251,24 +450,97 @@ public final class SkippyTestApi {
             }
             swallowJacocoExceptions(() -> {
                 IAgent agent = RT.getAgent();
-                var executionData = executionDataStack.lastElement();
-                executionData.add(agent.getExecutionData(true));
-                skippyRepository.afterAll(testClass, mergeExecutionData(executionData));
-                executionDataStack.pop();
+                var recording = executionDataStack.pop();
+                recording.add(AnalyzedTestMethod.LIFECYCLE, agent.getExecutionData(true));
+                skippyRepository.afterAll(testClass, recording.executionData.toByteArray());
+                skippyRepository.saveDuration(testClass, NANOSECONDS.toMillis(System.nanoTime() - recording.startTime));
+                skippyRepository.saveTestMethods(testClass, recording.coveredClassesByMethod, recording.skippedMethods);
                 if (isNestedTest()) {
-                    addExecutionDataToParent(executionData);
+                    executionDataStack.lastElement().executionData.add(recording.executionData);
                 }
             });
+            LogWriter.flush();
         });
     }
 
+    /**
+     * Releases the execution data and writes the log statements that are kept in memory. This method is intended to be
+     * invoked after all tests in the current JVM have been executed.
+     */
+    public void flush() {
+        releaseRecordings(null);
+        LogWriter.flush();
+    }
+
     private boolean isNestedTest() {
         return ! executionDataStack.isEmpty();
     }
 
-    private void addExecutionDataToParent(List<byte[]> executionData) {
-        var parent = executionDataStack.lastElement();
-        parent.addAll(executionData);
+    /**
+     * Releases the recordings of all test classes except {@code currentTestClass}.
+     * <br /><br />
+     * JUnit 4 executes the test methods of a test class one after another. The recording of a test class is therefore
+     * no longer needed once a test method of another test class is about to be executed. Should a test class be
+     * executed again, its new recording is merged with the execution data that has already been written.
+     *
+     * @param currentTestClass the test class that is about to be executed (may be {@code null})
+     */
+    private void releaseRecordings(Class<?> currentTestClass) {
+        pendingExecutionData.keySet().removeIf(testClass -> testClass != currentTestClass);
+    }
+
+    /**
+     * The data that is recorded while the test methods of a test class are executed:
+     * <ul>
+     *     <li>the accumulated execution data of the test class,</li>
+     *     <li>the classes covered by the individual test methods and</li>
+     *     <li>the names of the test methods that have been skipped.</li>
+     * </ul>
+     */
+    private static final class TestClassRecording {
+
+        private final Class<?> testClass;
+        private final ExecutionDataAccumulator executionData = new ExecutionDataAccumulator();
+        private final Map<String, Set<ClassNameAndJaCoCoId>> coveredClassesByMethod = new HashMap<>();
+        private final Set<String> skippedMethods = ConcurrentHashMap.newKeySet();
+
+        // wall-clock time between beforeAll and afterAll (JUnit 5)
+        private final long startTime = System.nanoTime();
+
+        // sum of the wall-clock time between before and after (JUnit 4)
+        private long methodStartTime;
+        private long duration;
+        private long savedDurationMillis;
+
+        private TestClassRecording(Class<?> testClass) {
+            this.testClass = testClass;
+        }
+
+        private synchronized List<ClassNameAndJaCoCoId> add(String testMethod, byte[] jacocoExecutionData) {
+            executionData.add(jacocoExecutionData);
+            var coveredClasses = JacocoUtil.getCoveredClasses(jacocoExecutionData);
+            coveredClassesByMethod.computeIfAbsent(testMethod, key -> new TreeSet<>()).addAll(coveredClasses);
+            return coveredClasses;
+        }
+    }
+
+    /**
+     * The risk of a test (see {@link #getRiskBasedOrder()}).
+     *
+     * @param group {@link #CHANGED}, {@link #FAILED_PREVIOUSLY} or {@link #OTHER}
+     * @param duration the duration of the test's last execution in milliseconds or {@link Long#MAX_VALUE} if unknown
+     */
+    private record Risk(int group, long duration) implements Comparable<Risk> {
+
+        private static final int CHANGED = 0;
+        private static final int FAILED_PREVIOUSLY = 1;
+        private static final int OTHER = 2;
+
+        @Override
+        public int compareTo(Risk other) {
+            var result = Integer.compare(group, other.group);
+            return result != 0 ? result : Long.compare(duration, other.duration);
+        }
     }
 
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import java.nio.file.Path;
+
+/**
+ * The wall-clock duration of the last execution of a test.
+ * <br /><br />
+ * Durations are not part of the {@link TestImpactAnalysis}: They change with every execution and would change the id
+ * of the {@link TestImpactAnalysis} in every build. Instead, they are kept in the build directory and passed to the
+ * test JVMs via the {@link PredictionTable}.
+ *
+ * @param className the test's class name (e.g., com.example.FooTest)
+ * @param outputFolder the test's output folder relative to the project folder (e.g., build/classes/java/test)
+ * @param durationMillis the duration in milliseconds
+ *
+ * @author Florian McKee
+ */
+record TestDuration(String className, Path outputFolder, long durationMillis) {
+
+    /**
+     * Parses a line that has been generated by {@link #toLine()}.
+     *
+     * @param line a line that has been generated by {@link #toLine()}
+     * @return the parsed {@link TestDuration}
+     */
+    static TestDuration parse(String line) {
+        var tokens = line.split("\t");
+        if (tokens.length != 3) {
+            throw new IllegalStateException("Unable to parse line '%s' in test durations.".formatted(line));
+        }
+        return new TestDuration(tokens[0], Path.of(tokens[1]), Long.parseLong(tokens[2]));
+    }
+
+    /**
+     * Returns a tab-separated representation of this instance.
+     *
+     * @return a tab-separated representation of this instance
+     */
+    String toLine() {
+        return "%s\t%s\t%s".formatted(className, outputFolder, durationMillis);
+    }
+
+}
@@ -16,16 +16,27 @@
 
 package io.skippy.core;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.*;
+import java.util.stream.IntStream;
 
 import static io.skippy.core.Reason.Category.*;
 import static io.skippy.core.HashUtil.hashWith32Digits;
 import static io.skippy.core.ClassUtil.getOutputFolder;
 import static java.lang.System.lineSeparator;
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.joining;
+import static java.util.Collections.emptySet;
 
 /**
  * The data and logic that allows Skippy to make test-or-execute predictions.
@@ -86,9 +97,19 @@ import static java.util.stream.Collectors.joining;
  */
 public final class TestImpactAnalysis {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String ID_PLACEHOLDER = "0".repeat(32);
+    private static final int[] NO_IDS = new int[0];
+
     static final TestImpactAnalysis NOT_FOUND = new TestImpactAnalysis(ClassFileContainer.from(emptyList()), emptyList());
-    private final ClassFileContainer classFileContainer;
-    private final List<AnalyzedTest> analyzedTests;
+    private ClassFileContainer classFileContainer;
+    private List<AnalyzedTest> analyzedTests;
+    private final BinaryFormat.View view;
+    private String id;
+
+    // indexes for the prediction hot path (only used if the instance is not backed by a view)
+    private final AnalyzedTest[] analyzedTestsByClassId;
+    private final Map<String, int[]> testClassIdsByClassName;
 
     /**
      * Creates a new instance.
@@ -99,28 +120,89 @@ public final class TestImpactAnalysis {
     TestImpactAnalysis(ClassFileContainer classFileContainer, List<AnalyzedTest> analyzedTests) {
         this.classFileContainer = classFileContainer;
         this.analyzedTests = analyzedTests.stream().sorted().toList();
+        this.view = null;
+        this.analyzedTestsByClassId = indexByClassId(this.analyzedTests);
+        this.testClassIdsByClassName = indexByClassName(classFileContainer, this.analyzedTests);
+    }
+
+    private static AnalyzedTest[] indexByClassId(List<AnalyzedTest> analyzedTests) {
+        var maxTestClassId = analyzedTests.stream().mapToInt(AnalyzedTest::getTestClassId).max().orElse(-1);
+        var result = new AnalyzedTest[maxTestClassId + 1];
+        for (var analyzedTest : analyzedTests) {
+            if (result[analyzedTest.getTestClassId()] == null) {
+                result[analyzedTest.getTestClassId()] = analyzedTest;
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, int[]> indexByClassName(ClassFileContainer classFileContainer, List<AnalyzedTest> analyzedTests) {
+        var result = new HashMap<String, int[]>();
+        for (var analyzedTest : analyzedTests) {
+            var className = classFileContainer.getById(analyzedTest.getTestClassId()).getClassName();
+            var testClassIds = result.get(className);
+            if (testClassIds == null) {
+                result.put(className, new int[] { analyzedTest.getTestClassId() });
+            } else {
+                var extended = Arrays.copyOf(testClassIds, testClassIds.length + 1);
+                extended[testClassIds.length] = analyzedTest.getTestClassId();
+                result.put(className, extended);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new instance that is backed by the binary representation of a {@link TestImpactAnalysis}.
+     * <br /><br />
+     * Predictions only decode the {@link AnalyzedTest}s and {@link ClassFile}s they need. Everything else is decoded
+     * the first time the {@link ClassFileContainer} or the list of {@link AnalyzedTest}s is requested.
+     *
+     * @param view a {@link BinaryFormat.View}
+     */
+    TestImpactAnalysis(BinaryFormat.View view) {
+        this.view = view;
+        this.id = view.getId();
+        this.analyzedTestsByClassId = null;
+        this.testClassIdsByClassName = null;
     }
 
     ClassFileContainer getClassFileContainer() {
+        materialize();
         return classFileContainer;
     }
 
     List<AnalyzedTest> getAnalyzedTests() {
+        materialize();
         return analyzedTests;
     }
 
+    private synchronized void materialize() {
+        if (analyzedTests == null) {
+            classFileContainer = view.toClassFileContainer();
+            analyzedTests = view.toAnalyzedTests();
+        }
+    }
+
     /**
      * Returns a unique identifier for this instance.
+     * <br /><br />
+     * The id is computed at most once (either on demand or as a by-product of {@link #writeJson(WritableByteChannel)})
+     * and cached afterward.
      *
      * @return a unique identifier for this instance
      */
     public String getId() {
-        var builder = new StringBuilder();
-        builder.append(classFileContainer.toJson());
-        for (var analyzedTest : analyzedTests) {
-            builder.append(analyzedTest.toJson());
+        if (id == null) {
+            id = computeId();
         }
-        return hashWith32Digits(builder.toString().getBytes(StandardCharsets.UTF_8));
+        return id;
+    }
+
+    private String computeId() {
+        var digest = HashUtil.newDigest();
+        writeJsonFragments(new JsonOutput(OutputStream.nullOutputStream(), digest));
+        return hashWith32Digits(digest);
     }
 
     /**
@@ -134,19 +216,16 @@ public final class TestImpactAnalysis {
     PredictionWithReason predict(Class<?> testClazz, SkippyConfiguration configuration, SkippyRepository skippyRepository) {
         return Profiler.profile("TestImpactAnalysis#predict", () -> {
             try {
-                if (NOT_FOUND.equals(this)) {
+                if (isEmpty()) {
                     return PredictionWithReason.execute(new Reason(TEST_IMPACT_ANALYSIS_NOT_FOUND, Optional.empty()));
                 }
-                var maybeAnalyzedTest = classFileContainer.getAnalyzedTestForTestClass(testClazz, analyzedTests);
+                var maybeAnalyzedTest = findAnalyzedTest(testClazz, skippyRepository);
 
                 if (maybeAnalyzedTest.isEmpty()) {
                     return PredictionWithReason.execute(new Reason(NO_IMPACT_DATA_FOUND_FOR_TEST, Optional.empty()));
                 }
                 var analyzedTest = maybeAnalyzedTest.get();
-                var testClass = classFileContainer.getById(analyzedTest.getTestClassId());
-
-                var classFileLocation = getOutputFolder(Path.of(""), testClazz);
-                skippyRepository.log("Mapping class %s/%s to AnalyzedTest[%s/%s]".formatted(classFileLocation, testClazz.getName(), testClass.getOutputFolder(), testClass.getClassName()));
+                var testClass = getClassFile(analyzedTest.getTestClassId());
 
                 if (analyzedTest.isTaggedAs(TestTag.FAILED)) {
                     return PredictionWithReason.execute(new Reason(TEST_FAILED_PREVIOUSLY, Optional.empty()));
@@ -173,26 +252,9 @@ public final class TestImpactAnalysis {
                         }
                     }
                 }
-                for (var coveredClassId : analyzedTest.getCoveredClassesIds()) {
-                    var coveredClass = classFileContainer.getById(coveredClassId);
-                    if (coveredClass.classFileNotFound()) {
-                        continue;
-                    }
-                    if (coveredClass.hasChanged()) {
-                        return PredictionWithReason.execute(new Reason(BYTECODE_CHANGE_IN_COVERED_CLASS, Optional.of("covered class: %s".formatted(coveredClass.getClassName()))));
-                    }
-                    var maybeCoveredTest = analyzedTests.stream()
-                            .filter(test -> test.getTestClassId() == coveredClassId)
-                            .findFirst();
-                    if (maybeCoveredTest.isPresent()) {
-                        var coveredTest = maybeCoveredTest.get();
-                        if (coveredTest.isTaggedAs(TestTag.FAILED)) {
-                            return PredictionWithReason.execute(new Reason(COVERED_TEST_TAGGED_AS_FAILED, Optional.of("covered test: %s".formatted(coveredClass.getClassName()))));
-                        }
-                        if (coveredTest.isTaggedAs(TestTag.ALWAYS_EXECUTE)) {
-                            return PredictionWithReason.execute(new Reason(COVERED_TEST_TAGGED_AS_ALWAYS_EXECUTE, Optional.of("covered test: %s".formatted(coveredClass.getClassName()))));
-                        }
-                    }
+                var executionTrigger = findExecutionTrigger(analyzedTest.getTestClassId(), analyzedTest.getCoveredClasses(), analyzedTest.getExecutedMethods());
+                if (executionTrigger.isPresent()) {
+                    return PredictionWithReason.execute(executionTrigger.get());
                 }
                 return PredictionWithReason.skip(new Reason(NO_CHANGE, Optional.empty()));
             } catch (Exception e) {
@@ -202,13 +264,336 @@ public final class TestImpactAnalysis {
         });
     }
 
+    /**
+     * Makes a skip-or-execute prediction for a single test method in a test class that has to be executed due to a
+     * change in one of its covered classes (see {@link #supportsMethodLevelPredictions(Reason)}).
+     * <br /><br />
+     * The test method is skipped if neither the classes covered by the method nor the classes covered outside of test
+     * methods (see {@link AnalyzedTestMethod#LIFECYCLE}) require execution. Test methods without per-method data are
+     * always executed.
+     * <br /><br />
+     * For a test that failed previously, only the test methods that have failed (see
+     * {@link AnalyzedTest#getFailedMethods()}) are executed unless the test itself or one of the classes covered by a
+     * test method requires execution.
+     *
+     * @param testClazz the test's {@link Class} object
+     * @param testMethod the name of the test method
+     * @param skippyRepository the {@link SkippyRepository}, must no tbe null
+     * @return a skip-or-execute prediction for the test method
+     */
+    PredictionWithReason predictMethod(Class<?> testClazz, String testMethod, SkippyRepository skippyRepository) {
+        return Profiler.profile("TestImpactAnalysis#predictMethod", () -> {
+            var maybeAnalyzedTest = findAnalyzedTest(testClazz, skippyRepository);
+            if (maybeAnalyzedTest.isPresent() && maybeAnalyzedTest.get().isTaggedAs(TestTag.FAILED)) {
+                var failedTestTrigger = findExecutionTriggerForFailedTest(maybeAnalyzedTest.get(), testMethod);
+                if (failedTestTrigger.isPresent()) {
+                    return PredictionWithReason.execute(failedTestTrigger.get());
+                }
+            }
+            var maybeMethod = maybeAnalyzedTest.flatMap(analyzedTest -> analyzedTest.getMethod(testMethod));
+            if (maybeMethod.isEmpty()) {
+                return PredictionWithReason.execute(new Reason(NO_IMPACT_DATA_FOUND_FOR_TEST, Optional.of("test method: %s".formatted(testMethod))));
+            }
+            var lifecycle = maybeAnalyzedTest.get().getMethod(AnalyzedTestMethod.LIFECYCLE);
+            if (lifecycle.isPresent()) {
+                var executionTrigger = findExecutionTrigger(maybeAnalyzedTest.get().getTestClassId(), lifecycle.get().coveredClasses(), maybeAnalyzedTest.get().getExecutedMethods());
+                if (executionTrigger.isPresent()) {
+                    return PredictionWithReason.execute(executionTrigger.get());
+                }
+            }
+            var executionTrigger = findExecutionTrigger(maybeAnalyzedTest.get().getTestClassId(), maybeMethod.get().coveredClasses(), maybeAnalyzedTest.get().getExecutedMethods());
+            if (executionTrigger.isPresent()) {
+                return PredictionWithReason.execute(executionTrigger.get());
+            }
+            return PredictionWithReason.skip(new Reason(NO_CHANGE, Optional.empty()));
+        });
+    }
+
+    /**
+     * Returns the reason why the {@code testMethod} of a test that failed previously has to be executed regardless of
+     * the classes it covers (if any).
+     */
+    private Optional<Reason> findExecutionTriggerForFailedTest(AnalyzedTest analyzedTest, String testMethod) {
+        if (analyzedTest.getFailedMethods().isEmpty() || analyzedTest.getFailedMethods().contains(testMethod)) {
+            return Optional.of(new Reason(TEST_FAILED_PREVIOUSLY, Optional.empty()));
+        }
+        if (analyzedTest.isTaggedAs(TestTag.ALWAYS_EXECUTE)) {
+            return Optional.of(new Reason(TEST_TAGGED_AS_ALWAYS_EXECUTE, Optional.empty()));
+        }
+        var testClass = getClassFile(analyzedTest.getTestClassId());
+        if (testClass.classFileNotFound()) {
+            return Optional.of(new Reason(TEST_CLASS_CLASS_FILE_NOT_FOUND, Optional.of("test class file: %s".formatted(testClass.getPath().toString()))));
+        }
+        if (testClass.hasChanged()) {
+            return Optional.of(new Reason(BYTECODE_CHANGE_IN_TEST, Optional.empty()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns {@code true} if a test class that has to be executed for the given {@code reason} can be narrowed down
+     * to individual test methods via {@link #predictMethod(Class, String, SkippyRepository)}, {@code false} otherwise.
+     *
+     * @param reason the {@link Reason} for the execution of a test class
+     * @return {@code true} if the execution can be narrowed down to individual test methods, {@code false} otherwise
+     */
+    static boolean supportsMethodLevelPredictions(Reason reason) {
+        switch (reason.category()) {
+            case TEST_FAILED_PREVIOUSLY:
+            case BYTECODE_CHANGE_IN_COVERED_CLASS:
+            case COVERED_TEST_TAGGED_AS_FAILED:
+            case COVERED_TEST_TAGGED_AS_ALWAYS_EXECUTE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the reason why a test that covers the {@code coveredClasses} has to be executed (if any).
+     * <br /><br />
+     * A change in a covered class only triggers the execution if it affects the structure of the class or one of the
+     * {@code executedMethods} (see {@link #affectsExecutedMethods(BitSet, int[])}). The tags of the test itself are
+     * ignored: A test that failed previously covers itself.
+     */
+    private Optional<Reason> findExecutionTrigger(int testClassId, ClassIdSet coveredClasses, ExecutedMethods executedMethods) {
+        for (int i = 0; i < coveredClasses.size(); i++) {
+            var coveredClassId = coveredClasses.get(i);
+            var coveredClass = getClassFile(coveredClassId);
+            if (coveredClass.classFileNotFound()) {
+                continue;
+            }
+            if (coveredClass.hasChanged() && affectsExecutedMethods(coveredClass, executedMethods.get(coveredClassId))) {
+                return Optional.of(new Reason(BYTECODE_CHANGE_IN_COVERED_CLASS, Optional.of("covered class: %s".formatted(coveredClass.getClassName()))));
+            }
+            var maybeCoveredTest = coveredClassId == testClassId ? Optional.<AnalyzedTest>empty() : findAnalyzedTestByClassId(coveredClassId);
+            if (maybeCoveredTest.isPresent()) {
+                var coveredTest = maybeCoveredTest.get();
+                if (coveredTest.isTaggedAs(TestTag.FAILED)) {
+                    return Optional.of(new Reason(COVERED_TEST_TAGGED_AS_FAILED, Optional.of("covered test: %s".formatted(coveredClass.getClassName()))));
+                }
+                if (coveredTest.isTaggedAs(TestTag.ALWAYS_EXECUTE)) {
+                    return Optional.of(new Reason(COVERED_TEST_TAGGED_AS_ALWAYS_EXECUTE, Optional.of("covered test: %s".formatted(coveredClass.getClassName()))));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean affectsExecutedMethods(ClassFile changedClass, int[] executedMethods) {
+        if (executedMethods == null) {
+            return true;
+        }
+        return affectsExecutedMethods(changedClass.getChangedMethods().orElse(null), executedMethods);
+    }
+
+    /**
+     * Returns {@code true} if a change in a covered class affects a test that executed the {@code executedMethods}.
+     *
+     * @param changedMethods the indexes of the changed methods or {@code null} if the structure of the class has
+     *                       changed or no method-level data is available (see {@link ClassFile#getChangedMethods()})
+     * @param executedMethods the indexes of the methods executed by the test or {@code null} if unknown
+     * @return {@code true} if the change affects the test, {@code false} otherwise
+     */
+    private static boolean affectsExecutedMethods(BitSet changedMethods, int[] executedMethods) {
+        if (changedMethods == null || executedMethods == null) {
+            return true;
+        }
+        for (var executedMethod : executedMethods) {
+            if (changedMethods.get(executedMethod)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Makes skip-or-execute predictions for all {@link AnalyzedTest}s at once.
+     * <br /><br />
+     * The state of each class file (not found / changed / unchanged) is computed exactly once, in parallel. Together
+     * with bitsets for failed and always-execute tests, this allows the tests to be evaluated in parallel without any
+     * further I/O (except for the validation of JaCoCo execution data if
+     * {@link SkippyConfiguration#generateCoverageForSkippedTests()} is enabled).
+     * <br /><br />
+     * The predictions (including the {@link Reason}s) are identical to the ones made by
+     * {@link #predict(Class, SkippyConfiguration, SkippyRepository)}.
+     *
+     * @param configuration the {@link SkippyConfiguration}, must not be null
+     * @param skippyRepository the {@link SkippyRepository}, must not be null
+     * @return the predictions for all {@link AnalyzedTest}s keyed by the test's {@link ClassFile} (in the order of
+     *         the {@link AnalyzedTest}s)
+     */
+    Map<ClassFile, PredictionWithReason> predictAll(SkippyConfiguration configuration, SkippyRepository skippyRepository) {
+        return Profiler.profile("TestImpactAnalysis#predictAll", () -> {
+            var classFileContainer = getClassFileContainer();
+            var analyzedTests = getAnalyzedTests();
+            var classFileCount = classFileContainer.getClassFiles().size();
+
+            // each element is written by exactly one thread
+            var notFound = new boolean[classFileCount];
+            var changed = new boolean[classFileCount];
+            var changedMethods = new BitSet[classFileCount];
+            IntStream.range(0, classFileCount).parallel().forEach(id -> {
+                var classFile = classFileContainer.getById(id);
+                if (classFile.classFileNotFound()) {
+                    notFound[id] = true;
+                } else {
+                    changed[id] = classFile.hasChanged();
+                    if (changed[id]) {
+                        changedMethods[id] = classFile.getChangedMethods().orElse(null);
+                    }
+                }
+            });
+
+            var failedTests = new BitSet(classFileCount);
+            var alwaysExecuteTests = new BitSet(classFileCount);
+            for (var analyzedTest : analyzedTests) {
+                if (analyzedTest.isTaggedAs(TestTag.FAILED)) {
+                    failedTests.set(analyzedTest.getTestClassId());
+                }
+                if (analyzedTest.isTaggedAs(TestTag.ALWAYS_EXECUTE)) {
+                    alwaysExecuteTests.set(analyzedTest.getTestClassId());
+                }
+            }
+
+            // covered classes that enforce execution: changed classes and failed / always-execute tests that exist
+            var executionTriggers = new BitSet(classFileCount);
+            executionTriggers.or(failedTests);
+            executionTriggers.or(alwaysExecuteTests);
+            for (int id = 0; id < classFileCount; id++) {
+                if (notFound[id]) {
+                    executionTriggers.clear(id);
+                }
+                if (changed[id]) {
+                    executionTriggers.set(id);
+                }
+            }
+
+            var classStates = new ClassStates(notFound, changed, changedMethods, failedTests, alwaysExecuteTests, executionTriggers);
+            var predictions = new PredictionWithReason[analyzedTests.size()];
+            IntStream.range(0, analyzedTests.size()).parallel().forEach(i ->
+                    predictions[i] = predict(analyzedTests.get(i), classFileContainer, classStates, configuration, skippyRepository)
+            );
+            var result = new LinkedHashMap<ClassFile, PredictionWithReason>();
+            for (int i = 0; i < analyzedTests.size(); i++) {
+                result.put(classFileContainer.getById(analyzedTests.get(i).getTestClassId()), predictions[i]);
+            }
+            return result;
+        });
+    }
+
+    private record ClassStates(boolean[] notFound, boolean[] changed, BitSet[] changedMethods, BitSet failedTests, BitSet alwaysExecuteTests, BitSet executionTriggers) {}
+
+    private static PredictionWithReason predict(AnalyzedTest analyzedTest, ClassFileContainer classFileContainer, ClassStates classStates, SkippyConfiguration configuration, SkippyRepository skippyRepository) {
+        var testClassId = analyzedTest.getTestClassId();
+        if (analyzedTest.isTaggedAs(TestTag.FAILED)) {
+            return PredictionWithReason.execute(new Reason(TEST_FAILED_PREVIOUSLY, Optional.empty()));
+        }
+        if (analyzedTest.isTaggedAs(TestTag.ALWAYS_EXECUTE)) {
+            return PredictionWithReason.execute(new Reason(TEST_TAGGED_AS_ALWAYS_EXECUTE, Optional.empty()));
+        }
+        if (classStates.notFound()[testClassId]) {
+            var testClass = classFileContainer.getById(testClassId);
+            return PredictionWithReason.execute(new Reason(TEST_CLASS_CLASS_FILE_NOT_FOUND, Optional.of("test class file: %s".formatted(testClass.getPath().toString()))));
+        }
+        if (classStates.changed()[testClassId]) {
+            return PredictionWithReason.execute(new Reason(BYTECODE_CHANGE_IN_TEST, Optional.empty()));
+        }
+        if (configuration.generateCoverageForSkippedTests()) {
+            if (analyzedTest.getExecutionId().isEmpty()) {
+                return PredictionWithReason.execute(new Reason(MISSING_EXECUTION_ID, Optional.empty()));
+            }
+            if (skippyRepository.readJacocoExecutionData(analyzedTest.getExecutionId().get()).isEmpty()) {
+                return PredictionWithReason.execute(new Reason(UNABLE_TO_READ_EXECUTION_DATA, Optional.empty()));
+            }
+        }
+        var coveredClasses = analyzedTest.getCoveredClasses();
+        for (int i = 0; i < coveredClasses.size(); i++) {
+            var coveredClassId = coveredClasses.get(i);
+            if (false == classStates.executionTriggers().get(coveredClassId)) {
+                continue;
+            }
+            var coveredClass = classFileContainer.getById(coveredClassId);
+            if (classStates.changed()[coveredClassId] && affectsExecutedMethods(classStates.changedMethods()[coveredClassId], analyzedTest.getExecutedMethods().get(coveredClassId))) {
+                return PredictionWithReason.execute(new Reason(BYTECODE_CHANGE_IN_COVERED_CLASS, Optional.of("covered class: %s".formatted(coveredClass.getClassName()))));
+            }
+            if (classStates.failedTests().get(coveredClassId)) {
+                return PredictionWithReason.execute(new Reason(COVERED_TEST_TAGGED_AS_FAILED, Optional.of("covered test: %s".formatted(coveredClass.getClassName()))));
+            }
+            if (classStates.alwaysExecuteTests().get(coveredClassId)) {
+                return PredictionWithReason.execute(new Reason(COVERED_TEST_TAGGED_AS_ALWAYS_EXECUTE, Optional.of("covered test: %s".formatted(coveredClass.getClassName()))));
+            }
+        }
+        return PredictionWithReason.skip(new Reason(NO_CHANGE, Optional.empty()));
+    }
+
+    private boolean isEmpty() {
+        if (view != null) {
+            return view.getClassFileCount() == 0 && view.getAnalyzedTestCount() == 0;
+        }
+        return classFileContainer.getClassFiles().isEmpty() && analyzedTests.isEmpty();
+    }
+
+    /**
+     * Finds the {@link AnalyzedTest} for the {@code testClazz} and logs the mapping. If there are multiple analyzed
+     * tests with the same class name (e.g., in different output folders), the output folder of the {@code testClazz}
+     * is used to pick the right one.
+     */
+    private Optional<AnalyzedTest> findAnalyzedTest(Class<?> testClazz, SkippyRepository skippyRepository) {
+        var testClassIds = findTestClassIds(testClazz.getName());
+        if (testClassIds.length == 0) {
+            return Optional.empty();
+        }
+        if (testClassIds.length == 1) {
+            return logMapping(testClazz, testClassIds[0], skippyRepository);
+        }
+        var outputFolder = getOutputFolder(Path.of("."), testClazz);
+        for (var testClassId : testClassIds) {
+            if (getClassFile(testClassId).getOutputFolder().equals(outputFolder)) {
+                return logMapping(testClazz, testClassId, skippyRepository);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<AnalyzedTest> logMapping(Class<?> testClazz, int testClassId, SkippyRepository skippyRepository) {
+        var testClass = getClassFile(testClassId);
+        var classFileLocation = getOutputFolder(Path.of(""), testClazz);
+        skippyRepository.log("Mapping class %s/%s to AnalyzedTest[%s/%s]".formatted(classFileLocation, testClazz.getName(), testClass.getOutputFolder(), testClass.getClassName()));
+        return findAnalyzedTestByClassId(testClassId);
+    }
+
+    private int[] findTestClassIds(String className) {
+        if (view != null) {
+            return view.findTestClassIds(className);
+        }
+        return testClassIdsByClassName.getOrDefault(className, NO_IDS);
+    }
+
+    private Optional<AnalyzedTest> findAnalyzedTestByClassId(int testClassId) {
+        if (view != null) {
+            return view.findAnalyzedTestByClassId(testClassId);
+        }
+        if (testClassId < 0 || testClassId >= analyzedTestsByClassId.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(analyzedTestsByClassId[testClassId]);
+    }
+
+    private ClassFile getClassFile(int id) {
+        if (view != null) {
+            return view.getClassFile(id);
+        }
+        return classFileContainer.getById(id);
+    }
+
     /**
      * Returns the Jacoco execution ids from the {@link AnalyzedTest}s.
      *
      * @return the Jacoco execution ids from the {@link AnalyzedTest}s
      */
     List<String> getExecutionIds() {
-        return analyzedTests.stream().flatMap(analyzedTest -> analyzedTest.getExecutionId().stream()).toList();
+        return getAnalyzedTests().stream().flatMap(analyzedTest -> analyzedTest.getExecutionId().stream()).toList();
     }
 
     /**
@@ -218,72 +603,238 @@ public final class TestImpactAnalysis {
      * @return the {@link TestImpactAnalysis} represented by the JSON string.
      */
     public static TestImpactAnalysis parse(String jsonString) {
-        return Profiler.profile("TestImpactAnalysis#parse", () -> parse(new Tokenizer(jsonString)));
+        return parse(jsonString.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a {@link TestImpactAnalysis} from UTF-8 encoded JSON.
+     * <br /><br />
+     * This is the preferred method when the JSON is read from a file since it avoids decoding the entire document
+     * into a {@link String}.
+     *
+     * @param json the UTF-8 encoded JSON representation of a {@link TestImpactAnalysis}
+     * @return the {@link TestImpactAnalysis} represented by the JSON
+     */
+    public static TestImpactAnalysis parse(byte[] json) {
+        return Profiler.profile("TestImpactAnalysis#parse", () -> parse(new Tokenizer(json)));
     }
 
+    private static final byte[][] JSON_KEYS = Tokenizer.keys("id", "classes", "tests");
+    private static final int ID = 0;
+    private static final int CLASSES = 1;
+    private static final int TESTS = 2;
+
     private static TestImpactAnalysis parse(Tokenizer tokenizer) {
         tokenizer.skip('{');
         ClassFileContainer classFileContainer = null;
         List<AnalyzedTest> analyzedTests = null;
-        while (classFileContainer == null || analyzedTests == null) {
-            var key = tokenizer.next();
+        while (true) {
+            var key = tokenizer.nextKey(JSON_KEYS);
             tokenizer.skip(':');
             switch (key) {
-                case "id":
+                case ID:
                     tokenizer.next();
                     break;
-                case "classes":
+                case CLASSES:
                     classFileContainer = ClassFileContainer.parse(tokenizer);
                     break;
-                case "tests":
+                case TESTS:
                     analyzedTests = AnalyzedTest.parseList(tokenizer);
                     break;
+                default:
+                    tokenizer.skipValue();
             }
-            if (classFileContainer == null || analyzedTests == null) {
-                tokenizer.skip(',');
+            tokenizer.skipIfNext(',');
+            if (tokenizer.peek('}')) {
+                tokenizer.skip('}');
+                break;
             }
         }
-        tokenizer.skip('}');
+        if (classFileContainer == null || analyzedTests == null) {
+            throw new IllegalStateException("Test impact analysis without classes or tests.");
+        }
         return new TestImpactAnalysis(classFileContainer, analyzedTests);
     }
 
+    /**
+     * Creates a {@link TestImpactAnalysis} from its binary representation (see {@link #writeBinary(WritableByteChannel)}).
+     * <br /><br />
+     * The {@code buffer} is typically a {@link java.nio.MappedByteBuffer}. Its position is not modified. The returned
+     * instance is backed by the {@code buffer} and decodes data on demand: Predictions for a handful of tests only
+     * touch the data for those tests.
+     *
+     * @param buffer a buffer that contains the binary representation of a {@link TestImpactAnalysis}
+     * @return the {@link TestImpactAnalysis} represented by the buffer
+     */
+    public static TestImpactAnalysis parseBinary(ByteBuffer buffer) {
+        return Profiler.profile("TestImpactAnalysis#parseBinary", () -> BinaryFormat.read(buffer));
+    }
+
+    /**
+     * Returns the id of the {@link TestImpactAnalysis} in the {@code buffer} without decoding anything else.
+     * <br /><br />
+     * Callers should check the id before they invoke {@link #parseBinary(ByteBuffer)}: The result is empty if the
+     * binary representation has been written by a different version of Skippy or has been truncated.
+     *
+     * @param buffer a buffer that contains the binary representation of a {@link TestImpactAnalysis}
+     * @return the id of the {@link TestImpactAnalysis} or {@link Optional#empty()} if the data can't be read
+     */
+    public static Optional<String> readBinaryId(ByteBuffer buffer) {
+        return BinaryFormat.readId(buffer);
+    }
+
+    /**
+     * Writes a compact binary representation of this instance to the {@code channel}. The binary representation is
+     * much cheaper to load than the JSON representation, while the latter remains available for debugging purposes.
+     *
+     * @param channel the target channel (will not be closed)
+     */
+    public void writeBinary(WritableByteChannel channel) {
+        try {
+            BinaryFormat.write(this, channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write test impact analysis %s: %s.".formatted(getId(), e), e);
+        }
+    }
+
     /**
      * Renders this instance as JSON string.
      *
      * @return this instance as JSON string
      */
     public String toJson() {
-        return """
-            {
-                "id": "%s",
-                "classes": %s,
-                "tests": [
-            %s
-                ]
-            }""".formatted(
-                getId(),
-                classFileContainer.toJson(),
-                analyzedTests.stream().map(c -> c.toJson()).collect(joining("," + lineSeparator())
-            )
-        );
+        var result = new ByteArrayOutputStream();
+        writeJson(Channels.newChannel(result));
+        return result.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Streams the JSON representation of this instance to the {@code channel} without materializing it in memory.
+     * <br /><br />
+     * If the id of this instance hasn't been computed yet and the {@code channel} is a {@link SeekableByteChannel}
+     * (e.g., a {@link java.nio.channels.FileChannel}), the id is computed while writing and patched into the output
+     * afterward. Otherwise, the id is computed before the JSON is written.
+     *
+     * @param channel the target channel (will not be closed)
+     */
+    public void writeJson(WritableByteChannel channel) {
+        try {
+            var seekableChannel = channel instanceof SeekableByteChannel seekable ? seekable : null;
+            if (id == null && seekableChannel == null) {
+                getId();
+            }
+            var digest = id == null ? HashUtil.newDigest() : null;
+            var start = seekableChannel != null ? seekableChannel.position() : 0;
+            var output = new JsonOutput(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), digest);
+            output.separator("{\n    \"id\": \"");
+            var idPosition = start + output.size();
+            output.separator(id != null ? id : ID_PLACEHOLDER);
+            output.separator("\",\n    \"classes\": ");
+            writeJsonFragments(output);
+            output.separator("\n    ]\n}");
+            output.flush();
+            if (digest != null) {
+                id = hashWith32Digits(digest);
+                var end = seekableChannel.position();
+                seekableChannel.position(idPosition);
+                var idBuffer = ByteBuffer.wrap(id.getBytes(StandardCharsets.UTF_8));
+                while (idBuffer.hasRemaining()) {
+                    seekableChannel.write(idBuffer);
+                }
+                seekableChannel.position(end);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write test impact analysis: %s.".formatted(e), e);
+        }
+    }
+
+    /**
+     * Writes the part of the JSON representation that starts with the value of "classes". The fragments that
+     * constitute the id of this instance are fed into the {@link JsonOutput}'s digest.
+     */
+    private void writeJsonFragments(JsonOutput output) {
+        getClassFileContainer().toJson(output::content);
+        output.separator(",\n    \"tests\": [\n");
+        var analyzedTests = getAnalyzedTests();
+        for (int i = 0; i < analyzedTests.size(); i++) {
+            if (i > 0) {
+                output.separator("," + lineSeparator());
+            }
+            output.content(analyzedTests.get(i).toJson());
+        }
+    }
+
+    /**
+     * Sink for JSON fragments that optionally feeds the content (but not the separators) into a digest.
+     */
+    private static final class JsonOutput {
+
+        private final OutputStream out;
+        private final MessageDigest digest;
+        private long size = 0;
+
+        JsonOutput(OutputStream out, MessageDigest digest) {
+            this.out = out;
+            this.digest = digest;
+        }
+
+        void content(String fragment) {
+            var bytes = fragment.getBytes(StandardCharsets.UTF_8);
+            if (digest != null) {
+                digest.update(bytes);
+            }
+            write(bytes);
+        }
+
+        void separator(String fragment) {
+            write(fragment.getBytes(StandardCharsets.UTF_8));
+        }
+
+        long size() {
+            return size;
+        }
+
+        void flush() throws IOException {
+            out.flush();
+        }
+
+        private void write(byte[] bytes) {
+            try {
+                out.write(bytes);
+                size += bytes.length;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to write JSON fragment: %s.".formatted(e), e);
+            }
+        }
     }
 
     /**
      * Merges two {@link TestImpactAnalysis} instances to support incremental updates of the data in the Skippy folder.
+     * <br /><br />
+     * If only some of the test methods in a test class have been executed, the data for the skipped test methods (see
+     * {@link AnalyzedTest#getSkippedMethods()}) is carried over from this instance.
      *
      * @param other a {@link TestImpactAnalysis} instance that will be merged with this instance
      * @return a new instance that represents the merge of this and the {@code other} instance
      */
     TestImpactAnalysis merge(TestImpactAnalysis other) {
         return Profiler.profile("TestImpactAnalysis#merge", () -> {
-            var mergedClassFileContainer = classFileContainer.merge(other.getClassFileContainer());
+            var mergedClassFileContainer = getClassFileContainer().merge(other.getClassFileContainer());
+            var existingTests = new HashMap<Integer, AnalyzedTest>();
+            for (var analyzedTest : this.getAnalyzedTests()) {
+                var remappedTest = remap(analyzedTest, this.getClassFileContainer(), mergedClassFileContainer);
+                existingTests.putIfAbsent(remappedTest.getTestClassId(), remappedTest);
+            }
             var remappedTests = new TreeSet<AnalyzedTest>();
-            for (var analyzedTest : other.analyzedTests) {
-                var remappedTest = remap(analyzedTest, other.classFileContainer, mergedClassFileContainer);
+            for (var analyzedTest : other.getAnalyzedTests()) {
+                var remappedTest = remap(analyzedTest, other.getClassFileContainer(), mergedClassFileContainer);
+                var existingTest = existingTests.get(remappedTest.getTestClassId());
+                if (existingTest != null && false == remappedTest.getSkippedMethods().isEmpty()) {
+                    remappedTest = carryOverSkippedMethods(remappedTest, existingTest);
+                }
                 remappedTests.add(remappedTest);
             }
-            for (var analyzedTest : this.analyzedTests) {
-                var remappedTest = remap(analyzedTest, this.classFileContainer, mergedClassFileContainer);
+            for (var remappedTest : existingTests.values()) {
                 if (false == remappedTests.contains(remappedTest)) {
                     remappedTests.add(remappedTest);
                 }
@@ -292,12 +843,74 @@ public final class TestImpactAnalysis {
         });
     }
 
+    private static AnalyzedTest carryOverSkippedMethods(AnalyzedTest analyzedTest, AnalyzedTest existingTest) {
+        var methods = new ArrayList<>(analyzedTest.getMethods());
+        var coveredClasses = new ClassIdSet.Builder();
+        analyzedTest.getCoveredClasses().forEach(coveredClasses::add);
+        for (var skippedMethod : analyzedTest.getSkippedMethods()) {
+            var existingMethod = existingTest.getMethod(skippedMethod);
+            if (existingMethod.isPresent() && analyzedTest.getMethod(skippedMethod).isEmpty()) {
+                methods.add(existingMethod.get());
+                existingMethod.get().coveredClasses().forEach(coveredClasses::add);
+            }
+        }
+        // classes without executed methods on either side are treated as if all of their methods had been executed
+        var executedMethods = analyzedTest.getExecutedMethods().union(existingTest.getExecutedMethods())
+                .filter(classId -> hasExecutedMethods(analyzedTest, classId) && hasExecutedMethods(existingTest, classId));
+        return new AnalyzedTest(
+                analyzedTest.getTestClassId(),
+                analyzedTest.getTags(),
+                coveredClasses.build(),
+                analyzedTest.getExecutionId(),
+                methods,
+                emptySet(),
+                executedMethods,
+                analyzedTest.getFailedMethods());
+    }
+
+    private static boolean hasExecutedMethods(AnalyzedTest analyzedTest, int classId) {
+        return false == analyzedTest.getCoveredClasses().contains(classId) || analyzedTest.getExecutedMethods().get(classId) != null;
+    }
+
     private AnalyzedTest remap(AnalyzedTest analyzedTest, ClassFileContainer original, ClassFileContainer merged) {
+        var methods = new ArrayList<AnalyzedTestMethod>(analyzedTest.getMethods().size());
+        for (var method : analyzedTest.getMethods()) {
+            methods.add(new AnalyzedTestMethod(method.name(), method.coveredClasses().map(id -> remap(id, original, merged))));
+        }
         return new AnalyzedTest(
                 remap(analyzedTest.getTestClassId(), original, merged),
                 analyzedTest.getTags(),
-                analyzedTest.getCoveredClassesIds().stream().map(id -> remap(id, original, merged)).toList(),
-                analyzedTest.getExecutionId());
+                analyzedTest.getCoveredClasses().map(id -> remap(id, original, merged)),
+                analyzedTest.getExecutionId(),
+                methods,
+                analyzedTest.getSkippedMethods(),
+                remap(analyzedTest.getExecutedMethods(), original, merged),
+                analyzedTest.getFailedMethods());
+    }
+
+    /**
+     * Remaps the class ids and translates the method indexes: The merged container might contain a newer version of
+     * a class file with different {@link MethodHashes}.
+     */
+    private ExecutedMethods remap(ExecutedMethods executedMethods, ClassFileContainer original, ClassFileContainer merged) {
+        var result = new HashMap<Integer, int[]>();
+        for (int i = 0; i < executedMethods.size(); i++) {
+            var originalMethodHashes = original.getById(executedMethods.getClassId(i)).getMethodHashes();
+            var mergedId = remap(executedMethods.getClassId(i), original, merged);
+            var mergedMethodHashes = merged.getById(mergedId).getMethodHashes();
+            if (originalMethodHashes.isEmpty() || mergedMethodHashes.isEmpty()) {
+                continue;
+            }
+            var methods = executedMethods.getMethods(i);
+            var mergedMethods = new int[methods.length];
+            for (int j = 0; j < methods.length; j++) {
+                mergedMethods[j] = mergedMethodHashes.get().indexOf(originalMethodHashes.get().getMethod(methods[j]));
+            }
+            if (IntStream.of(mergedMethods).allMatch(index -> index >= 0)) {
+                result.put(mergedId, mergedMethods);
+            }
+        }
+        return ExecutedMethods.of(result);
     }
 
     private int remap(int id, ClassFileContainer original, ClassFileContainer merged) {
@@ -310,11 +923,11 @@ public final class TestImpactAnalysis {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         TestImpactAnalysis that = (TestImpactAnalysis) o;
-        return Objects.equals(classFileContainer, that.classFileContainer) && Objects.equals(analyzedTests, that.analyzedTests);
+        return Objects.equals(getClassFileContainer(), that.getClassFileContainer()) && Objects.equals(getAnalyzedTests(), that.getAnalyzedTests());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(classFileContainer, analyzedTests);
+        return Objects.hash(getClassFileContainer(), getAnalyzedTests());
     }
 }
\ No newline at end of file
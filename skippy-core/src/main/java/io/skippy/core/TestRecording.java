@@ -18,6 +18,12 @@ package io.skippy.core;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 
 /**
  * Data that is being recorded during the execution of a test class:
@@ -26,18 +32,44 @@ import java.util.List;
  *     <li>the output folder the class is located in (e.g., build/classes/java/test),</li>
  *     <li>a list of {@link TestTag}s,</li>
  *     <li>a list of {@link ClassNameAndJaCoCoId} that represents the classes covered by the test and</li>
- *     <li>the test's JaCoCo execution data</li>
+ *     <li>the id of the test's JaCoCo execution data (if it has been saved),</li>
+ *     <li>the classes covered by the individual test methods,</li>
+ *     <li>the names of the test methods that have been skipped,</li>
+ *     <li>the names of the test methods that have failed,</li>
+ *     <li>the methods of the covered classes that have been executed and</li>
+ *     <li>the wall-clock duration of the test's execution</li>
  * </ul>
  *
  * @param className the class name of a test
  * @param outputFolder the output folder the test's class file is located in
  * @param tags a list of {@link TestTag}s
  * @param coveredClasses a list of {@link ClassNameAndJaCoCoId}s
- * @param jacocoExecutionData the test's JaCoCo execution data
+ * @param executionId the id of the test's JaCoCo execution data (if it has been saved)
+ * @param coveredClassesByMethod the {@link ClassNameAndJaCoCoId}s covered by the individual test methods
+ * @param skippedMethods the names of the test methods that have been skipped
+ * @param failedMethods the names of the test methods that have failed
+ * @param executedMethods the methods (name + descriptor) of the covered classes that have been executed
+ * @param duration the wall-clock duration of the test's execution in milliseconds (if it has been recorded)
  *
  * @author Florian McKee
  */
-record TestRecording(String className, Path outputFolder, List<TestTag> tags, List<ClassNameAndJaCoCoId> coveredClasses, byte[] jacocoExecutionData) {
+record TestRecording(
+        String className,
+        Path outputFolder,
+        List<TestTag> tags,
+        List<ClassNameAndJaCoCoId> coveredClasses,
+        Optional<String> executionId,
+        Map<String, List<ClassNameAndJaCoCoId>> coveredClassesByMethod,
+        Set<String> skippedMethods,
+        Set<String> failedMethods,
+        Map<ClassNameAndJaCoCoId, List<String>> executedMethods,
+        Optional<Long> duration
+) {
+
+    TestRecording(String className, Path outputFolder, List<TestTag> tags, List<ClassNameAndJaCoCoId> coveredClasses, Optional<String> executionId) {
+        this(className, outputFolder, tags, coveredClasses, executionId, emptyMap(), emptySet(), emptySet(), emptyMap(), Optional.empty());
+    }
+
     public String getPath() {
         return "%s/%s".formatted(outputFolder, className);
     }
@@ -19,6 +19,8 @@ package io.skippy.core;
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Arrays.stream;
+
 /**
  * Tags that can be associated with a test.
  *
@@ -41,16 +43,21 @@ public enum TestTag {
      */
     ALWAYS_EXECUTE;
 
+    private static final TestTag[] VALUES = values();
+    private static final byte[][] JSON_VALUES = Tokenizer.keys(stream(VALUES).map(TestTag::name).toArray(String[]::new));
+
     static List<TestTag> parseList(Tokenizer tokenizer) {
-        return Profiler.profile("TestTag#parseList", () -> {
-            var testTags = new ArrayList<TestTag>();
-            tokenizer.skip('[');
-            while (!tokenizer.peek(']')) {
-                tokenizer.skipIfNext(',');
-                testTags.add(TestTag.valueOf(tokenizer.next()));
+        var testTags = new ArrayList<TestTag>();
+        tokenizer.skip('[');
+        while (!tokenizer.peek(']')) {
+            tokenizer.skipIfNext(',');
+            var index = tokenizer.nextKey(JSON_VALUES);
+            if (index == -1) {
+                throw new IllegalStateException("Unknown test tag in residual characters '%s'.".formatted(tokenizer.asString()));
             }
-            tokenizer.skip(']');
-            return testTags;
-        });
+            testTags.add(VALUES[index]);
+        }
+        tokenizer.skip(']');
+        return testTags;
     }
 }
@@ -16,34 +16,53 @@
 
 package io.skippy.core;
 
-import java.util.Arrays;
-
-import static java.lang.Character.isDigit;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Home-grown JSON tokenization to avoid a transitive dependencies to Jackson (or some other JSON library).
+ * <br /><br />
+ * The tokenizer operates in a single pass directly on the UTF-8 encoded input. Keys, numbers and enum constants can be
+ * consumed without allocating intermediate {@link String}s (see {@link #nextKey(byte[][])} and {@link #nextInt()}).
  *
  * @author Florian McKee
  */
 final class Tokenizer {
 
-    private final char[] stream;
+    private final byte[] stream;
     private int head;
     private final int tail;
 
     Tokenizer(String input) {
-        this.stream = input.replaceAll("[\\s&&[^ ]]", "").toCharArray();
+        this(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Tokenizer(byte[] input) {
+        this.stream = input;
         this.head = 0;
-        this.tail = stream.length;
+        this.tail = input.length;
+    }
+
+    /**
+     * Converts the {@code values} into UTF-8 encoded keys that can be passed to {@link #nextKey(byte[][])}.
+     *
+     * @param values the keys as strings
+     * @return the UTF-8 encoded keys
+     */
+    static byte[][] keys(String... values) {
+        var result = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return result;
     }
 
     @Override
     public String toString() {
         return asString();
-
     }
+
     String asString() {
-        return new String(Arrays.copyOfRange(stream, head, tail));
+        return new String(stream, head, tail - head, StandardCharsets.UTF_8);
     }
 
     void skip(char c) {
@@ -62,11 +81,8 @@ final class Tokenizer {
         }
         // read string
         if (peek('"')) {
-            int pointer = head + 1;
-            while (stream[pointer] != '"') {
-                pointer++;
-            }
-            var result = new String(Arrays.copyOfRange(stream, head + 1, pointer));
+            int pointer = endOfString();
+            var result = new String(stream, head + 1, pointer - head - 1, StandardCharsets.UTF_8);
             head = pointer + 1;
             return result;
         }
@@ -74,16 +90,109 @@ final class Tokenizer {
         // read number
         if (peekDigit()) {
             int pointer = head;
-            while (pointer < stream.length && isDigit(stream[pointer])) {
+            while (pointer < tail && isDigit(stream[pointer])) {
                 pointer++;
             }
-            var result = new String(Arrays.copyOfRange(stream, head, pointer));
+            var result = new String(stream, head, pointer - head, StandardCharsets.UTF_8);
             head = pointer;
             return result;
         }
         throw new IllegalStateException("Unable to determine next token in residual characters '%s'.".formatted(asString()));
     }
 
+    /**
+     * Skips the next value including nested objects and arrays (e.g., the value of a key that is unknown to the
+     * parser).
+     */
+    void skipValue() {
+        skipLeadingWhitespaces();
+        int depth = 0;
+        do {
+            if (head == tail) {
+                throw new IllegalStateException("Unable to skip value in residual characters '%s'.".formatted(asString()));
+            }
+            var b = stream[head];
+            if (b == '"') {
+                head = endOfString() + 1;
+            } else if (b == '{' || b == '[') {
+                depth++;
+                head++;
+            } else if (b == '}' || b == ']') {
+                if (depth == 0) {
+                    throw new IllegalStateException("Unable to skip value in residual characters '%s'.".formatted(asString()));
+                }
+                depth--;
+                head++;
+            } else if (depth == 0) {
+                // numbers, true, false and null
+                while (head != tail && false == isDelimiter(stream[head])) {
+                    head++;
+                }
+            } else {
+                head++;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Reads the next string token and returns the index of the matching element in {@code keys}.
+     *
+     * @param keys the expected keys (see {@link #keys(String...)})
+     * @return the index of the matching key or -1 if the next string doesn't match any of the {@code keys}
+     */
+    int nextKey(byte[][] keys) {
+        if (false == peek('"')) {
+            throw new IllegalStateException("Unable to read key from residual characters '%s'.".formatted(asString()));
+        }
+        int start = head + 1;
+        int end = endOfString();
+        head = end + 1;
+        for (int i = 0; i < keys.length; i++) {
+            if (matches(keys[i], start, end)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the next number. Numbers that are wrapped in quotes are supported for backward compatibility.
+     *
+     * @return the next number
+     */
+    int nextInt() {
+        return Math.toIntExact(nextLong());
+    }
+
+    /**
+     * Reads the next number. Numbers that are wrapped in quotes are supported for backward compatibility.
+     *
+     * @return the next number
+     */
+    long nextLong() {
+        skipLeadingWhitespaces();
+        boolean quoted = head != tail && stream[head] == '"';
+        if (quoted) {
+            head++;
+        }
+        boolean negative = head != tail && stream[head] == '-';
+        if (negative) {
+            head++;
+        }
+        if (head == tail || false == isDigit(stream[head])) {
+            throw new IllegalStateException("Unable to read number from residual characters '%s'.".formatted(asString()));
+        }
+        long result = 0;
+        while (head != tail && isDigit(stream[head])) {
+            result = 10 * result + (stream[head] - '0');
+            head++;
+        }
+        if (quoted) {
+            skip('"');
+        }
+        return negative ? -result : result;
+    }
+
     boolean peek(char c) {
         skipLeadingWhitespaces();
         if (head == tail) {
@@ -109,10 +218,46 @@ final class Tokenizer {
             head++;
         }
     }
+
+    private boolean matches(byte[] key, int start, int end) {
+        if (key.length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != stream[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int endOfString() {
+        int pointer = head + 1;
+        while (pointer < tail && stream[pointer] != '"') {
+            pointer++;
+        }
+        if (pointer == tail) {
+            throw new IllegalStateException("Unterminated string in residual characters '%s'.".formatted(asString()));
+        }
+        return pointer;
+    }
+
     private void skipLeadingWhitespaces() {
-        while (head != tail && stream[head] == ' ') {
+        while (head != tail && isWhitespace(stream[head])) {
             head++;
         }
     }
 
-}
\ No newline at end of file
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == '}' || b == ']' || isWhitespace(b);
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+}
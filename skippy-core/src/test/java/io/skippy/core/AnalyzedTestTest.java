@@ -22,16 +22,20 @@ import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class AnalyzedTestTest {
 
     @Test
     void testToJsonNoCoveredClasses() throws JSONException {
-        var analyzedTest = new AnalyzedTest(0, List.of(TestTag.PASSED), asList(), Optional.empty());
+        var analyzedTest = new AnalyzedTest.Builder(0, List.of(TestTag.PASSED), ClassIdSet.of()).build();
 
         var expected = """
             {
@@ -45,7 +49,7 @@ public class AnalyzedTestTest {
 
     @Test
     void testToJsonOneCoveredClass() throws JSONException {
-        var analyzedTest = new AnalyzedTest(0, List.of(TestTag.PASSED), asList(0), Optional.empty());
+        var analyzedTest = new AnalyzedTest.Builder(0, List.of(TestTag.PASSED), ClassIdSet.of(0)).build();
         var expected = """
             {
                 "class": 0,
@@ -57,7 +61,7 @@ public class AnalyzedTestTest {
     }
     @Test
     void testToJsonTwoCoveredClasses() throws JSONException {
-        var analyzedTest = new AnalyzedTest(0, List.of(TestTag.PASSED), asList(0, 1), Optional.empty());
+        var analyzedTest = new AnalyzedTest.Builder(0, List.of(TestTag.PASSED), ClassIdSet.of(0, 1)).build();
         var expected = """
             {
                 "class": 0,
@@ -70,7 +74,7 @@ public class AnalyzedTestTest {
 
     @Test
     void testToJsonFailedTest() throws JSONException {
-        var analyzedTest = new AnalyzedTest(0, List.of(TestTag.FAILED), asList(), Optional.empty());
+        var analyzedTest = new AnalyzedTest.Builder(0, List.of(TestTag.FAILED), ClassIdSet.of()).build();
         var expected = """
             {
                 "class": 0,
@@ -157,4 +161,133 @@ public class AnalyzedTestTest {
         assertEquals("00000000000000000000000000000000", analyzedTest.getExecutionId().get());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testToJsonWithMethods() throws JSONException {
+        var analyzedTest = new AnalyzedTest.Builder(0, List.of(TestTag.PASSED), ClassIdSet.of(0, 1)).methods(asList(
+                new AnalyzedTestMethod("testFoo", ClassIdSet.of(0, 1)),
+                new AnalyzedTestMethod(AnalyzedTestMethod.LIFECYCLE, ClassIdSet.of(0))
+        )).build();
+        var expected = """
+            {
+                "class": 0,
+                "tags": ["PASSED"],
+                "coveredClasses": [0, 1],
+                "methods": [
+                    {"name": "<lifecycle>", "coveredClasses": [0]},
+                    {"name": "testFoo", "coveredClasses": [0, 1]}
+                ]
+            }
+        """;
+        JSONAssert.assertEquals(expected, analyzedTest.toJson(), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    void testParseWithMethods() {
+        var analyzedTest = AnalyzedTest.parse(new Tokenizer("""
+            {
+                "class": 0,
+                "tags": ["PASSED"],
+                "coveredClasses": [0, 1],
+                "methods": [
+                    {"name": "testFoo", "coveredClasses": [0, 1]},
+                    {"name": "testBar", "coveredClasses": []}
+                ],
+                "executionId":  "00000000000000000000000000000000"
+            }
+        """));
+        assertEquals(Optional.of(new AnalyzedTestMethod("testFoo", ClassIdSet.of(0, 1))), analyzedTest.getMethod("testFoo"));
+        assertEquals(Optional.of(new AnalyzedTestMethod("testBar", ClassIdSet.EMPTY)), analyzedTest.getMethod("testBar"));
+        assertEquals(Optional.empty(), analyzedTest.getMethod("testBaz"));
+        assertEquals("00000000000000000000000000000000", analyzedTest.getExecutionId().get());
+    }
+
+    @Test
+    void testToJsonWithExecutedMethods() throws JSONException {
+        var analyzedTest = new AnalyzedTest.Builder(1, List.of(TestTag.PASSED), ClassIdSet.of(0, 1, 2))
+                .executedMethods(ExecutedMethods.of(Map.of(2, new int[] {3, 1}, 0, new int[] {0}))).build();
+        var expected = """
+            {
+                "class": 1,
+                "tags": ["PASSED"],
+                "coveredClasses": [0, 1, 2],
+                "executedMethods": {"0": [0], "2": [1, 3]}
+            }
+        """;
+        JSONAssert.assertEquals(expected, analyzedTest.toJson(), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    void testParseWithExecutedMethods() {
+        var analyzedTest = AnalyzedTest.parse(new Tokenizer("""
+            {
+                "class": 1,
+                "tags": ["PASSED"],
+                "coveredClasses": [0, 1, 2],
+                "executedMethods": {"0": [0], "2": [1, 3]}
+            }
+        """));
+        assertArrayEquals(new int[] {0}, analyzedTest.getExecutedMethods().get(0));
+        assertNull(analyzedTest.getExecutedMethods().get(1));
+        assertArrayEquals(new int[] {1, 3}, analyzedTest.getExecutedMethods().get(2));
+    }
+
+    @Test
+    void testToJsonWithFailedMethods() throws JSONException {
+        var analyzedTest = new AnalyzedTest.Builder(1, List.of(TestTag.FAILED), ClassIdSet.of(0, 1))
+                .failedMethods(List.of("testFoo", "testBar")).build();
+        var expected = """
+            {
+                "class": 1,
+                "tags": ["FAILED"],
+                "coveredClasses": [0, 1],
+                "failedMethods": ["testBar", "testFoo"]
+            }
+        """;
+        JSONAssert.assertEquals(expected, analyzedTest.toJson(), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    void testParseWithFailedMethods() {
+        var analyzedTest = AnalyzedTest.parse(new Tokenizer("""
+            {
+                "class": 1,
+                "tags": ["FAILED"],
+                "coveredClasses": [0, 1],
+                "failedMethods": ["testFoo", "testBar"]
+            }
+        """));
+        assertEquals(List.of("testBar", "testFoo"), analyzedTest.getFailedMethods());
+    }
+
+    @Test
+    void testParseIgnoresDuration() {
+        var analyzedTest = AnalyzedTest.parse(new Tokenizer("""
+            {
+                "class": 1,
+                "tags": ["PASSED"],
+                "coveredClasses": [0, 1],
+                "duration": 1234
+            }
+        """));
+        assertEquals(new AnalyzedTest.Builder(1, List.of(TestTag.PASSED), ClassIdSet.of(0, 1)).build(), analyzedTest);
+        assertFalse(analyzedTest.toJson().contains("duration"));
+    }
+
+    @Test
+    void testParseIgnoresUnknownKeys() {
+        var analyzedTest = AnalyzedTest.parse(new Tokenizer("""
+            {
+                "class": 1,
+                "unknownArray": [{"name": "foo", "values": [1, 2]}],
+                "unknownObject": {"a": {"b": "c"}},
+                "unknownBoolean": true,
+                "tags": ["PASSED"],
+                "coveredClasses": [0, 1]
+            }
+        """));
+        assertEquals(1, analyzedTest.getTestClassId());
+        assertEquals(List.of(TestTag.PASSED), analyzedTest.getTags());
+        assertEquals(List.of(0, 1), analyzedTest.getCoveredClassesIds());
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BinaryFormatTest {
+
+    @Test
+    void testRoundTrip() {
+        var class1 = new ClassFile("com.example.Class1", Path.of("com/example/Class1.class"), Path.of("build/classes/java/main"), "class-1-hash");
+        var class1Test = new ClassFile("com.example.Class1Test", Path.of("com/example/Class1Test.class"), Path.of("build/classes/java/test"), "class-1-test-hash");
+        var class2 = new ClassFile("com.example.Class2", Path.of("com/example/Class2.class"), Path.of("build/classes/java/main"), "class-2-hash");
+        var class2Test = new ClassFile("com.example.Class2Test", Path.of("com/example/Class2Test.class"), Path.of("build/classes/java/test"), "class-2-test-hash");
+        var testImpactAnalysis = new TestImpactAnalysis(
+                ClassFileContainer.from(asList(class1, class2, class1Test, class2Test)),
+                asList(
+                        new AnalyzedTest.Builder(1, List.of(TestTag.PASSED), ClassIdSet.of(1, 0)).executionId("00000000000000000000000000000000").build(),
+                        new AnalyzedTest.Builder(3, List.of(TestTag.FAILED, TestTag.ALWAYS_EXECUTE), ClassIdSet.of(2, 3)).build()
+                )
+        );
+        var buffer = ByteBuffer.wrap(toBinary(testImpactAnalysis));
+        assertEquals(Optional.of(testImpactAnalysis.getId()), BinaryFormat.readId(buffer));
+        var read = TestImpactAnalysis.parseBinary(buffer);
+        assertEquals(testImpactAnalysis, read);
+        assertEquals(testImpactAnalysis.toJson(), read.toJson());
+    }
+
+    @Test
+    void testRoundTripWithTestMethods() {
+        var class1 = new ClassFile("com.example.Class1", Path.of("com/example/Class1.class"), Path.of("build/classes/java/main"), "class-1-hash");
+        var class1Test = new ClassFile("com.example.Class1Test", Path.of("com/example/Class1Test.class"), Path.of("build/classes/java/test"), "class-1-test-hash");
+        var testImpactAnalysis = new TestImpactAnalysis(
+                ClassFileContainer.from(asList(class1, class1Test)),
+                asList(new AnalyzedTest.Builder(1, List.of(TestTag.PASSED), ClassIdSet.of(0, 1)).methods(asList(
+                        new AnalyzedTestMethod(AnalyzedTestMethod.LIFECYCLE, ClassIdSet.of(1)),
+                        new AnalyzedTestMethod("testFoo", ClassIdSet.of(0, 1)),
+                        new AnalyzedTestMethod("testBar", ClassIdSet.EMPTY)
+                )).build())
+        );
+        var read = TestImpactAnalysis.parseBinary(ByteBuffer.wrap(toBinary(testImpactAnalysis)));
+        assertEquals(testImpactAnalysis, read);
+        assertEquals(testImpactAnalysis.toJson(), read.toJson());
+    }
+
+    @Test
+    void testRoundTripWithExecutedMethods() {
+        var methodHashes = new MethodHashes("5AB4C2F1", new String[] {"<init>()V", "foo()V"}, new int[] {0x1F0A2B3C, 0x8E994DD8});
+        var class1 = new ClassFile("com.example.Class1", Path.of("com/example/Class1.class"), Path.of("build/classes/java/main"), "class-1-hash", methodHashes);
+        var class1Test = new ClassFile("com.example.Class1Test", Path.of("com/example/Class1Test.class"), Path.of("build/classes/java/test"), "class-1-test-hash");
+        var classFileContainer = ClassFileContainer.from(asList(class1, class1Test));
+        var testImpactAnalysis = new TestImpactAnalysis(
+                classFileContainer,
+                asList(new AnalyzedTest.Builder(classFileContainer.getId(class1Test), List.of(TestTag.PASSED), ClassIdSet.of(0, 1))
+                        .executedMethods(ExecutedMethods.of(Map.of(classFileContainer.getId(class1), new int[] {1}))).build())
+        );
+        var read = TestImpactAnalysis.parseBinary(ByteBuffer.wrap(toBinary(testImpactAnalysis)));
+        assertEquals(testImpactAnalysis, read);
+        assertEquals(testImpactAnalysis.toJson(), read.toJson());
+    }
+
+    @Test
+    void testRoundTripWithFailedMethods() {
+        var class1 = new ClassFile("com.example.Class1", Path.of("com/example/Class1.class"), Path.of("build/classes/java/main"), "class-1-hash");
+        var class1Test = new ClassFile("com.example.Class1Test", Path.of("com/example/Class1Test.class"), Path.of("build/classes/java/test"), "class-1-test-hash");
+        var classFileContainer = ClassFileContainer.from(asList(class1, class1Test));
+        var testImpactAnalysis = new TestImpactAnalysis(
+                classFileContainer,
+                asList(new AnalyzedTest.Builder(classFileContainer.getId(class1Test), List.of(TestTag.FAILED), ClassIdSet.of(0, 1))
+                        .failedMethods(List.of("testFoo", "testBar")).build())
+        );
+        var read = TestImpactAnalysis.parseBinary(ByteBuffer.wrap(toBinary(testImpactAnalysis)));
+        assertEquals(testImpactAnalysis, read);
+        assertEquals(testImpactAnalysis.toJson(), read.toJson());
+    }
+
+    @Test
+    void testRoundTripLargeTestImpactAnalysis() throws Exception {
+        var jsonFile = Paths.get(getClass().getResource("test-impact-analysis.json").toURI());
+        var testImpactAnalysis = TestImpactAnalysis.parse(Files.readAllBytes(jsonFile));
+        var read = TestImpactAnalysis.parseBinary(ByteBuffer.wrap(toBinary(testImpactAnalysis)));
+        assertEquals("55AB349797F1169672E84163857DCB06", read.getId());
+        assertEquals(testImpactAnalysis, read);
+    }
+
+    @Test
+    void testLookupsDoNotRequireFullDecoding() throws Exception {
+        var jsonFile = Paths.get(getClass().getResource("test-impact-analysis.json").toURI());
+        var testImpactAnalysis = TestImpactAnalysis.parse(Files.readAllBytes(jsonFile));
+        var view = new BinaryFormat.View(ByteBuffer.wrap(toBinary(testImpactAnalysis)));
+        var classFileContainer = testImpactAnalysis.getClassFileContainer();
+        for (var analyzedTest : testImpactAnalysis.getAnalyzedTests()) {
+            var testClass = classFileContainer.getById(analyzedTest.getTestClassId());
+            assertEquals(testClass, view.getClassFile(analyzedTest.getTestClassId()));
+            assertThat(view.findTestClassIds(testClass.getClassName())).contains(analyzedTest.getTestClassId());
+            assertEquals(Optional.of(analyzedTest), view.findAnalyzedTestByClassId(analyzedTest.getTestClassId()));
+        }
+        assertEquals(0, view.findTestClassIds("com.example.UnknownTest").length);
+        assertEquals(Optional.empty(), view.findAnalyzedTestByClassId(-1));
+    }
+
+    @Test
+    void testReadIdOfUnsupportedFormat() {
+        assertEquals(Optional.empty(), BinaryFormat.readId(ByteBuffer.wrap("{}".getBytes())));
+    }
+
+    @Test
+    void testReadIdOfTruncatedData() throws Exception {
+        var jsonFile = Paths.get(getClass().getResource("test-impact-analysis.json").toURI());
+        var binary = toBinary(TestImpactAnalysis.parse(Files.readAllBytes(jsonFile)));
+        assertEquals(Optional.of("55AB349797F1169672E84163857DCB06"), BinaryFormat.readId(ByteBuffer.wrap(binary)));
+        for (var length : new int[] {12, 100, binary.length / 2, binary.length - 1}) {
+            assertEquals(Optional.empty(), BinaryFormat.readId(ByteBuffer.wrap(Arrays.copyOf(binary, length))));
+        }
+    }
+
+    private static byte[] toBinary(TestImpactAnalysis testImpactAnalysis) {
+        var out = new ByteArrayOutputStream();
+        testImpactAnalysis.writeBinary(Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.jacoco.core.internal.data.CRC64;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link ClassFileAnalyzer}.
+ *
+ * @author Florian McKee
+ */
+public class ClassFileAnalyzerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"LeftPadder", "LeftPadderTest", "StringUtils", "NestedTestsTest", "FooTest"})
+    void testAnalyze(String simpleClassName) throws IOException {
+        var classFile = Path.of("build/classes/java/test/com/example/%s.class".formatted(simpleClassName));
+        var result = ClassFileAnalyzer.analyze(classFile);
+        assertEquals("com.example." + simpleClassName, result.className());
+        assertEquals(ClassUtil.getFullyQualifiedClassName(classFile), result.className());
+        assertEquals(HashUtil.debugAgnosticHash(classFile), result.hash());
+        assertEquals(CRC64.classId(Files.readAllBytes(classFile)), result.jaCoCoId());
+    }
+
+    @Test
+    void testJaCoCoIdOnlyConsidersTheGivenLength() throws IOException {
+        var classFile = Files.readAllBytes(Path.of("build/classes/java/test/com/example/StringUtils.class"));
+        var buffer = Arrays.copyOf(classFile, classFile.length + 100);
+        Arrays.fill(buffer, classFile.length, buffer.length, (byte) 42);
+        assertEquals(CRC64.classId(classFile), ClassFileAnalyzer.jaCoCoId(buffer, classFile.length));
+    }
+
+    @Test
+    void testJaCoCoIdForJava9ClassFile() {
+        var classFile = new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0, 0, 53, 1, 2, 3};
+        assertEquals(CRC64.classId(classFile), ClassFileAnalyzer.jaCoCoId(classFile, classFile.length));
+    }
+
+}
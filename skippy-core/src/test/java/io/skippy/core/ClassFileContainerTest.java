@@ -199,19 +199,34 @@ public class ClassFileContainerTest {
                     }
                 """));
 
-        var recordingForJavaTest = new TestRecording("com.example.FooTest", Path.of("src/main/java"), emptyList(), emptyList(), null);
+        var recordingForJavaTest = new TestRecording("com.example.FooTest", Path.of("src/main/java"), emptyList(), emptyList(), Optional.empty());
         var classFileForJavaTest = container.getClassFileFor(recordingForJavaTest);
 
         assertEquals("com.example.FooTest", classFileForJavaTest.getClassName());
         assertEquals(Path.of("src/main/java"), classFileForJavaTest.getOutputFolder());
 
-        var recordingForKotlinTest = new TestRecording("com.example.FooTest", Path.of("src/main/kotlin"), emptyList(), emptyList(), null);
+        var recordingForKotlinTest = new TestRecording("com.example.FooTest", Path.of("src/main/kotlin"), emptyList(), emptyList(), Optional.empty());
         var classFileForKotlinTest = container.getClassFileFor(recordingForKotlinTest);
 
         assertEquals("com.example.FooTest", classFileForKotlinTest.getClassName());
         assertEquals(Path.of("src/main/kotlin"), classFileForKotlinTest.getOutputFolder());
     }
 
+    @Test
+    void testGetClassFilesMatching() {
+        var projectDir = Path.of("").toAbsolutePath();
+        var outputFolder = projectDir.resolve("build/classes/java/test");
+        var leftPadder = ClassFile.fromFileSystem(projectDir, outputFolder, outputFolder.resolve("com/example/LeftPadder.class"));
+        var stringUtils = ClassFile.fromFileSystem(projectDir, outputFolder, outputFolder.resolve("com/example/StringUtils.class"));
+        var notOnFileSystem = new ClassFile("com.example.Foo", Path.of("com/example/Foo.class"), Path.of("build/classes/java/main"), "hash-foo");
+        var container = ClassFileContainer.from(asList(leftPadder, stringUtils, notOnFileSystem));
+
+        assertEquals(List.of(leftPadder), container.getClassFilesMatching(new ClassNameAndJaCoCoId("com.example.LeftPadder", leftPadder.getJaCoCoId())));
+        assertEquals(List.of(stringUtils), container.getClassFilesMatching(new ClassNameAndJaCoCoId("com.example.StringUtils", stringUtils.getJaCoCoId())));
+        assertEquals(emptyList(), container.getClassFilesMatching(new ClassNameAndJaCoCoId("com.example.LeftPadder", stringUtils.getJaCoCoId())));
+        assertEquals(emptyList(), container.getClassFilesMatching(new ClassNameAndJaCoCoId("com.example.Foo", 0)));
+    }
+
     @Test
     void testGetAnalyzedTestForTestClass_1() {
         var container = ClassFileContainer.parse(new Tokenizer(
@@ -232,8 +247,8 @@ public class ClassFileContainerTest {
                     }
                 """));
         var analyzedTests = List.of(
-                new AnalyzedTest(0, emptyList(), emptyList(), Optional.empty()),
-                new AnalyzedTest(1, emptyList(), emptyList(), Optional.empty())
+                new AnalyzedTest.Builder(0, emptyList(), ClassIdSet.EMPTY).build(),
+                new AnalyzedTest.Builder(1, emptyList(), ClassIdSet.EMPTY).build()
         );
         assertEquals(0, container.getAnalyzedTestForTestClass(FooTest.class, analyzedTests).get().getTestClassId());
         assertEquals(1, container.getAnalyzedTestForTestClass(BarTest.class, analyzedTests).get().getTestClassId());
@@ -266,8 +281,8 @@ public class ClassFileContainerTest {
                     }
                 """));
         var analyzedTests = List.of(
-                new AnalyzedTest(0, emptyList(), emptyList(), Optional.empty()),
-                new AnalyzedTest(1, emptyList(), emptyList(), Optional.empty())
+                new AnalyzedTest.Builder(0, emptyList(), ClassIdSet.EMPTY).build(),
+                new AnalyzedTest.Builder(1, emptyList(), ClassIdSet.EMPTY).build()
         );
         assertEquals(1, container.getAnalyzedTestForTestClass(FooTest.class, analyzedTests).get().getTestClassId());
     }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static java.nio.file.Files.copy;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ClassFileHashCacheTest {
+
+    @Test
+    void testHashIsComputedOncePerClassFile(@TempDir Path tempDir) throws IOException {
+        var outputFolder = Path.of("build/classes/java/test");
+        var classFile = tempDir.resolve("Foo.class");
+        copy(outputFolder.resolve("com/example/StringUtils.class"), classFile);
+        assertEquals("BF9A6640", ClassFileHashCache.debugAgnosticHash(classFile));
+
+        copy(outputFolder.resolve("com/example/LeftPadder.class"), classFile, REPLACE_EXISTING);
+        assertEquals("BF9A6640", ClassFileHashCache.debugAgnosticHash(classFile));
+
+        ClassFileHashCache.clear();
+        assertEquals(HashUtil.debugAgnosticHash(classFile), ClassFileHashCache.debugAgnosticHash(classFile));
+        assertEquals("8E994DD8", ClassFileHashCache.debugAgnosticHash(classFile));
+    }
+
+    @Test
+    void testPersistedHashesAreReusedForUnchangedClassFiles(@TempDir Path tempDir) throws IOException {
+        var outputFolder = Path.of("build/classes/java/test");
+        var classFile = tempDir.resolve("Foo.class");
+        var cacheFile = tempDir.resolve("class-file-hashes.bin");
+        var lastModified = FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS));
+        copy(outputFolder.resolve("com/example/StringUtils.class"), classFile);
+        Files.setLastModifiedTime(classFile, lastModified);
+
+        ClassFileHashCache.clear();
+        assertEquals("BF9A6640", ClassFileHashCache.debugAgnosticHash(classFile));
+        var jaCoCoId = ClassFileHashCache.jaCoCoId(classFile);
+        ClassFileHashCache.save(tempDir, cacheFile);
+        ClassFileHashCache.clear();
+
+        // overwrite the class file in place without changing its size or last-modified time: the persisted entry wins
+        Files.write(classFile, new byte[(int) Files.size(classFile)]);
+        Files.setLastModifiedTime(classFile, lastModified);
+        ClassFileHashCache.load(cacheFile);
+        assertEquals("BF9A6640", ClassFileHashCache.debugAgnosticHash(classFile));
+        assertEquals(jaCoCoId, ClassFileHashCache.jaCoCoId(classFile));
+
+        // a change in size invalidates the persisted entry
+        ClassFileHashCache.clear();
+        copy(outputFolder.resolve("com/example/LeftPadder.class"), classFile, REPLACE_EXISTING);
+        Files.setLastModifiedTime(classFile, lastModified);
+        ClassFileHashCache.load(cacheFile);
+        assertEquals("8E994DD8", ClassFileHashCache.debugAgnosticHash(classFile));
+        ClassFileHashCache.clear();
+    }
+
+    @Test
+    void testRecentlyModifiedClassFilesAreNotPersisted(@TempDir Path tempDir) throws IOException {
+        var classFile = tempDir.resolve("Foo.class");
+        var cacheFile = tempDir.resolve("class-file-hashes.bin");
+        copy(Path.of("build/classes/java/test/com/example/StringUtils.class"), classFile);
+
+        ClassFileHashCache.clear();
+        assertEquals("BF9A6640", ClassFileHashCache.debugAgnosticHash(classFile));
+        ClassFileHashCache.save(tempDir, cacheFile);
+        ClassFileHashCache.clear();
+
+        // same size and last-modified time, but the entry has not been persisted: the garbage is re-hashed
+        var lastModified = Files.getLastModifiedTime(classFile);
+        Files.write(classFile, new byte[(int) Files.size(classFile)]);
+        Files.setLastModifiedTime(classFile, lastModified);
+        ClassFileHashCache.load(cacheFile);
+        assertThrows(RuntimeException.class, () -> ClassFileHashCache.debugAgnosticHash(classFile));
+        ClassFileHashCache.clear();
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link ClassFileScanner}.
+ *
+ * @author Florian McKee
+ */
+public class ClassFileScannerTest {
+
+    @Test
+    void testScanReturnsSortedClassFiles() {
+        var projectDir = Path.of("").toAbsolutePath();
+        var outputFolder = new File("build/classes/java/test").getAbsoluteFile();
+        var classFiles = ClassFileScanner.scan(projectDir, List.of(outputFolder));
+
+        var classNames = classFiles.stream().map(ClassFile::getClassName).filter(name -> name.startsWith("com.example.")).toList();
+        assertEquals(classNames.stream().sorted().toList(), classNames);
+        assertEquals(true, classNames.contains("com.example.LeftPadder"));
+
+        var leftPadder = classFiles.stream().filter(classFile -> classFile.getClassName().equals("com.example.LeftPadder")).findFirst().get();
+        assertEquals(Path.of("build/classes/java/test"), leftPadder.getOutputFolder());
+        assertEquals(Path.of("com/example/LeftPadder.class"), leftPadder.getPath());
+        assertEquals("8E994DD8", leftPadder.getHash());
+    }
+
+    @Test
+    void testScanIsDeterministic() {
+        var projectDir = Path.of("").toAbsolutePath();
+        var outputFolders = List.of(new File("build/classes/java/test").getAbsoluteFile(), new File("build/classes/java/main").getAbsoluteFile());
+        assertEquals(ClassFileScanner.scan(projectDir, outputFolders), ClassFileScanner.scan(projectDir, outputFolders));
+    }
+
+}
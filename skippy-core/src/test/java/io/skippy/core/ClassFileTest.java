@@ -64,6 +64,49 @@ public class ClassFileTest {
         assertEquals("ZT0GoiWG8Az5TevH9/JwBg==", classFile.getHash());
     }
 
+    @Test
+    void testToJsonWithMethodHashes() {
+        var classFile = new ClassFile(
+                "com.example.RightPadder",
+                Path.of("com/example/RightPadder.class"), Path.of("build/classes/java/main"),
+                "F7F27006",
+                new MethodHashes("5A3C00D7", new String[] {"<init>()V", "padRight(Ljava/lang/String;I)Ljava/lang/String;"}, new int[] {0x94F3A3D4, 0xE8C60230})
+        );
+
+        assertThat(classFile.toJson()).isEqualToIgnoringWhitespace(
+            """
+                {
+                    "name": "com.example.RightPadder",
+                    "path": "com/example/RightPadder.class",
+                    "outputFolder": "build/classes/java/main",
+                    "hash": "F7F27006",
+                    "structureHash": "5A3C00D7",
+                    "methods": {"<init>()V": "94F3A3D4", "padRight(Ljava/lang/String;I)Ljava/lang/String;": "E8C60230"}
+                }
+                """);
+    }
+
+    @Test
+    void testParseWithMethodHashes() {
+        var classFile = ClassFile.parse(new Tokenizer(
+            """
+                {
+                    "name": "com.example.RightPadder",
+                    "path": "com/example/RightPadder.class",
+                    "outputFolder": "build/classes/java/main",
+                    "hash": "F7F27006",
+                    "structureHash": "5A3C00D7",
+                    "methods": {"<init>()V": "94F3A3D4", "padRight(Ljava/lang/String;I)Ljava/lang/String;": "E8C60230"}
+                }
+                """
+        ));
+        var methodHashes = classFile.getMethodHashes().get();
+        assertEquals("5A3C00D7", methodHashes.getStructureHash());
+        assertEquals(2, methodHashes.size());
+        assertEquals(1, methodHashes.indexOf("padRight(Ljava/lang/String;I)Ljava/lang/String;"));
+        assertEquals(0xE8C60230, methodHashes.getHash(1));
+    }
+
     @ParameterizedTest
     @CsvSource(value = {
         "com/example/LeftPadder.class:com.example.LeftPadder",
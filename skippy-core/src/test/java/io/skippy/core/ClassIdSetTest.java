@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassIdSetTest {
+
+    @Test
+    void testOfSortsAndRemovesDuplicates() {
+        assertEquals(asList(1, 2, 5), ClassIdSet.of(5, 1, 2, 5, 1).toList());
+        assertEquals(asList(1, 2, 5), ClassIdSet.of(asList(5, 2, 1)).toList());
+        assertSame(ClassIdSet.EMPTY, ClassIdSet.of());
+    }
+
+    @Test
+    void testContains() {
+        var set = ClassIdSet.of(3, 1, 7);
+        assertTrue(set.contains(1));
+        assertTrue(set.contains(7));
+        assertFalse(set.contains(2));
+        assertFalse(ClassIdSet.EMPTY.contains(0));
+    }
+
+    @Test
+    void testIntersects() {
+        assertTrue(ClassIdSet.of(1, 4, 9).intersects(ClassIdSet.of(2, 9)));
+        assertFalse(ClassIdSet.of(1, 4, 9).intersects(ClassIdSet.of(2, 3, 10)));
+        assertFalse(ClassIdSet.of(1).intersects(ClassIdSet.EMPTY));
+    }
+
+    @Test
+    void testForEach() {
+        var result = new ArrayList<Integer>();
+        ClassIdSet.of(2, 0, 1).forEach(result::add);
+        assertEquals(asList(0, 1, 2), result);
+    }
+
+    @Test
+    void testMap() {
+        assertEquals(ClassIdSet.of(0, 10, 20), ClassIdSet.of(1, 2, 0).map(id -> 20 - 10 * id));
+    }
+
+    @Test
+    void testBuilder() {
+        var builder = new ClassIdSet.Builder();
+        for (int i = 100; i > 0; i--) {
+            builder.add(i % 50);
+        }
+        var set = builder.build();
+        assertEquals(50, set.size());
+        assertEquals(0, set.get(0));
+        assertEquals(49, set.get(49));
+    }
+
+}
@@ -24,10 +24,13 @@ import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.nio.file.Path;
 
 import static java.nio.file.Files.writeString;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -142,6 +145,22 @@ public class CustomRepositoryExtensionTest {
         verify(extensionMock).saveJacocoExecutionData(JacocoUtil.getExecutionId(executionData), executionData);
     }
 
+    @Test
+    void testGetTestRecordingsSavesExecutionDataOnCallingThread() throws Exception {
+        var outputFolder = skippyFolder.resolve("tmp").resolve("build/classes/java/test");
+        Files.createDirectories(outputFolder);
+        for (var testClass : asList("com.example.LeftPadderTest", "com.example.RightPadderTest")) {
+            var executionData = Files.readAllBytes(Paths.get(getClass().getResource("%s.exec".formatted(testClass)).toURI()));
+            Files.write(outputFolder.resolve("%s.exec".formatted(testClass)), executionData);
+        }
+        var threads = new HashSet<Thread>();
+        doAnswer(invocation -> threads.add(Thread.currentThread())).when(extensionMock).saveJacocoExecutionData(any(), any());
+
+        assertEquals(2, skippyRepository.getTestRecordings(true).size());
+        verify(extensionMock, times(2)).saveJacocoExecutionData(any(), any());
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
     @Test
     void testReadJacocoExecutionData() {
         when(extensionMock.findJacocoExecutionData("executionId")).thenReturn(Optional.of("bla".getBytes(StandardCharsets.UTF_8)));
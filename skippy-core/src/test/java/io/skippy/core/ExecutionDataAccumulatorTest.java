@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.jacoco.core.data.ExecutionData;
+import org.jacoco.core.data.ExecutionDataWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ExecutionDataAccumulator}.
+ *
+ * @author Florian McKee
+ */
+public class ExecutionDataAccumulatorTest {
+
+    @Test
+    void testAddIsEquivalentToMergeExecutionData() throws URISyntaxException, IOException {
+        var leftPadderTest = Files.readAllBytes(Path.of(getClass().getResource("com.example.LeftPadderTest.exec").toURI()));
+        var rightPadderTest = Files.readAllBytes(Path.of(getClass().getResource("com.example.RightPadderTest.exec").toURI()));
+
+        var accumulator = new ExecutionDataAccumulator();
+        assertTrue(accumulator.isEmpty());
+        accumulator.add(leftPadderTest);
+        accumulator.add(rightPadderTest);
+        assertFalse(accumulator.isEmpty());
+
+        var merged = JacocoUtil.mergeExecutionData(asList(leftPadderTest, rightPadderTest));
+        assertEquals(JacocoUtil.getExecutionId(merged), JacocoUtil.getExecutionId(accumulator.toByteArray()));
+        assertEquals(JacocoUtil.getCoveredClasses(merged), JacocoUtil.getCoveredClasses(accumulator.toByteArray()));
+    }
+
+    @Test
+    void testProbesAreMerged() throws IOException {
+        var parent = new ExecutionDataAccumulator();
+        parent.add(executionData(new ExecutionData(1L, "com/example/Foo", new boolean[] {true, false, false})));
+
+        var child = new ExecutionDataAccumulator();
+        child.add(executionData(new ExecutionData(1L, "com/example/Foo", new boolean[] {false, true, false})));
+        child.add(executionData(new ExecutionData(2L, "com/example/Bar", new boolean[] {true, false})));
+
+        parent.add(child);
+
+        assertEquals(
+            JacocoUtil.getExecutionId(executionData(
+                new ExecutionData(1L, "com/example/Foo", new boolean[] {true, true, false}),
+                new ExecutionData(2L, "com/example/Bar", new boolean[] {true, false})
+            )),
+            JacocoUtil.getExecutionId(parent.toByteArray())
+        );
+
+        // the child is not affected by subsequent changes to the parent
+        parent.add(executionData(new ExecutionData(2L, "com/example/Bar", new boolean[] {false, true})));
+        assertEquals(
+            JacocoUtil.getExecutionId(executionData(
+                new ExecutionData(1L, "com/example/Foo", new boolean[] {false, true, false}),
+                new ExecutionData(2L, "com/example/Bar", new boolean[] {true, false})
+            )),
+            JacocoUtil.getExecutionId(child.toByteArray())
+        );
+    }
+
+    private static byte[] executionData(ExecutionData... executionData) throws IOException {
+        var output = new ByteArrayOutputStream();
+        var writer = new ExecutionDataWriter(output);
+        for (var data : executionData) {
+            writer.visitClassExecution(data);
+        }
+        return output.toByteArray();
+    }
+
+}
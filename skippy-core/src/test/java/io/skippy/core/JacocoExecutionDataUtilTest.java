@@ -16,8 +16,12 @@
 
 package io.skippy.core;
 
+import org.jacoco.core.data.ExecutionData;
+import org.jacoco.core.data.ExecutionDataWriter;
+import org.jacoco.core.internal.data.CompactDataOutput;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
@@ -67,4 +71,34 @@ public class JacocoExecutionDataUtilTest {
         ), coveredClasses);
     }
 
+    @Test
+    void testAnalyzeExecutionData() throws URISyntaxException, IOException {
+        for (var execFile : asList("com.example.LeftPadderTest.exec", "com.example.LeftPadderTest-run2.exec", "com.example.RightPadderTest.exec")) {
+            var executionData = Files.readAllBytes(Path.of(getClass().getResource(execFile).toURI()));
+            var analysis = JacocoUtil.analyzeExecutionData(executionData);
+            assertEquals(JacocoUtil.getCoveredClasses(executionData), analysis.coveredClasses());
+            assertEquals(JacocoUtil.getExecutionId(executionData), analysis.executionId());
+        }
+    }
+
+    @Test
+    void testAnalyzeExecutionDataIgnoresClassesWithoutHits() throws IOException {
+        var output = new ByteArrayOutputStream();
+        var writer = new ExecutionDataWriter(output);
+        writer.visitClassExecution(new ExecutionData(1L, "com/example/Foo", new boolean[] {true, false}));
+        var dataOutput = new CompactDataOutput(output);
+        dataOutput.writeByte(ExecutionDataWriter.BLOCK_EXECUTIONDATA);
+        dataOutput.writeLong(2L);
+        dataOutput.writeUTF("com/example/Bar");
+        dataOutput.writeBooleanArray(new boolean[] {false, false});
+        dataOutput.flush();
+
+        var withoutBar = new ByteArrayOutputStream();
+        new ExecutionDataWriter(withoutBar).visitClassExecution(new ExecutionData(1L, "com/example/Foo", new boolean[] {true, false}));
+
+        var analysis = JacocoUtil.analyzeExecutionData(output.toByteArray());
+        assertEquals(asList(new ClassNameAndJaCoCoId("com.example.Foo", 1L)), analysis.coveredClasses());
+        assertEquals(JacocoUtil.getExecutionId(withoutBar.toByteArray()), analysis.executionId());
+    }
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static java.lang.System.lineSeparator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link LogWriter}.
+ *
+ * @author Florian McKee
+ */
+public class LogWriterTest {
+
+    @Test
+    void testFlushWritesPendingTextInOrder(@TempDir Path tempDir) throws IOException {
+        var file1 = tempDir.resolve("file1.log");
+        var file2 = tempDir.resolve("file2.log");
+        for (int i = 0; i < 1000; i++) {
+            LogWriter.append(i % 2 == 0 ? file1 : file2, "line %s%s".formatted(i, lineSeparator()));
+        }
+        LogWriter.flush();
+
+        var expected1 = new ArrayList<String>();
+        var expected2 = new ArrayList<String>();
+        IntStream.range(0, 1000).forEach(i -> (i % 2 == 0 ? expected1 : expected2).add("line %s".formatted(i)));
+        assertEquals(expected1, Files.readAllLines(file1, StandardCharsets.UTF_8));
+        assertEquals(expected2, Files.readAllLines(file2, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testConcurrentAppends(@TempDir Path tempDir) throws IOException {
+        var file = tempDir.resolve("file.log");
+        IntStream.range(0, 4000).parallel().forEach(i -> LogWriter.append(file, "line %s%s".formatted(i, lineSeparator())));
+        LogWriter.flush();
+
+        var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(4000, lines.size());
+        assertEquals(4000, lines.stream().distinct().count());
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MethodHashes}.
+ *
+ * @author Florian McKee
+ */
+public class MethodHashesTest {
+
+    private static final String PAD_LEFT = "padLeft(Ljava/lang/String;I)Ljava/lang/String;";
+    private static final String PAD_RIGHT = "padRight(Ljava/lang/String;I)Ljava/lang/String;";
+
+    @Test
+    void testMethodsAreSortedByNameAndDescriptor() throws IOException {
+        var methodHashes = methodHashesOf("StringUtils");
+        assertEquals(3, methodHashes.size());
+        assertEquals("<init>()V", methodHashes.getMethod(0));
+        assertEquals(PAD_LEFT, methodHashes.getMethod(1));
+        assertEquals(PAD_RIGHT, methodHashes.getMethod(2));
+        assertEquals(2, methodHashes.indexOf(PAD_RIGHT));
+        assertTrue(methodHashes.indexOf("unknown()V") < 0);
+    }
+
+    @Test
+    void testIdenticalMethodBodiesHaveIdenticalHashes() throws IOException {
+        var leftPadder = methodHashesOf("LeftPadder");
+        var stringUtils = methodHashesOf("StringUtils");
+        assertEquals(leftPadder.getHash(leftPadder.indexOf("<init>()V")), stringUtils.getHash(stringUtils.indexOf("<init>()V")));
+        assertNotEquals(stringUtils.getHash(stringUtils.indexOf(PAD_LEFT)), stringUtils.getHash(stringUtils.indexOf(PAD_RIGHT)));
+    }
+
+    @Test
+    void testGetChangedMethodsNoChange() throws IOException {
+        var methodHashes = methodHashesOf("StringUtils");
+        assertEquals(new BitSet(), methodHashes.getChangedMethods(methodHashesOf("StringUtils")));
+    }
+
+    @Test
+    void testGetChangedMethodsChangedMethod() throws IOException {
+        var current = methodHashesOf("StringUtils");
+        var previous = new MethodHashes(current.getStructureHash(), new String[] {"<init>()V", PAD_LEFT, PAD_RIGHT}, new int[] {current.getHash(0), current.getHash(1), 0});
+        var expected = new BitSet();
+        expected.set(2);
+        assertEquals(expected, previous.getChangedMethods(current));
+    }
+
+    @Test
+    void testGetChangedMethodsRemovedMethod() throws IOException {
+        var current = methodHashesOf("StringUtils");
+        var previous = new MethodHashes(current.getStructureHash(), new String[] {"<init>()V", "padCenter()V", PAD_LEFT, PAD_RIGHT}, new int[] {current.getHash(0), 0, current.getHash(1), current.getHash(2)});
+        var expected = new BitSet();
+        expected.set(1);
+        assertEquals(expected, previous.getChangedMethods(current));
+    }
+
+    @Test
+    void testGetChangedMethodsChangedStructure() throws IOException {
+        var current = methodHashesOf("StringUtils");
+        var previous = new MethodHashes("00000000", new String[] {"<init>()V", PAD_LEFT, PAD_RIGHT}, new int[] {current.getHash(0), current.getHash(1), current.getHash(2)});
+        assertNull(previous.getChangedMethods(current));
+    }
+
+    @Test
+    void testHashAsIntMatchesHashWith8Digits() {
+        var data = "foo".getBytes();
+        assertEquals(HashUtil.hashWith8Digits(data), "%08X".formatted(HashUtil.hashAsInt(data)));
+    }
+
+    private static MethodHashes methodHashesOf(String simpleClassName) throws IOException {
+        var classFile = Path.of("build/classes/java/test/com/example/%s.class".formatted(simpleClassName));
+        return MethodHashes.of(new ClassReader(Files.readAllBytes(classFile)));
+    }
+
+}
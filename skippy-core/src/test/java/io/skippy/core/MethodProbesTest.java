@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link MethodProbes}.
+ *
+ * @author Florian McKee
+ */
+public class MethodProbesTest {
+
+    @Test
+    void testExecutedMethodsFromProbes() {
+        var methodProbes = MethodProbes.of(Path.of("build/classes/java/test/com/example/StringUtils.class"));
+
+        // probes of com.example.StringUtils in com.example.LeftPadderTest.exec
+        var probes = new boolean[] {false, true, true, true, false, false, false};
+        assertEquals(asList("padLeft(Ljava/lang/String;I)Ljava/lang/String;"), methodProbes.getExecutedMethods(probes));
+
+        // probes that don't match the class file
+        assertNull(methodProbes.getExecutedMethods(new boolean[] {true}));
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static io.skippy.core.Reason.Category.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PredictionTableTest {
+
+    @Test
+    void testWriteAndParse() throws Exception {
+        var predictions = new LinkedHashMap<ClassFile, PredictionWithReason>();
+        predictions.put(
+                new ClassFile("com.example.FooTest", Path.of("com/example/FooTest.class"), Path.of("build/classes/java/test"), "hash-foo-test"),
+                PredictionWithReason.skip(new Reason(NO_CHANGE, Optional.empty()))
+        );
+        predictions.put(
+                new ClassFile("com.example.BarTest", Path.of("com/example/BarTest.class"), Path.of("build/classes/java/test"), "hash-bar-test"),
+                PredictionWithReason.execute(new Reason(BYTECODE_CHANGE_IN_COVERED_CLASS, Optional.of("covered class: com.example.Bar")))
+        );
+
+        var output = new ByteArrayOutputStream();
+        var testDurations = List.of(new TestDuration("com.example.FooTest", Path.of("build/classes/java/test"), 1234));
+        PredictionTable.from("4BF8006482E1196644540C5E3979F3B2", predictions, testDurations).write(Channels.newChannel(output));
+        var buffer = ByteBuffer.wrap(output.toByteArray());
+
+        assertEquals(Optional.of("4BF8006482E1196644540C5E3979F3B2"), PredictionTable.readTestImpactAnalysisId(buffer));
+        var table = PredictionTable.parse(buffer);
+        assertEquals("4BF8006482E1196644540C5E3979F3B2", table.getTestImpactAnalysisId());
+        assertEquals(2, table.size());
+        assertEquals(
+                Optional.of(PredictionWithReason.skip(new Reason(NO_CHANGE, Optional.empty()))),
+                table.get("com.example.FooTest", Path.of("build/classes/java/test"))
+        );
+        assertEquals(
+                Optional.of(PredictionWithReason.execute(new Reason(BYTECODE_CHANGE_IN_COVERED_CLASS, Optional.of("covered class: com.example.Bar")))),
+                table.get("com.example.BarTest", Path.of("build/classes/java/test"))
+        );
+        assertEquals(Optional.empty(), table.get("com.example.UnknownTest", Path.of("build/classes/java/test")));
+        assertEquals(Optional.of(1234L), table.getDuration("com.example.FooTest", Path.of("build/classes/java/test")));
+        assertEquals(Optional.empty(), table.getDuration("com.example.BarTest", Path.of("build/classes/java/test")));
+    }
+
+    @Test
+    void testGetUsesOutputFolderForAmbiguousClassNames() {
+        var predictions = new LinkedHashMap<ClassFile, PredictionWithReason>();
+        predictions.put(
+                new ClassFile("com.example.FooTest", Path.of("com/example/FooTest.class"), Path.of("build/classes/java/test"), "hash-foo-test"),
+                PredictionWithReason.skip(new Reason(NO_CHANGE, Optional.empty()))
+        );
+        predictions.put(
+                new ClassFile("com.example.FooTest", Path.of("com/example/FooTest.class"), Path.of("build/classes/kotlin/test"), "hash-foo-test"),
+                PredictionWithReason.execute(new Reason(BYTECODE_CHANGE_IN_TEST, Optional.empty()))
+        );
+        var table = PredictionTable.from("4BF8006482E1196644540C5E3979F3B2", predictions);
+
+        assertEquals(Prediction.SKIP, table.get("com.example.FooTest", Path.of("build/classes/java/test")).get().prediction());
+        assertEquals(Prediction.EXECUTE, table.get("com.example.FooTest", Path.of("build/classes/kotlin/test")).get().prediction());
+        assertEquals(Optional.empty(), table.get("com.example.FooTest", Path.of("build/classes/groovy/test")));
+    }
+
+    @Test
+    void testReadTestImpactAnalysisIdOfUnknownFormat() {
+        assertEquals(Optional.empty(), PredictionTable.readTestImpactAnalysisId(ByteBuffer.wrap(new byte[0])));
+        assertEquals(Optional.empty(), PredictionTable.readTestImpactAnalysisId(ByteBuffer.wrap("{\"id\": \"\"}".getBytes())));
+    }
+
+}
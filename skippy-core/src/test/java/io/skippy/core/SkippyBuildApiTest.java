@@ -27,14 +27,21 @@ import org.mockito.ArgumentCaptor;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
 import java.util.Optional;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 public final class SkippyBuildApiTest {
@@ -65,7 +72,7 @@ public final class SkippyBuildApiTest {
 
         when(skippyRepository.readLatestTestImpactAnalysis()).thenReturn(TestImpactAnalysis.NOT_FOUND);
         buildApi.buildStarted();
-        when(skippyRepository.getTestRecordings()).thenReturn(asList());
+        when(skippyRepository.getTestRecordings(eq(false), any())).thenReturn(asList());
 
         var tiaCaptor = ArgumentCaptor.forClass(TestImpactAnalysis.class);
         buildApi.buildFinished();
@@ -107,7 +114,7 @@ public final class SkippyBuildApiTest {
         when(skippyRepository.readLatestTestImpactAnalysis()).thenReturn(TestImpactAnalysis.NOT_FOUND);
         buildApi.buildStarted();
 
-        when(skippyRepository.getTestRecordings()).thenReturn(asList(
+        when(skippyRepository.getTestRecordings(eq(true), any())).thenReturn(asList(
             new TestRecording(
                 "com.example.FooTest",
                 Path.of("build/classes/java/test"),
@@ -116,7 +123,7 @@ public final class SkippyBuildApiTest {
                     ClassNameAndJaCoCoId.from(Foo.class),
                     ClassNameAndJaCoCoId.from(FooTest.class)
                 ),
-                "0xFOO".getBytes(StandardCharsets.UTF_8)
+                Optional.of("FOO")
             ),
             new TestRecording(
                 "com.example.BarTest",
@@ -126,13 +133,10 @@ public final class SkippyBuildApiTest {
                     ClassNameAndJaCoCoId.from(Bar.class),
                     ClassNameAndJaCoCoId.from(BarTest.class)
                 ),
-                "0xBAR".getBytes(StandardCharsets.UTF_8)
+                Optional.of("BAR")
             )
         ));
 
-        when(skippyRepository.saveJacocoExecutionData("0xFOO".getBytes(StandardCharsets.UTF_8))).thenReturn("FOO");
-        when(skippyRepository.saveJacocoExecutionData("0xBAR".getBytes(StandardCharsets.UTF_8))).thenReturn("BAR");
-
         var tiaCaptor = ArgumentCaptor.forClass(TestImpactAnalysis.class);
         buildApi.buildFinished();
         verify(skippyRepository).saveTestImpactAnalysis(tiaCaptor.capture());
@@ -180,7 +184,7 @@ public final class SkippyBuildApiTest {
         when(skippyRepository.readLatestTestImpactAnalysis()).thenReturn(TestImpactAnalysis.NOT_FOUND);
         buildApi.buildStarted();
 
-        when(skippyRepository.getTestRecordings()).thenReturn(asList(
+        when(skippyRepository.getTestRecordings(eq(false), any())).thenReturn(asList(
                 new TestRecording(
                     "com.example.FooTest",
                     Path.of("build/classes/java/test"),
@@ -189,7 +193,7 @@ public final class SkippyBuildApiTest {
                         ClassNameAndJaCoCoId.from(Foo.class),
                         ClassNameAndJaCoCoId.from(FooTest.class)
                     ),
-                    "0xFOO".getBytes(StandardCharsets.UTF_8)
+                    Optional.empty()
                 ),
                 new TestRecording(
                     "com.example.BarTest",
@@ -199,7 +203,7 @@ public final class SkippyBuildApiTest {
                         ClassNameAndJaCoCoId.from(Bar.class),
                         ClassNameAndJaCoCoId.from(BarTest.class)
                     ),
-                    "0xBAR".getBytes(StandardCharsets.UTF_8)
+                    Optional.empty()
                 )
         ));
 
@@ -249,7 +253,7 @@ public final class SkippyBuildApiTest {
         when(skippyRepository.readLatestTestImpactAnalysis()).thenReturn(TestImpactAnalysis.NOT_FOUND);
         buildApi.buildStarted();
 
-        when(skippyRepository.getTestRecordings()).thenReturn(asList(
+        when(skippyRepository.getTestRecordings(eq(false), any())).thenReturn(asList(
             new TestRecording(
                 "com.example.FooTest",
                 Path.of("build/classes/java/test"),
@@ -258,7 +262,7 @@ public final class SkippyBuildApiTest {
                     ClassNameAndJaCoCoId.from(Foo.class),
                     ClassNameAndJaCoCoId.from(FooTest.class)
                 ),
-                "0xFOO".getBytes(StandardCharsets.UTF_8)
+                Optional.empty()
             ),
             new TestRecording(
                 "com.example.BarTest",
@@ -268,7 +272,7 @@ public final class SkippyBuildApiTest {
                     ClassNameAndJaCoCoId.from(Bar.class),
                     ClassNameAndJaCoCoId.from(BarTest.class)
                 ),
-                "0xBAR".getBytes(StandardCharsets.UTF_8)
+                Optional.empty()
             )
         ));
 
@@ -317,7 +321,7 @@ public final class SkippyBuildApiTest {
         when(skippyRepository.readLatestTestImpactAnalysis()).thenReturn(TestImpactAnalysis.NOT_FOUND);
         buildApi.buildStarted();
 
-        when(skippyRepository.getTestRecordings()).thenReturn(asList(
+        when(skippyRepository.getTestRecordings(eq(false), any())).thenReturn(asList(
             new TestRecording(
                 "com.example.FooTest",
                 Path.of("build/classes/java/test"),
@@ -325,7 +329,7 @@ public final class SkippyBuildApiTest {
                 asList(
                     ClassNameAndJaCoCoId.from(Foo.class)
                 ),
-                "0xFOO".getBytes(StandardCharsets.UTF_8)
+                Optional.empty()
             ),
             new TestRecording(
                 "com.example.BarTest",
@@ -334,7 +338,7 @@ public final class SkippyBuildApiTest {
                 asList(
                     ClassNameAndJaCoCoId.from(Bar.class)
                 ),
-                "0xBAR".getBytes(StandardCharsets.UTF_8)
+                Optional.empty()
             )
         ));
 
@@ -449,7 +453,7 @@ public final class SkippyBuildApiTest {
 
         buildApi.buildStarted();
 
-        when(skippyRepository.getTestRecordings()).thenReturn(asList(
+        when(skippyRepository.getTestRecordings(eq(false), any())).thenReturn(asList(
             new TestRecording(
                 "com.example.FooTest",
                 Path.of("build/classes/java/test"),
@@ -458,7 +462,7 @@ public final class SkippyBuildApiTest {
                     ClassNameAndJaCoCoId.from(Foo.class),
                     ClassNameAndJaCoCoId.from(FooTest.class)
                 ),
-                "0xFOO".getBytes(StandardCharsets.UTF_8)
+                Optional.empty()
             )
         ));
 
@@ -527,7 +531,7 @@ public final class SkippyBuildApiTest {
 
         buildApi.buildStarted();
 
-        when(skippyRepository.getTestRecordings()).thenReturn(asList(
+        when(skippyRepository.getTestRecordings(eq(true), any())).thenReturn(asList(
             new TestRecording(
                 "com.example.FooTest",
                 Path.of("build/classes/java/test"),
@@ -536,12 +540,10 @@ public final class SkippyBuildApiTest {
                     ClassNameAndJaCoCoId.from(Foo.class),
                     ClassNameAndJaCoCoId.from(FooTest.class)
                 ),
-                "0xFOO".getBytes(StandardCharsets.UTF_8)
+                Optional.of("11111111111111111111111111111111")
             )
         ));
 
-        when(skippyRepository.saveJacocoExecutionData("0xFOO".getBytes(StandardCharsets.UTF_8))).thenReturn("11111111111111111111111111111111");
-
         var tiaCaptor = ArgumentCaptor.forClass(TestImpactAnalysis.class);
         buildApi.buildFinished();
         verify(skippyRepository).saveTestImpactAnalysis(tiaCaptor.capture());
@@ -625,7 +627,7 @@ public final class SkippyBuildApiTest {
 
         buildApi.buildStarted();
 
-        when(skippyRepository.getTestRecordings()).thenReturn(asList(
+        when(skippyRepository.getTestRecordings(eq(false), any())).thenReturn(asList(
             new TestRecording(
                 "com.example.FooTest",
                 Path.of("build/classes/java/test"),
@@ -634,7 +636,7 @@ public final class SkippyBuildApiTest {
                     ClassNameAndJaCoCoId.from(Foo.class),
                     ClassNameAndJaCoCoId.from(FooTest.class)
                 ),
-                "0xFOO".getBytes(StandardCharsets.UTF_8)
+                Optional.empty()
             )
         ));
 
@@ -676,4 +678,110 @@ public final class SkippyBuildApiTest {
         JSONAssert.assertEquals(expected, tia.toJson(), JSONCompareMode.LENIENT);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testBuildFinishedSavesTestDurations() {
+        var buildApi = new SkippyBuildApi(SkippyConfiguration.DEFAULT, classFileCollector, skippyRepository);
+        var testOutputFolder = Path.of("build/classes/java/test");
+        when(skippyRepository.readLatestTestImpactAnalysis()).thenReturn(TestImpactAnalysis.NOT_FOUND);
+        when(skippyRepository.readTestDurations()).thenReturn(asList(
+                new TestDuration("com.example.BarTest", testOutputFolder, 70),
+                new TestDuration("com.example.FooTest", testOutputFolder, 80)
+        ));
+        when(skippyRepository.getTestRecordings(eq(false), any())).thenReturn(asList(
+                new TestRecording("com.example.FooTest", testOutputFolder, asList(TestTag.PASSED), asList(ClassNameAndJaCoCoId.from(FooTest.class)), Optional.empty(),
+                        emptyMap(), emptySet(), emptySet(), emptyMap(), Optional.of(120L)),
+                new TestRecording("com.example.BarTest", testOutputFolder, asList(TestTag.PASSED), asList(ClassNameAndJaCoCoId.from(BarTest.class)), Optional.empty())
+        ));
+
+        buildApi.buildFinished();
+
+        verify(skippyRepository).saveTestDurations(asList(
+                new TestDuration("com.example.BarTest", testOutputFolder, 70),
+                new TestDuration("com.example.FooTest", testOutputFolder, 120)
+        ));
+        var tiaCaptor = ArgumentCaptor.forClass(TestImpactAnalysis.class);
+        verify(skippyRepository).saveTestImpactAnalysis(tiaCaptor.capture());
+        assertFalse(tiaCaptor.getValue().toJson().contains("duration"));
+    }
+
+    @Test
+    void testExcludeSkippedTests() {
+        var buildApi = new SkippyBuildApi(SkippyConfiguration.DEFAULT, classFileCollector, skippyRepository);
+        var predictions = new LinkedHashMap<ClassFile, PredictionWithReason>();
+        var testOutputFolder = Path.of("build/classes/java/test");
+        predictions.put(new ClassFile("com.example.FooTest", Path.of("com/example/FooTest.class"), testOutputFolder, "hash-foo-test"), PredictionWithReason.skip(new Reason(Reason.Category.NO_CHANGE, Optional.empty())));
+        predictions.put(new ClassFile("com.example.BarTest", Path.of("com/example/BarTest.class"), testOutputFolder, "hash-bar-test"), PredictionWithReason.execute(new Reason(Reason.Category.BYTECODE_CHANGE_IN_TEST, Optional.empty())));
+        predictions.put(new ClassFile("com.example.UnknownTest", Path.of("com/example/UnknownTest.class"), testOutputFolder, "hash-unknown-test"), PredictionWithReason.skip(new Reason(Reason.Category.NO_CHANGE, Optional.empty())));
+        predictions.put(new ClassFile("com.example.LeftPadderTest", Path.of("com/example/LeftPadderTest.class"), Path.of("build/classes/java/integrationTest"), "hash-left-padder-test"), PredictionWithReason.skip(new Reason(Reason.Category.NO_CHANGE, Optional.empty())));
+        when(skippyRepository.readPredictionTable()).thenReturn(Optional.of(PredictionTable.from("4BF8006482E1196644540C5E3979F3B2", predictions)));
+
+        var skippedTests = buildApi.excludeSkippedTests(asList(testOutputFolder), asList(testOutputFolder.toAbsolutePath()));
+
+        assertEquals(asList("com.example.FooTest"), skippedTests);
+        verify(skippyRepository).logPrediction(testOutputFolder, "com.example.FooTest", PredictionWithReason.skip(new Reason(Reason.Category.NO_CHANGE, Optional.empty())));
+        verify(skippyRepository, never()).logPrediction(any(), eq("com.example.UnknownTest"), any());
+    }
+
+    @Test
+    void testExcludeSkippedTestsWithNestedTests() {
+        var buildApi = new SkippyBuildApi(SkippyConfiguration.DEFAULT, classFileCollector, skippyRepository);
+        var predictions = new LinkedHashMap<ClassFile, PredictionWithReason>();
+        var testOutputFolder = Path.of("build/classes/java/test");
+        var skip = PredictionWithReason.skip(new Reason(Reason.Category.NO_CHANGE, Optional.empty()));
+        predictions.put(new ClassFile("com.example.NestedTestsTest", Path.of("com/example/NestedTestsTest.class"), testOutputFolder, "hash-nested-tests-test"), skip);
+        predictions.put(new ClassFile("com.example.NestedTestsTest$Level2BarTest", Path.of("com/example/NestedTestsTest$Level2BarTest.class"), testOutputFolder, "hash-level-2-bar-test"), skip);
+        predictions.put(new ClassFile("com.example.NestedTestsTest$Level2FooTest", Path.of("com/example/NestedTestsTest$Level2FooTest.class"), testOutputFolder, "hash-level-2-foo-test"), PredictionWithReason.execute(new Reason(Reason.Category.BYTECODE_CHANGE_IN_TEST, Optional.empty())));
+        predictions.put(new ClassFile("com.example.FooTest", Path.of("com/example/FooTest.class"), testOutputFolder, "hash-foo-test"), skip);
+        when(skippyRepository.readPredictionTable()).thenReturn(Optional.of(PredictionTable.from("4BF8006482E1196644540C5E3979F3B2", predictions)));
+
+        var skippedTests = buildApi.excludeSkippedTests(asList(testOutputFolder), asList(testOutputFolder.toAbsolutePath()));
+
+        assertEquals(asList("com.example.FooTest"), skippedTests);
+        verify(skippyRepository, never()).logPrediction(any(), eq("com.example.NestedTestsTest"), any());
+        verify(skippyRepository, never()).logPrediction(any(), eq("com.example.NestedTestsTest$Level2BarTest"), any());
+    }
+
+    @Test
+    void testExcludeSkippedTestsWithSkippedNestedTests() {
+        var buildApi = new SkippyBuildApi(SkippyConfiguration.DEFAULT, classFileCollector, skippyRepository);
+        var predictions = new LinkedHashMap<ClassFile, PredictionWithReason>();
+        var testOutputFolder = Path.of("build/classes/java/test");
+        var skip = PredictionWithReason.skip(new Reason(Reason.Category.NO_CHANGE, Optional.empty()));
+        predictions.put(new ClassFile("com.example.NestedTestsTest", Path.of("com/example/NestedTestsTest.class"), testOutputFolder, "hash-nested-tests-test"), skip);
+        predictions.put(new ClassFile("com.example.NestedTestsTest$Level2BarTest", Path.of("com/example/NestedTestsTest$Level2BarTest.class"), testOutputFolder, "hash-level-2-bar-test"), skip);
+        predictions.put(new ClassFile("com.example.NestedTestsTest$Level2FooTest$Level3Test", Path.of("com/example/NestedTestsTest$Level2FooTest$Level3Test.class"), testOutputFolder, "hash-level-3-test"), skip);
+        when(skippyRepository.readPredictionTable()).thenReturn(Optional.of(PredictionTable.from("4BF8006482E1196644540C5E3979F3B2", predictions)));
+
+        var skippedTests = buildApi.excludeSkippedTests(asList(testOutputFolder), asList(testOutputFolder.toAbsolutePath()));
+
+        assertEquals(asList("com.example.NestedTestsTest"), skippedTests);
+        verify(skippyRepository).logPrediction(testOutputFolder, "com.example.NestedTestsTest", skip);
+        verify(skippyRepository).logPrediction(testOutputFolder, "com.example.NestedTestsTest$Level2BarTest", skip);
+        verify(skippyRepository).logPrediction(testOutputFolder, "com.example.NestedTestsTest$Level2FooTest$Level3Test", skip);
+    }
+
+    @Test
+    void testExcludeSkippedTestsWithoutPredictionTable() {
+        var buildApi = new SkippyBuildApi(SkippyConfiguration.DEFAULT, classFileCollector, skippyRepository);
+        when(skippyRepository.readPredictionTable()).thenReturn(Optional.empty());
+
+        assertEquals(emptyList(), buildApi.excludeSkippedTests(asList(Path.of("build/classes/java/test")), emptyList()));
+    }
+
+    @Test
+    void testExcludeSkippedTestsWithUnreadablePredictionTable() {
+        var buildApi = new SkippyBuildApi(SkippyConfiguration.DEFAULT, classFileCollector, skippyRepository);
+        when(skippyRepository.readPredictionTable()).thenThrow(new UncheckedIOException(new IOException("disk error")));
+
+        assertEquals(emptyList(), buildApi.excludeSkippedTests(asList(Path.of("build/classes/java/test")), emptyList()));
+    }
+
+    @Test
+    void testExcludeSkippedTestsPropagatesUnexpectedExceptions() {
+        var buildApi = new SkippyBuildApi(SkippyConfiguration.DEFAULT, classFileCollector, skippyRepository);
+        when(skippyRepository.readPredictionTable()).thenThrow(new IllegalStateException("bug"));
+
+        assertThrows(IllegalStateException.class, () -> buildApi.excludeSkippedTests(asList(Path.of("build/classes/java/test")), emptyList()));
+    }
+
+}
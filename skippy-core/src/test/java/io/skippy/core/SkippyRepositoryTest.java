@@ -20,6 +20,7 @@ import com.example.LeftPadderTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -27,7 +28,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static java.nio.file.Files.*;
 import static java.util.Arrays.asList;
@@ -66,6 +71,30 @@ public class SkippyRepositoryTest {
         assertFalse(exists(skippyFolder.resolve("test-impact-analysis.json")));
     }
 
+    @Test
+    void testPredictionTableIsSavedInBuildDir(@TempDir Path buildDir) throws IOException {
+        var repository = SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, buildDir);
+        Files.writeString(skippyFolder.resolve("LATEST"), "4BF8006482E1196644540C5E3979F3B2", StandardCharsets.UTF_8);
+        repository.savePredictionTable(PredictionTable.from("4BF8006482E1196644540C5E3979F3B2", Map.of()));
+
+        assertTrue(exists(buildDir.resolve("skippy-predictions.bin")));
+        assertFalse(exists(skippyFolder.resolve("skippy-predictions.bin")));
+        assertTrue(repository.readPredictionTable().isPresent());
+        assertEquals(Optional.empty(), skippyRepository.readPredictionTable());
+
+        repository.deletePredictionTable();
+        assertFalse(exists(buildDir.resolve("skippy-predictions.bin")));
+    }
+
+    @Test
+    void testClassFileHashesAreSavedInBuildDir(@TempDir Path buildDir) {
+        var repository = SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, buildDir);
+        repository.saveClassFileHashes();
+
+        assertTrue(exists(buildDir.resolve("skippy-class-file-hashes.bin")));
+        assertFalse(exists(skippyFolder.resolve("skippy-class-file-hashes.bin")));
+    }
+
     @Test
     void testSaveConfiguration() throws IOException {
         var configFile = skippyFolder.resolve("config.json");
@@ -117,6 +146,31 @@ public class SkippyRepositoryTest {
         assertFalse(exists(logFile));
     }
 
+    @Test
+    void testReadPredictionsLog() throws IOException {
+        Files.writeString(skippyFolder.resolve("predictions.log"), """
+            build/classes/java/test,com.example.FooTest,SKIP,NO_CHANGE
+            build/classes/java/test,com.example.BarTest,EXECUTE,BYTECODE_CHANGE_IN_COVERED_CLASS,"covered class: com.example.Bar"
+            build/classes/java/test,com.example.BazTest,ALWAYS_EXECUTE,TEST_TAGGED_AS_ALWAYS_EXECUTE
+            """, StandardCharsets.UTF_8);
+
+        assertEquals(asList(
+            new ClassNameAndPrediction("com.example.FooTest", Prediction.SKIP),
+            new ClassNameAndPrediction("com.example.BarTest", Prediction.EXECUTE),
+            new ClassNameAndPrediction("com.example.BazTest", Prediction.ALWAYS_EXECUTE)
+        ), skippyRepository.readPredictionsLog());
+    }
+
+    @Test
+    void testLog() throws IOException {
+        skippyRepository.log("statement 1");
+        skippyRepository.log("statement 2");
+        skippyRepository.deleteLogFiles();
+        skippyRepository.log("statement 3");
+        LogWriter.flush();
+        assertEquals(asList("statement 3"), Files.readAllLines(skippyFolder.resolve("logging.log"), StandardCharsets.UTF_8));
+    }
+
     @Test
     void testSaveAndReadJaCoCoExecutionData() throws Exception {
         var executionData = Files.readAllBytes(Paths.get(getClass().getResource("com.example.LeftPadderTest.exec").toURI()));
@@ -125,6 +179,98 @@ public class SkippyRepositoryTest {
         assertArrayEquals(executionData, skippyRepository.readJacocoExecutionData(id).get());
     }
 
+    @Test
+    void testGetTestRecordings() throws Exception {
+        var leftPadderTest = Files.readAllBytes(Paths.get(getClass().getResource("com.example.LeftPadderTest.exec").toURI()));
+        var rightPadderTest = Files.readAllBytes(Paths.get(getClass().getResource("com.example.RightPadderTest.exec").toURI()));
+        var outputFolder = skippyFolder.resolve("tmp").resolve("build/classes/java/test");
+        createDirectories(outputFolder);
+        Files.write(outputFolder.resolve("com.example.LeftPadderTest.exec"), leftPadderTest);
+        Files.write(outputFolder.resolve("com.example.RightPadderTest.exec"), rightPadderTest);
+        Files.writeString(outputFolder.resolve("com.example.RightPadderTest.tags"), "FAILED", StandardCharsets.UTF_8);
+
+        var testRecordings = skippyRepository.getTestRecordings(true).stream()
+                .sorted(Comparator.comparing(TestRecording::className))
+                .toList();
+
+        assertEquals(2, testRecordings.size());
+        assertEquals("com.example.LeftPadderTest", testRecordings.get(0).className());
+        assertEquals(Path.of("build/classes/java/test"), testRecordings.get(0).outputFolder());
+        assertEquals(asList(TestTag.PASSED), testRecordings.get(0).tags());
+        assertEquals(JacocoUtil.getCoveredClasses(leftPadderTest), testRecordings.get(0).coveredClasses());
+        assertEquals(Optional.of("D40016DC6B856D89EA17DB14F370D026"), testRecordings.get(0).executionId());
+        assertArrayEquals(leftPadderTest, skippyRepository.readJacocoExecutionData("D40016DC6B856D89EA17DB14F370D026").get());
+
+        assertEquals("com.example.RightPadderTest", testRecordings.get(1).className());
+        assertEquals(asList(TestTag.FAILED), testRecordings.get(1).tags());
+        assertEquals(JacocoUtil.getCoveredClasses(rightPadderTest), testRecordings.get(1).coveredClasses());
+
+        assertEquals(Optional.empty(), skippyRepository.getTestRecordings(false).get(0).executionId());
+    }
+
+    @Test
+    void testGetTestRecordingsWithTestMethods() throws Exception {
+        var leftPadderTest = Files.readAllBytes(Paths.get(getClass().getResource("com.example.LeftPadderTest.exec").toURI()));
+        var outputFolder = skippyFolder.resolve("tmp").resolve("build/classes/java/test");
+        createDirectories(outputFolder);
+        Files.write(outputFolder.resolve("com.example.LeftPadderTest.exec"), leftPadderTest);
+        Files.writeString(outputFolder.resolve("com.example.LeftPadderTest.methods"), """
+            COVERED	<lifecycle>	com.example.LeftPadderTest:-1
+            COVERED	testPadLeft	com.example.LeftPadder:42	com.example.StringUtils:-7
+            SKIPPED	testPadRight
+            SKIPPED	testPadLeft
+            FAILED	testPadLeft
+            """, StandardCharsets.UTF_8);
+        Files.writeString(outputFolder.resolve("com.example.LeftPadderTest.duration"), """
+            100
+            23
+            """, StandardCharsets.UTF_8);
+
+        var testRecording = skippyRepository.getTestRecordings(false).get(0);
+
+        assertEquals(asList(new ClassNameAndJaCoCoId("com.example.LeftPadderTest", -1)), testRecording.coveredClassesByMethod().get("<lifecycle>"));
+        assertEquals(asList(new ClassNameAndJaCoCoId("com.example.LeftPadder", 42), new ClassNameAndJaCoCoId("com.example.StringUtils", -7)), testRecording.coveredClassesByMethod().get("testPadLeft"));
+        assertEquals(Set.of("testPadRight"), testRecording.skippedMethods());
+        assertEquals(Set.of("testPadLeft"), testRecording.failedMethods());
+        assertEquals(Optional.of(123L), testRecording.duration());
+    }
+
+    @Test
+    void testAfterAllMergesWithPreviouslyWrittenExecutionData() throws Exception {
+        var leftPadderTest = Files.readAllBytes(Paths.get(getClass().getResource("com.example.LeftPadderTest.exec").toURI()));
+        var rightPadderTest = Files.readAllBytes(Paths.get(getClass().getResource("com.example.RightPadderTest.exec").toURI()));
+
+        // the project folder has to contain the output folder of the test class
+        var outputFolder = Path.of(LeftPadderTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        var repository = SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, outputFolder.getParent().getParent().getParent(), null);
+        repository.resetSkippyFolder();
+
+        repository.afterAll(LeftPadderTest.class, leftPadderTest);
+        repository.afterAll(LeftPadderTest.class, rightPadderTest);
+
+        var testRecording = repository.getTestRecordings(false).get(0);
+        var expected = new TreeSet<>(JacocoUtil.getCoveredClasses(leftPadderTest));
+        expected.addAll(JacocoUtil.getCoveredClasses(rightPadderTest));
+        assertEquals(expected, new TreeSet<>(testRecording.coveredClasses()));
+    }
+
+    @Test
+    void testGetTestRecordingsOmitsMethodsOfTestWithSingleTestMethod() throws Exception {
+        var leftPadderTest = Files.readAllBytes(Paths.get(getClass().getResource("com.example.LeftPadderTest.exec").toURI()));
+        var outputFolder = skippyFolder.resolve("tmp").resolve("build/classes/java/test");
+        createDirectories(outputFolder);
+        Files.write(outputFolder.resolve("com.example.LeftPadderTest.exec"), leftPadderTest);
+        Files.writeString(outputFolder.resolve("com.example.LeftPadderTest.methods"), """
+            COVERED	<lifecycle>	com.example.LeftPadderTest:-1
+            COVERED	testPadLeft	com.example.LeftPadder:42
+            COVERED	testPadLeft	com.example.StringUtils:-7
+            """, StandardCharsets.UTF_8);
+
+        var testRecording = skippyRepository.getTestRecordings(false).get(0);
+
+        assertEquals(Map.of(), testRecording.coveredClassesByMethod());
+    }
+
     @Test
     void testSaveTestImpactAnalysis() throws IOException {
         var testImpactAnalysis = TestImpactAnalysis.parse("""
@@ -152,6 +298,8 @@ public class SkippyRepositoryTest {
         assertTrue(exists(tiaJson));
         assertThat(readString(tiaJson, StandardCharsets.UTF_8)).isEqualToIgnoringWhitespace(testImpactAnalysis.toJson());
 
+        assertTrue(exists(skippyFolder.resolve("test-impact-analysis.bin")));
+
         var latest = skippyFolder.resolve("LATEST");
         assertTrue(exists(latest));
         assertThat(readString(latest, StandardCharsets.UTF_8)).isEqualTo("4BF8006482E1196644540C5E3979F3B2");
@@ -221,4 +369,63 @@ public class SkippyRepositoryTest {
         assertEquals(testImpactAnalysis, skippyRepository.readLatestTestImpactAnalysis());
     }
 
+    @Test
+    void readLatestTestImpactAnalysis_from_binary_file() {
+        var testImpactAnalysis = TestImpactAnalysis.parse("""
+            {
+                "classes": {
+                    "0": {
+                        "name": "com.example.FooTest",
+                        "path": "com/example/FooTest.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "ZT0GoiWG8Az5TevH9/JwBg=="
+                    }
+                },
+                "tests": [
+                    {
+                        "class": "0",
+                        "tags": ["PASSED"],
+                        "coveredClasses": ["0"]
+                    }
+                ]
+            }
+        """);
+        skippyRepository.saveTestImpactAnalysis(testImpactAnalysis);
+        var read = skippyRepository.readLatestTestImpactAnalysis();
+        assertEquals(testImpactAnalysis, read);
+        assertEquals("4BF8006482E1196644540C5E3979F3B2", read.getId());
+    }
+
+    @Test
+    void testSaveTestImpactAnalysisWhileLatestAnalysisIsMapped() {
+        var json = """
+            {
+                "classes": {
+                    "0": {
+                        "name": "com.example.FooTest",
+                        "path": "com/example/FooTest.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "%s"
+                    }
+                },
+                "tests": [
+                    {
+                        "class": "0",
+                        "tags": ["PASSED"],
+                        "coveredClasses": ["0"]
+                    }
+                ]
+            }
+        """;
+        var first = TestImpactAnalysis.parse(json.formatted("ZT0GoiWG8Az5TevH9/JwBg=="));
+        var second = TestImpactAnalysis.parse(json.formatted("AAAAAAAAAAAAAAAAAAAAAA=="));
+        skippyRepository.saveTestImpactAnalysis(first);
+        assertEquals(first, skippyRepository.readLatestTestImpactAnalysis());
+
+        skippyRepository.saveTestImpactAnalysis(second);
+
+        assertEquals(second, skippyRepository.readLatestTestImpactAnalysis());
+        assertFalse(exists(skippyFolder.resolve("test-impact-analysis.bin.tmp")));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import com.example.BarTest;
+import com.example.FooTest;
+import com.example.LeftPadderTest;
+import com.example.NestedTestsTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.lang.System.lineSeparator;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SkippyTestApiTest {
+
+    @TempDir
+    static Path projectDir;
+
+    @Test
+    void testRiskBasedOrder() {
+        var outputFolder = Path.of("build/classes/java/test");
+        var predictions = new LinkedHashMap<ClassFile, PredictionWithReason>();
+        predictions.put(classFile(BarTest.class), PredictionWithReason.execute(new Reason(Reason.Category.TEST_FAILED_PREVIOUSLY, Optional.empty())));
+        predictions.put(classFile(FooTest.class), PredictionWithReason.execute(new Reason(Reason.Category.TEST_FAILED_PREVIOUSLY, Optional.empty())));
+        predictions.put(classFile(LeftPadderTest.class), PredictionWithReason.execute(new Reason(Reason.Category.BYTECODE_CHANGE_IN_TEST, Optional.empty())));
+        predictions.put(classFile(NestedTestsTest.class), PredictionWithReason.skip(new Reason(Reason.Category.NO_CHANGE, Optional.empty())));
+        var testDurations = List.of(
+                new TestDuration(BarTest.class.getName(), outputFolder, 50),
+                new TestDuration(FooTest.class.getName(), outputFolder, 100),
+                new TestDuration(LeftPadderTest.class.getName(), outputFolder, 500)
+        );
+        var predictionTable = PredictionTable.from("4BF8006482E1196644540C5E3979F3B2", predictions, testDurations);
+        Supplier<TestImpactAnalysis> testImpactAnalysis = () -> {
+            throw new AssertionError("The risk assessment must not load the test impact analysis.");
+        };
+        var skippyTestApi = new SkippyTestApi(Optional.of(predictionTable), testImpactAnalysis, SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        var tests = new ArrayList<Class<?>>(List.of(NestedTestsTest.class, FooTest.class, LeftPadderTest.class, BarTest.class));
+        tests.sort(skippyTestApi.getRiskBasedOrder());
+        assertEquals(List.of(LeftPadderTest.class, BarTest.class, FooTest.class, NestedTestsTest.class), tests);
+    }
+
+    @Test
+    void testPredictionOfSkippedTestIsWrittenSynchronously() throws IOException {
+        var predictions = new LinkedHashMap<ClassFile, PredictionWithReason>();
+        predictions.put(classFile(NestedTestsTest.class), PredictionWithReason.skip(new Reason(Reason.Category.NO_CHANGE, Optional.empty())));
+        var predictionTable = PredictionTable.from("4BF8006482E1196644540C5E3979F3B2", predictions);
+        var skippyRepository = SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null);
+        var skippyTestApi = new SkippyTestApi(Optional.of(predictionTable), () -> TestImpactAnalysis.NOT_FOUND, SkippyConfiguration.DEFAULT, skippyRepository);
+
+        assertFalse(skippyTestApi.testNeedsToBeExecuted(NestedTestsTest.class));
+
+        var predictionsLog = Files.readAllLines(SkippyFolder.get(projectDir).resolve("predictions.log"), StandardCharsets.UTF_8);
+        assertTrue(predictionsLog.contains("build/classes/java/test,com.example.NestedTestsTest,SKIP,NO_CHANGE"));
+    }
+
+    @Test
+    void testAfterClassWritesPendingLogStatements(@TempDir Path logFolder) throws IOException {
+        var skippyTestApi = new SkippyTestApi(Optional.empty(), () -> TestImpactAnalysis.NOT_FOUND, SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        var logFile = logFolder.resolve("test.log");
+        LogWriter.append(logFile, "statement" + lineSeparator());
+
+        skippyTestApi.afterClass(FooTest.class);
+
+        assertEquals(List.of("statement"), Files.readAllLines(logFile, StandardCharsets.UTF_8));
+    }
+
+    private static ClassFile classFile(Class<?> test) {
+        return new ClassFile(test.getName(), Path.of(test.getName().replace('.', '/') + ".class"), Path.of("build/classes/java/test"), "00000000");
+    }
+
+}
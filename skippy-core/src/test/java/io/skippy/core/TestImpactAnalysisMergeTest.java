@@ -18,7 +18,16 @@ package io.skippy.core;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class TestImpactAnalysisMergeTest {
 
@@ -299,4 +308,91 @@ public class TestImpactAnalysisMergeTest {
         """);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testMergeCarriesOverSkippedMethods() {
+        var foo = new ClassFile("com.example.Foo", Path.of("com/example/Foo.class"), Path.of("build/classes/java/main"), "Foo#hash");
+        var bar = new ClassFile("com.example.Bar", Path.of("com/example/Bar.class"), Path.of("build/classes/java/main"), "Bar#hash");
+        var fooTest = new ClassFile("com.example.FooTest", Path.of("com/example/FooTest.class"), Path.of("build/classes/java/test"), "FooTest#hash");
+        var baselineClasses = ClassFileContainer.from(asList(foo, bar, fooTest));
+        var baseline = new TestImpactAnalysis(
+                baselineClasses,
+                asList(new AnalyzedTest.Builder(baselineClasses.getId(fooTest), List.of(TestTag.PASSED), ids(baselineClasses, foo, bar, fooTest)).methods(asList(
+                        new AnalyzedTestMethod("testFoo", ids(baselineClasses, foo, fooTest)),
+                        new AnalyzedTestMethod("testBar", ids(baselineClasses, bar, fooTest)),
+                        new AnalyzedTestMethod("testDeleted", ids(baselineClasses, bar))
+                )).build())
+        );
+        var newClasses = ClassFileContainer.from(asList(fooTest, foo, bar));
+        var newAnalysis = new TestImpactAnalysis(
+                newClasses,
+                asList(new AnalyzedTest.Builder(newClasses.getId(fooTest), List.of(TestTag.PASSED), ids(newClasses, foo, fooTest)).methods(asList(
+                        new AnalyzedTestMethod("testFoo", ids(newClasses, foo, fooTest))
+                )).skippedMethods(Set.of("testBar")).build())
+        );
+        var mergedAnalysis = baseline.merge(newAnalysis);
+        var mergedClasses = mergedAnalysis.getClassFileContainer();
+        assertThat(mergedAnalysis.getAnalyzedTests()).hasSize(1);
+        var mergedTest = mergedAnalysis.getAnalyzedTests().get(0);
+        assertThat(mergedTest.getMethods()).containsExactly(
+                new AnalyzedTestMethod("testBar", ids(mergedClasses, bar, fooTest)),
+                new AnalyzedTestMethod("testFoo", ids(mergedClasses, foo, fooTest))
+        );
+        assertThat(mergedTest.getCoveredClasses()).isEqualTo(ids(mergedClasses, foo, bar, fooTest));
+    }
+
+    @Test
+    void testMergeTranslatesExecutedMethods() {
+        var fooV1 = new ClassFile("com.example.Foo", Path.of("com/example/Foo.class"), Path.of("build/classes/java/main"), "Foo#hash-1",
+                new MethodHashes("Foo#structure-1", new String[] {"a()V", "b()V", "c()V"}, new int[] {1, 2, 3}));
+        var barV1 = new ClassFile("com.example.Bar", Path.of("com/example/Bar.class"), Path.of("build/classes/java/main"), "Bar#hash-1",
+                new MethodHashes("Bar#structure-1", new String[] {"x()V", "y()V"}, new int[] {1, 2}));
+        var fooTest = new ClassFile("com.example.FooTest", Path.of("com/example/FooTest.class"), Path.of("build/classes/java/test"), "FooTest#hash");
+        var baselineClasses = ClassFileContainer.from(asList(fooV1, barV1, fooTest));
+        var baseline = new TestImpactAnalysis(
+                baselineClasses,
+                asList(new AnalyzedTest.Builder(baselineClasses.getId(fooTest), List.of(TestTag.PASSED), ids(baselineClasses, fooV1, barV1, fooTest))
+                        .executedMethods(ExecutedMethods.of(Map.of(baselineClasses.getId(fooV1), new int[] {1, 2}, baselineClasses.getId(barV1), new int[] {0}))).build())
+        );
+
+        // Foo: new method aa()V, Bar: method x()V has been removed
+        var fooV2 = new ClassFile("com.example.Foo", Path.of("com/example/Foo.class"), Path.of("build/classes/java/main"), "Foo#hash-2",
+                new MethodHashes("Foo#structure-2", new String[] {"a()V", "aa()V", "b()V", "c()V"}, new int[] {1, 4, 2, 3}));
+        var barV2 = new ClassFile("com.example.Bar", Path.of("com/example/Bar.class"), Path.of("build/classes/java/main"), "Bar#hash-2",
+                new MethodHashes("Bar#structure-2", new String[] {"y()V"}, new int[] {2}));
+        var newAnalysis = new TestImpactAnalysis(ClassFileContainer.from(asList(fooV2, barV2, fooTest)), emptyList());
+
+        var mergedAnalysis = baseline.merge(newAnalysis);
+        var mergedClasses = mergedAnalysis.getClassFileContainer();
+        var executedMethods = mergedAnalysis.getAnalyzedTests().get(0).getExecutedMethods();
+        assertArrayEquals(new int[] {2, 3}, executedMethods.get(mergedClasses.getId(fooV2)));
+        assertNull(executedMethods.get(mergedClasses.getId(barV2)));
+    }
+
+    private static ClassIdSet ids(ClassFileContainer classFileContainer, ClassFile... classFiles) {
+        return ClassIdSet.of(asList(classFiles).stream().map(classFileContainer::getId).toList());
+    }
+
+    @Test
+    void testMergeWithoutSkippedMethodsReplacesMethods() {
+        var foo = new ClassFile("com.example.Foo", Path.of("com/example/Foo.class"), Path.of("build/classes/java/main"), "Foo#hash");
+        var fooTest = new ClassFile("com.example.FooTest", Path.of("com/example/FooTest.class"), Path.of("build/classes/java/test"), "FooTest#hash");
+        var classes = ClassFileContainer.from(asList(foo, fooTest));
+        var baseline = new TestImpactAnalysis(
+                classes,
+                asList(new AnalyzedTest.Builder(classes.getId(fooTest), List.of(TestTag.PASSED), ids(classes, foo, fooTest)).methods(asList(
+                        new AnalyzedTestMethod("testFoo", ids(classes, foo, fooTest)),
+                        new AnalyzedTestMethod("testDeleted", ids(classes, foo))
+                )).build())
+        );
+        var newAnalysis = new TestImpactAnalysis(
+                classes,
+                asList(new AnalyzedTest.Builder(classes.getId(fooTest), List.of(TestTag.PASSED), ids(classes, foo, fooTest)).methods(asList(
+                        new AnalyzedTestMethod("testFoo", ids(classes, foo, fooTest))
+                )).build())
+        );
+        var mergedAnalysis = baseline.merge(newAnalysis);
+        var mergedClasses = mergedAnalysis.getClassFileContainer();
+        assertThat(mergedAnalysis.getAnalyzedTests().get(0).getMethods()).containsExactly(new AnalyzedTestMethod("testFoo", ids(mergedClasses, foo, fooTest)));
+    }
+
+}
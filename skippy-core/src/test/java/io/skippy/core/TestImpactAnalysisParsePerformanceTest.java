@@ -28,6 +28,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class TestImpactAnalysisParsePerformanceTest {
 
+    private static final int ITERATIONS = 25;
+
     @Test
     void testParse() throws URISyntaxException, IOException {
         var jsonFile = Paths.get(getClass().getResource("test-impact-analysis.json").toURI());
@@ -38,4 +40,23 @@ public class TestImpactAnalysisParsePerformanceTest {
         assertEquals(400, testImpactAnalysis.getAnalyzedTests().size());
     }
 
+    /**
+     * Repeatedly parses the test impact analysis via {@link TestImpactAnalysis#parse(byte[])} (e.g., to attach a
+     * profiler) and checks that the result matches {@link TestImpactAnalysis#parse(String)}.
+     */
+    @Test
+    void testParseBytes() throws URISyntaxException, IOException {
+        var jsonFile = Paths.get(getClass().getResource("test-impact-analysis.json").toURI());
+        var json = Files.readAllBytes(jsonFile);
+        TestImpactAnalysis testImpactAnalysis = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            testImpactAnalysis = TestImpactAnalysis.parse(json);
+            testImpactAnalysis.getAnalyzedTests();
+        }
+        assertEquals("55AB349797F1169672E84163857DCB06", testImpactAnalysis.getId());
+        assertEquals(2510, testImpactAnalysis.getClassFileContainer().getClassFiles().size());
+        assertEquals(400, testImpactAnalysis.getAnalyzedTests().size());
+        assertEquals(TestImpactAnalysis.parse(new String(json, StandardCharsets.UTF_8)), testImpactAnalysis);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static io.skippy.core.Reason.Category.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestImpactAnalysisPredictAllTest {
+
+    @TempDir
+    static Path projectDir;
+
+    @Test
+    void testPredictAllMatchesPredict() throws ClassNotFoundException {
+        var testImpactAnalysis = TestImpactAnalysis.parse("""
+            {
+                "classes": {
+                    "0": {"name": "com.example.Bar", "path": "com/example/Bar.class", "outputFolder": "build/classes/java/test", "hash": "%s"},
+                    "1": {"name": "com.example.BarTest", "path": "com/example/BarTest.class", "outputFolder": "build/classes/java/test", "hash": "%s"},
+                    "2": {"name": "com.example.Foo", "path": "com/example/Foo.class", "outputFolder": "build/classes/java/test", "hash": "%s"},
+                    "3": {"name": "com.example.FooTest", "path": "com/example/FooTest.class", "outputFolder": "build/classes/java/test", "hash": "%s"},
+                    "4": {"name": "com.example.LeftPadderTest", "path": "com/example/LeftPadderTest.class", "outputFolder": "build/classes/java/test", "hash": "%s"},
+                    "5": {"name": "com.example.StringUtils", "path": "com/example/StringUtils.class", "outputFolder": "build/classes/java/test", "hash": "00000000"},
+                    "6": {"name": "com.example.Missing", "path": "com/example/Missing.class", "outputFolder": "build/classes/java/test", "hash": "00000000"},
+                    "7": {"name": "com.example.ClassA", "path": "com/example/ClassA.class", "outputFolder": "build/classes/java/test", "hash": "%s"},
+                    "8": {"name": "com.example.ClassB", "path": "com/example/ClassB.class", "outputFolder": "build/classes/java/test", "hash": "%s"},
+                    "9": {"name": "com.example.ClassC", "path": "com/example/ClassC.class", "outputFolder": "build/classes/java/test", "hash": "%s"},
+                    "10": {"name": "com.example.ClassD", "path": "com/example/ClassD.class", "outputFolder": "build/classes/java/test", "hash": "00000000"}
+                },
+                "tests": [
+                    {"class": 1, "tags": ["PASSED"], "coveredClasses": [0, 1, 6]},
+                    {"class": 3, "tags": ["PASSED"], "coveredClasses": [2, 3, 4]},
+                    {"class": 4, "tags": ["FAILED"], "coveredClasses": [4]},
+                    {"class": 7, "tags": ["PASSED"], "coveredClasses": [5, 7]},
+                    {"class": 8, "tags": ["ALWAYS_EXECUTE"], "coveredClasses": [8]},
+                    {"class": 9, "tags": ["PASSED"], "coveredClasses": [8, 9]},
+                    {"class": 10, "tags": ["PASSED"], "coveredClasses": [10]}
+                ]
+            }
+        """.formatted(hash("Bar"), hash("BarTest"), hash("Foo"), hash("FooTest"), hash("LeftPadderTest"), hash("ClassA"), hash("ClassB"), hash("ClassC")));
+
+        var skippyRepository = SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null);
+        var predictions = testImpactAnalysis.predictAll(SkippyConfiguration.DEFAULT, skippyRepository);
+
+        var expected = Map.of(
+                "com.example.BarTest", NO_CHANGE,
+                "com.example.FooTest", COVERED_TEST_TAGGED_AS_FAILED,
+                "com.example.LeftPadderTest", TEST_FAILED_PREVIOUSLY,
+                "com.example.ClassA", BYTECODE_CHANGE_IN_COVERED_CLASS,
+                "com.example.ClassB", TEST_TAGGED_AS_ALWAYS_EXECUTE,
+                "com.example.ClassC", COVERED_TEST_TAGGED_AS_ALWAYS_EXECUTE,
+                "com.example.ClassD", BYTECODE_CHANGE_IN_TEST
+        );
+        assertEquals(expected.size(), predictions.size());
+        for (var entry : predictions.entrySet()) {
+            var className = entry.getKey().getClassName();
+            assertEquals(expected.get(className), entry.getValue().reason().category(), className);
+            var singlePrediction = testImpactAnalysis.predict(Class.forName(className), SkippyConfiguration.DEFAULT, skippyRepository);
+            assertEquals(singlePrediction, entry.getValue(), className);
+        }
+    }
+
+    private static String hash(String simpleClassName) {
+        return HashUtil.debugAgnosticHash(Path.of("build/classes/java/test/com/example/%s.class".formatted(simpleClassName)));
+    }
+
+}
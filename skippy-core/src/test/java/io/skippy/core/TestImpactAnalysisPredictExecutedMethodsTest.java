@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static io.skippy.core.Prediction.EXECUTE;
+import static io.skippy.core.Prediction.SKIP;
+import static io.skippy.core.Reason.Category.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestImpactAnalysisPredictExecutedMethodsTest {
+
+    @TempDir
+    static Path projectDir;
+
+    private static final MethodHashes STRING_UTILS = ClassFileHashCache.methodHashes(Path.of("build/classes/java/test/com/example/StringUtils.class"));
+
+    // <init>()V, padLeft(Ljava/lang/String;I)Ljava/lang/String;, padRight(Ljava/lang/String;I)Ljava/lang/String;
+    private static final int PAD_LEFT = 1;
+    private static final int PAD_RIGHT = 2;
+
+    /**
+     * Returns a {@link TestImpactAnalysis} where the StringUtils class has changed and where the hash of the padRight
+     * method differs from the current class file.
+     */
+    private static TestImpactAnalysis testImpactAnalysis(String structureHash, String executedMethods) {
+        return TestImpactAnalysis.parse("""
+            {
+                "classes": {
+                    "0": {
+                        "name": "com.example.LeftPadder",
+                        "path": "com/example/LeftPadder.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "8E994DD8"
+                    },
+                    "1": {
+                        "name": "com.example.LeftPadderTest",
+                        "path": "com/example/LeftPadderTest.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "80E52EBA"
+                    },
+                    "2": {
+                        "name": "com.example.StringUtils",
+                        "path": "com/example/StringUtils.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "00000000",
+                        "structureHash": "%s",
+                        "methods": {
+                            "<init>()V": "%08X",
+                            "padLeft(Ljava/lang/String;I)Ljava/lang/String;": "%08X",
+                            "padRight(Ljava/lang/String;I)Ljava/lang/String;": "00000000"
+                        }
+                    }
+                },
+                "tests": [
+                    {
+                        "class": "1",
+                        "tags": ["PASSED"],
+                        "coveredClasses": ["0", "1", "2"]%s
+                    }
+                ]
+            }
+        """.formatted(structureHash, STRING_UTILS.getHash(0), STRING_UTILS.getHash(PAD_LEFT), executedMethods));
+    }
+
+    @Test
+    void testChangeInMethodThatHasNotBeenExecuted() throws ClassNotFoundException {
+        var testImpactAnalysis = testImpactAnalysis(STRING_UTILS.getStructureHash(), ", \"executedMethods\": {\"2\": [%s]}".formatted(PAD_LEFT));
+        assertPredictions(testImpactAnalysis, SKIP, NO_CHANGE);
+    }
+
+    @Test
+    void testChangeInMethodThatHasBeenExecuted() throws ClassNotFoundException {
+        var testImpactAnalysis = testImpactAnalysis(STRING_UTILS.getStructureHash(), ", \"executedMethods\": {\"2\": [%s, %s]}".formatted(PAD_LEFT, PAD_RIGHT));
+        assertPredictions(testImpactAnalysis, EXECUTE, BYTECODE_CHANGE_IN_COVERED_CLASS);
+    }
+
+    @Test
+    void testChangeInStructure() throws ClassNotFoundException {
+        var testImpactAnalysis = testImpactAnalysis("00000000", ", \"executedMethods\": {\"2\": [%s]}".formatted(PAD_LEFT));
+        assertPredictions(testImpactAnalysis, EXECUTE, BYTECODE_CHANGE_IN_COVERED_CLASS);
+    }
+
+    @Test
+    void testChangeWithoutExecutedMethods() throws ClassNotFoundException {
+        var testImpactAnalysis = testImpactAnalysis(STRING_UTILS.getStructureHash(), "");
+        assertPredictions(testImpactAnalysis, EXECUTE, BYTECODE_CHANGE_IN_COVERED_CLASS);
+    }
+
+    private static void assertPredictions(TestImpactAnalysis testImpactAnalysis, Prediction prediction, Reason.Category reason) throws ClassNotFoundException {
+        var skippyRepository = SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null);
+        var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, skippyRepository);
+        assertEquals(prediction, predictionWithReason.prediction());
+        assertEquals(reason, predictionWithReason.reason().category());
+
+        var predictions = testImpactAnalysis.predictAll(SkippyConfiguration.DEFAULT, skippyRepository);
+        assertEquals(predictionWithReason, predictions.values().iterator().next());
+    }
+
+}
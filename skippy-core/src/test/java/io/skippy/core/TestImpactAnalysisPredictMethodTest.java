@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static io.skippy.core.Prediction.EXECUTE;
+import static io.skippy.core.Prediction.SKIP;
+import static io.skippy.core.Reason.Category.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestImpactAnalysisPredictMethodTest {
+
+    @TempDir
+    static Path projectDir;
+
+    private static TestImpactAnalysis testImpactAnalysis(String lifecycleCoveredClasses) {
+        return TestImpactAnalysis.parse("""
+            {
+                "classes": {
+                    "0": {
+                        "name": "com.example.LeftPadder",
+                        "path": "com/example/LeftPadder.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "00000000"
+                    },
+                    "1": {
+                        "name": "com.example.LeftPadderTest",
+                        "path": "com/example/LeftPadderTest.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "80E52EBA"
+                    }
+                },
+                "tests": [
+                    {
+                        "class": "1",
+                        "tags": ["PASSED"],
+                        "coveredClasses": ["0", "1"],
+                        "methods": [
+                            {"name": "<lifecycle>", "coveredClasses": [%s]},
+                            {"name": "testPadLeft", "coveredClasses": [0, 1]},
+                            {"name": "testSomethingElse", "coveredClasses": [1]}
+                        ]
+                    }
+                ]
+            }
+        """.formatted(lifecycleCoveredClasses));
+    }
+
+    private static TestImpactAnalysis failedTestImpactAnalysis(String leftPadderHash, String failedMethods) {
+        return TestImpactAnalysis.parse("""
+            {
+                "classes": {
+                    "0": {
+                        "name": "com.example.LeftPadder",
+                        "path": "com/example/LeftPadder.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "%s"
+                    },
+                    "1": {
+                        "name": "com.example.LeftPadderTest",
+                        "path": "com/example/LeftPadderTest.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "80E52EBA"
+                    }
+                },
+                "tests": [
+                    {
+                        "class": "1",
+                        "tags": ["FAILED"],
+                        "coveredClasses": ["0", "1"],
+                        "methods": [
+                            {"name": "<lifecycle>", "coveredClasses": [1]},
+                            {"name": "testPadLeft", "coveredClasses": [0, 1]},
+                            {"name": "testSomethingElse", "coveredClasses": [1]}
+                        ],
+                        "failedMethods": [%s]
+                    }
+                ]
+            }
+        """.formatted(leftPadderHash, failedMethods));
+    }
+
+    @Test
+    void testMethodThatCoversChangedClass() throws ClassNotFoundException {
+        var predictionWithReason = testImpactAnalysis("1").predictMethod(Class.forName("com.example.LeftPadderTest"), "testPadLeft", SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        assertEquals(EXECUTE, predictionWithReason.prediction());
+        assertEquals(BYTECODE_CHANGE_IN_COVERED_CLASS, predictionWithReason.reason().category());
+        assertEquals("covered class: com.example.LeftPadder", predictionWithReason.reason().details().get());
+    }
+
+    @Test
+    void testMethodThatDoesNotCoverChangedClass() throws ClassNotFoundException {
+        var predictionWithReason = testImpactAnalysis("1").predictMethod(Class.forName("com.example.LeftPadderTest"), "testSomethingElse", SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        assertEquals(SKIP, predictionWithReason.prediction());
+        assertEquals(NO_CHANGE, predictionWithReason.reason().category());
+    }
+
+    @Test
+    void testLifecycleThatCoversChangedClass() throws ClassNotFoundException {
+        var predictionWithReason = testImpactAnalysis("0, 1").predictMethod(Class.forName("com.example.LeftPadderTest"), "testSomethingElse", SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        assertEquals(EXECUTE, predictionWithReason.prediction());
+        assertEquals(BYTECODE_CHANGE_IN_COVERED_CLASS, predictionWithReason.reason().category());
+    }
+
+    @Test
+    void testUnknownMethod() throws ClassNotFoundException {
+        var predictionWithReason = testImpactAnalysis("1").predictMethod(Class.forName("com.example.LeftPadderTest"), "testNew", SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        assertEquals(EXECUTE, predictionWithReason.prediction());
+        assertEquals(NO_IMPACT_DATA_FOUND_FOR_TEST, predictionWithReason.reason().category());
+        assertEquals("test method: testNew", predictionWithReason.reason().details().get());
+    }
+
+    @Test
+    void testSupportsMethodLevelPredictions() {
+        assertTrue(TestImpactAnalysis.supportsMethodLevelPredictions(new Reason(BYTECODE_CHANGE_IN_COVERED_CLASS, Optional.empty())));
+        assertTrue(TestImpactAnalysis.supportsMethodLevelPredictions(new Reason(COVERED_TEST_TAGGED_AS_FAILED, Optional.empty())));
+        assertFalse(TestImpactAnalysis.supportsMethodLevelPredictions(new Reason(BYTECODE_CHANGE_IN_TEST, Optional.empty())));
+        assertTrue(TestImpactAnalysis.supportsMethodLevelPredictions(new Reason(TEST_FAILED_PREVIOUSLY, Optional.empty())));
+        assertFalse(TestImpactAnalysis.supportsMethodLevelPredictions(new Reason(TEST_TAGGED_AS_ALWAYS_EXECUTE, Optional.empty())));
+    }
+
+    @Test
+    void testFailedMethod() throws ClassNotFoundException {
+        var predictionWithReason = failedTestImpactAnalysis("8E994DD8", "\"testSomethingElse\"").predictMethod(Class.forName("com.example.LeftPadderTest"), "testSomethingElse", SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        assertEquals(EXECUTE, predictionWithReason.prediction());
+        assertEquals(TEST_FAILED_PREVIOUSLY, predictionWithReason.reason().category());
+    }
+
+    @Test
+    void testMethodThatDidNotFailInFailedTest() throws ClassNotFoundException {
+        var predictionWithReason = failedTestImpactAnalysis("8E994DD8", "\"testSomethingElse\"").predictMethod(Class.forName("com.example.LeftPadderTest"), "testPadLeft", SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        assertEquals(SKIP, predictionWithReason.prediction());
+        assertEquals(NO_CHANGE, predictionWithReason.reason().category());
+    }
+
+    @Test
+    void testMethodThatDidNotFailInFailedTestAndCoversChangedClass() throws ClassNotFoundException {
+        var predictionWithReason = failedTestImpactAnalysis("00000000", "\"testSomethingElse\"").predictMethod(Class.forName("com.example.LeftPadderTest"), "testPadLeft", SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        assertEquals(EXECUTE, predictionWithReason.prediction());
+        assertEquals(BYTECODE_CHANGE_IN_COVERED_CLASS, predictionWithReason.reason().category());
+    }
+
+    @Test
+    void testFailedTestWithoutFailedMethods() throws ClassNotFoundException {
+        var predictionWithReason = failedTestImpactAnalysis("8E994DD8", "").predictMethod(Class.forName("com.example.LeftPadderTest"), "testPadLeft", SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
+        assertEquals(EXECUTE, predictionWithReason.prediction());
+        assertEquals(TEST_FAILED_PREVIOUSLY, predictionWithReason.reason().category());
+    }
+
+}
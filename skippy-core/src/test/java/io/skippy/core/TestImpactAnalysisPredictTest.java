@@ -18,25 +18,32 @@ package io.skippy.core;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
 import java.util.Optional;
 
 import static io.skippy.core.Prediction.EXECUTE;
 import static io.skippy.core.Prediction.SKIP;
 import static io.skippy.core.Reason.Category.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TestImpactAnalysisPredictTest {
 
+    @TempDir
+    static Path projectDir;
+
     @Nested
     class ScenariosWithCoverageForSkippedTestsDisabled {
 
         @Test
         void testNoTestImpactAnalysisFound() throws ClassNotFoundException {
             var testImpactAnalysis = TestImpactAnalysis.NOT_FOUND;
-            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT));
+            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
             assertEquals(EXECUTE, predictionWithReason.prediction());
             assertEquals(TEST_IMPACT_ANALYSIS_NOT_FOUND, predictionWithReason.reason().category());
         }
@@ -68,7 +75,7 @@ public class TestImpactAnalysisPredictTest {
                 ]
             }
         """);
-            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT));
+            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
             assertEquals(SKIP, predictionWithReason.prediction());
             assertEquals(NO_CHANGE, predictionWithReason.reason().category());
         }
@@ -89,7 +96,7 @@ public class TestImpactAnalysisPredictTest {
                     ]
                 }
             """);
-            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT));
+            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
             assertEquals(EXECUTE, predictionWithReason.prediction());
             assertEquals(NO_IMPACT_DATA_FOUND_FOR_TEST, predictionWithReason.reason().category());
         }
@@ -121,7 +128,7 @@ public class TestImpactAnalysisPredictTest {
                 ]
             }
         """);
-            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT));
+            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
             assertEquals(EXECUTE, predictionWithReason.prediction());
             assertEquals(BYTECODE_CHANGE_IN_TEST, predictionWithReason.reason().category());
         }
@@ -153,7 +160,7 @@ public class TestImpactAnalysisPredictTest {
                 ]
             }
         """);
-            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT));
+            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
             assertEquals(EXECUTE, predictionWithReason.prediction());
             assertEquals(BYTECODE_CHANGE_IN_COVERED_CLASS, predictionWithReason.reason().category());
             assertEquals("covered class: com.example.LeftPadder", predictionWithReason.reason().details().get());
@@ -186,7 +193,7 @@ public class TestImpactAnalysisPredictTest {
                 ]                      
             }
         """);
-            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT));
+            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
             assertEquals(EXECUTE, predictionWithReason.prediction());
             assertEquals(TEST_FAILED_PREVIOUSLY, predictionWithReason.reason().category());
         }
@@ -218,12 +225,45 @@ public class TestImpactAnalysisPredictTest {
                 ]
             }
         """);
-            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT));
+            var predictionWithReason = testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, SkippyRepository.getInstance(SkippyConfiguration.DEFAULT, projectDir, null));
             assertEquals(EXECUTE, predictionWithReason.prediction());
             assertEquals(TEST_CLASS_CLASS_FILE_NOT_FOUND, predictionWithReason.reason().category());
             assertEquals("test class file: com/example/LeftPadderTest$Bla.class", predictionWithReason.reason().details().get());
         }
 
+        @Test
+        void testPredictLogsMapping() throws ClassNotFoundException {
+            var testImpactAnalysis = TestImpactAnalysis.parse("""
+            {
+                "classes": {
+                    "0": {
+                        "name": "com.example.LeftPadder",
+                        "path": "com/example/LeftPadder.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "8E994DD8"
+                    },
+                    "1": {
+                        "name": "com.example.LeftPadderTest",
+                        "path": "com/example/LeftPadderTest.class",
+                        "outputFolder": "build/classes/java/test",
+                        "hash": "80E52EBA"
+                    }
+                },
+                "tests": [
+                    {
+                        "class": "1",
+                        "tags": ["PASSED"],
+                        "coveredClasses": ["0", "1"]
+                    }
+                ]
+            }
+        """);
+            var repository = mock(SkippyRepository.class);
+            testImpactAnalysis.predict(Class.forName("com.example.LeftPadderTest"), SkippyConfiguration.DEFAULT, repository);
+            verify(repository).log(argThat(statement -> statement.startsWith("Mapping class ")
+                    && statement.endsWith("/com.example.LeftPadderTest to AnalyzedTest[build/classes/java/test/com.example.LeftPadderTest]")));
+        }
+
     }
 
     @Nested
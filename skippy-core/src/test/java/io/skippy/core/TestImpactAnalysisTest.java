@@ -17,11 +17,18 @@
 package io.skippy.core;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -53,7 +60,7 @@ public class TestImpactAnalysisTest {
         );
         var testImpactAnalysis = new TestImpactAnalysis(
                 ClassFileContainer.from(asList(fooTest)),
-                asList(new AnalyzedTest(0, List.of(TestTag.PASSED), asList(0), Optional.empty()))
+                asList(new AnalyzedTest.Builder(0, List.of(TestTag.PASSED), ClassIdSet.of(0)).build())
         );
         assertThat(testImpactAnalysis.toJson()).isEqualToIgnoringWhitespace("""
             {
@@ -106,8 +113,8 @@ public class TestImpactAnalysisTest {
         var testImpactAnalysis = new TestImpactAnalysis(
                 ClassFileContainer.from(asList(class1, class2, class1Test, class2Test)),
                 asList(
-                        new AnalyzedTest(1, List.of(TestTag.PASSED), asList(0, 1), Optional.empty()),
-                        new AnalyzedTest(2, List.of(TestTag.PASSED), asList(2, 3), Optional.empty())
+                        new AnalyzedTest.Builder(1, List.of(TestTag.PASSED), ClassIdSet.of(0, 1)).build(),
+                        new AnalyzedTest.Builder(2, List.of(TestTag.PASSED), ClassIdSet.of(2, 3)).build()
                 )
         );
         assertThat(testImpactAnalysis.toJson()).isEqualToIgnoringWhitespace("""
@@ -170,6 +177,24 @@ public class TestImpactAnalysisTest {
         assertEquals(emptySet(), testImpactAnalysis.getClassFileContainer().getClassFiles());
     }
 
+    @Test
+    void testParseIgnoresUnknownKeys() {
+        var testImpactAnalysis = TestImpactAnalysis.parse("""
+            {
+                "version": 2,
+                "id": "F8D85DB143EC3F06FAD5D0E0C730E1E9",
+                "classes": {},
+                "metadata": {"tool": "skippy", "tags": ["a", "b"]},
+                "tests": [],
+                "comment": "trailing"
+            }
+        """);
+
+        assertEquals("F8D85DB143EC3F06FAD5D0E0C730E1E9", testImpactAnalysis.getId());
+        assertEquals(emptyList(), testImpactAnalysis.getAnalyzedTests());
+        assertEquals(emptySet(), testImpactAnalysis.getClassFileContainer().getClassFiles());
+    }
+
     @Test
     void testParseOneTestOneClass() {
         var testImpactAnalysis = TestImpactAnalysis.parse("""
@@ -273,4 +298,17 @@ public class TestImpactAnalysisTest {
         assertEquals(asList(1, 3), tests.get(1).getCoveredClassesIds());
     }
 
+    @Test
+    void testWriteJsonToFileComputesIdWhileWriting(@TempDir Path tempDir) throws IOException, URISyntaxException {
+        var jsonFile = Paths.get(getClass().getResource("test-impact-analysis.json").toURI());
+        var testImpactAnalysis = TestImpactAnalysis.parse(Files.readAllBytes(jsonFile));
+        var target = tempDir.resolve("test-impact-analysis.json");
+        try (var channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            testImpactAnalysis.writeJson(channel);
+        }
+        assertEquals("55AB349797F1169672E84163857DCB06", testImpactAnalysis.getId());
+        assertEquals(testImpactAnalysis.toJson(), Files.readString(target, StandardCharsets.UTF_8));
+        assertEquals(testImpactAnalysis, TestImpactAnalysis.parse(Files.readAllBytes(target)));
+    }
+
 }
\ No newline at end of file
@@ -83,4 +83,58 @@ public class TokenizerTest {
         assertEquals("foo bar", tokenizer.next());
     }
 
+    @Test
+    void testNextKey() {
+        var keys = Tokenizer.keys("name", "path");
+        var tokenizer = new Tokenizer("""
+            "path": "foo", "name": "bar", "unknown": "baz"
+        """);
+        assertEquals(1, tokenizer.nextKey(keys));
+        tokenizer.skip(':');
+        assertEquals("foo", tokenizer.next());
+        tokenizer.skip(',');
+        assertEquals(0, tokenizer.nextKey(keys));
+        tokenizer.skip(':');
+        assertEquals("bar", tokenizer.next());
+        tokenizer.skip(',');
+        assertEquals(-1, tokenizer.nextKey(keys));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "123:123",
+            "  123:123",
+            "\"123\":123",
+            "-42:-42"
+    }, delimiter = ':')
+    void testNextInt(String stream, int expected) {
+        var tokenizer = new Tokenizer(stream);
+        assertEquals(expected, tokenizer.nextInt());
+    }
+
+    @Test
+    void testNonAsciiCharacters() {
+        var tokenizer = new Tokenizer("""
+            "näme": "fõõ"
+        """);
+        assertEquals("näme", tokenizer.next());
+        tokenizer.skip(':');
+        assertEquals("fõõ", tokenizer.next());
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "123, \"next\"",
+            "-1.5e3}",
+            "true ,",
+            "\"a}]\",",
+            "[1, [2, 3], {\"a\": \"]\"}],",
+            "{\"a\": {\"b\": [true, null]}}}"
+    }, delimiter = ';')
+    void testSkipValue(String stream) {
+        var tokenizer = new Tokenizer(stream);
+        tokenizer.skipValue();
+        assertEquals(true, tokenizer.peek(',') || tokenizer.peek('}'));
+    }
+
 }
@@ -5,9 +5,10 @@ import io.skippy.core.TestImpactAnalysis;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 
@@ -45,11 +46,21 @@ public class FileSystemBackedRepositoryExtension implements SkippyRepositoryExte
     @Override
     public Optional<TestImpactAnalysis> findTestImpactAnalysis(String id) {
         try {
+            var binaryFile = storageFolder.resolve("%s.bin".formatted(id));
+            if (exists(binaryFile)) {
+                try (var channel = FileChannel.open(binaryFile, StandardOpenOption.READ)) {
+                    var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    // fall back to the JSON file if the binary file has been written in a different format or is truncated
+                    if (TestImpactAnalysis.readBinaryId(buffer).filter(id::equals).isPresent()) {
+                        return Optional.of(TestImpactAnalysis.parseBinary(buffer));
+                    }
+                }
+            }
             var file = storageFolder.resolve("%s.json".formatted(id));
             if (false == exists(file)) {
                 return Optional.empty();
             }
-            return Optional.of(TestImpactAnalysis.parse(Files.readString(file, StandardCharsets.UTF_8)));
+            return Optional.of(TestImpactAnalysis.parse(Files.readAllBytes(file)));
         } catch (IOException e) {
             throw new UncheckedIOException("Could not create new instance: %s".formatted(e), e);
         }
@@ -58,8 +69,17 @@ public class FileSystemBackedRepositoryExtension implements SkippyRepositoryExte
     @Override
     public void saveTestImpactAnalysis(TestImpactAnalysis testImpactAnalysis) {
         try {
+            var binaryFile = storageFolder.resolve(Path.of("%s.bin".formatted(testImpactAnalysis.getId())));
+            var tmpFile = binaryFile.resolveSibling("%s.bin.tmp".formatted(testImpactAnalysis.getId()));
+            try (var channel = FileChannel.open(tmpFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                testImpactAnalysis.writeBinary(channel);
+            }
+            // the binary file might still be memory-mapped by findTestImpactAnalysis: it must never be truncated in place
+            Files.move(tmpFile, binaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
             var jsonFile = storageFolder.resolve(Path.of("%s.json".formatted(testImpactAnalysis.getId())));
-            Files.writeString(jsonFile, testImpactAnalysis.toJson(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            try (var channel = FileChannel.open(jsonFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                testImpactAnalysis.writeJson(channel);
+            }
         } catch (IOException e) {
             throw new UncheckedIOException("Unable to save test impact analysis %s: %s.".formatted(testImpactAnalysis.getId(), e), e);
         }
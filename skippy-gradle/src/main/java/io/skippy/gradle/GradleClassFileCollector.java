@@ -18,11 +18,12 @@ package io.skippy.gradle;
 
 import io.skippy.core.ClassFileCollector;
 import io.skippy.core.ClassFile;
+import io.skippy.core.ClassFileScanner;
 import io.skippy.core.Profiler;
 
 import java.io.File;
 import java.nio.file.Path;
-import java.util.*;
+import java.util.List;
 
 /**
  * Collects {@link ClassFile}s across all output folders in a project.
@@ -46,34 +47,7 @@ final class GradleClassFileCollector implements ClassFileCollector {
      */
     @Override
     public List<ClassFile> collect() {
-        return Profiler.profile("GradleClassFileCollector#collect", () -> {
-            var result = new ArrayList<ClassFile>();
-            for (var outputFolder : outputFolders) {
-                result.addAll(sort(collect(outputFolder, outputFolder)));
-            }
-            return result;
-        });
-    }
-
-    private List<ClassFile> collect(File outputFolder, File directory) {
-        var result = new LinkedList<ClassFile>();
-        File[] files = directory.listFiles();
-        if (files != null) {
-            for (File file : files) {
-                if (file.isDirectory()) {
-                    result.addAll(collect(outputFolder, file));
-                } else if (file.getName().endsWith(".class")) {
-                    result.add(ClassFile.fromFileSystem(projectDir, outputFolder.toPath(), file.toPath()));
-                }
-            }
-        }
-        return result;
-    }
-
-    private List<ClassFile> sort(List<ClassFile> input) {
-        return input.stream()
-                .sorted()
-                .toList();
+        return Profiler.profile("GradleClassFileCollector#collect", () -> ClassFileScanner.scan(projectDir, outputFolders));
     }
 
 }
\ No newline at end of file
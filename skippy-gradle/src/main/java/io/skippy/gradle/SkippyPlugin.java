@@ -17,6 +17,7 @@
 package io.skippy.gradle;
 
 import io.skippy.core.Profiler;
+import io.skippy.core.SkippyRepository;
 import io.skippy.core.TestTag;
 import org.gradle.api.Project;
 import org.gradle.api.tasks.testing.Test;
@@ -25,9 +26,12 @@ import org.gradle.api.tasks.testing.TestListener;
 import org.gradle.api.tasks.testing.TestResult;
 import org.gradle.testing.jacoco.plugins.JacocoPlugin;
 
+import java.io.File;
+
 /**
  * The Skippy plugin adds the
  * <ul>
+ *     <li>{@link SkippyPredictTask},</li>
  *     <li>{@link SkippyAnalyzeTask} and </li>
  *     <li>{@link SkippyCleanTask}</li>
  * </ul>
@@ -46,6 +50,7 @@ final class SkippyPlugin implements org.gradle.api.Plugin<Project> {
         project.getPlugins().apply(JacocoPlugin.class);
         project.getExtensions().create("skippy", SkippyPluginExtension.class);
         project.getTasks().register("skippyClean", SkippyCleanTask.class);
+        project.getTasks().register("skippyPredict", SkippyPredictTask.class);
         project.getTasks().register("skippyAnalyze", SkippyAnalyzeTask.class);
 
         project.afterEvaluate(action -> {
@@ -53,9 +58,27 @@ final class SkippyPlugin implements org.gradle.api.Plugin<Project> {
             var projectSettings = ProjectSettings.from(action);
 
             project.getTasks().withType(SkippyCleanTask.class).forEach( task -> task.getProjectSettings().set(projectSettings));
+            project.getTasks().withType(SkippyPredictTask.class).forEach( task -> task.getProjectSettings().set(projectSettings));
             project.getTasks().withType(SkippyAnalyzeTask.class).forEach( task -> task.getProjectSettings().set(projectSettings));
 
-            action.getTasks().withType(Test.class, testTask -> testTask.finalizedBy("skippyAnalyze"));
+            action.getTasks().withType(Test.class, testTask -> {
+                // the predictions require the compiled tests
+                project.getTasks().named("skippyPredict").configure(predictTask -> predictTask.dependsOn(testTask.getClasspath()));
+                testTask.dependsOn("skippyPredict");
+                testTask.finalizedBy("skippyAnalyze");
+                testTask.systemProperty(SkippyRepository.BUILD_DIR_PROPERTY, projectSettings.buildDir.toString());
+
+                // excluded tests are never loaded by a test JVM: no JVM is forked if all tests are skipped
+                testTask.doFirst(task -> projectSettings.ifBuildSupportsSkippy(skippyBuildApi -> {
+                    var outputFolders = testTask.getTestClassesDirs().getFiles().stream().map(dir -> projectSettings.projectDir.relativize(dir.toPath())).toList();
+                    var testClasspath = testTask.getClasspath().getFiles().stream().map(File::toPath).toList();
+                    for (var skippedTest : skippyBuildApi.excludeSkippedTests(outputFolders, testClasspath)) {
+                        // nested classes are only excluded along with their (skipped) top-level class
+                        testTask.exclude(skippedTest.replace('.', '/') + ".class");
+                        testTask.exclude(skippedTest.replace('.', '/') + "$*.class");
+                    }
+                }));
+            });
             projectSettings.ifBuildSupportsSkippy(skippyBuildApi -> skippyBuildApi.buildStarted());
         });
     }
@@ -62,7 +62,9 @@ public class GradleClassFileCollectorTest {
                 "name": "com.example.LeftPadder",
                 "path": "com/example/LeftPadder.class",
                 "outputFolder": "build/classes/java/main",
-                "hash": "8E994DD8"
+                "hash": "8E994DD8",
+                "structureHash": "8E351E50",
+                "methods": {"<init>()V": "94F3A3D4", "padLeft(Ljava/lang/String;I)Ljava/lang/String;": "BA2AB3C7"}
             }
         """);
 
@@ -71,7 +73,9 @@ public class GradleClassFileCollectorTest {
                 "name": "com.example.RightPadder",
                 "path": "com/example/RightPadder.class",
                 "outputFolder": "build/classes/java/main",
-                "hash": "F7F27006"
+                "hash": "F7F27006",
+                "structureHash": "5A3C00D7",
+                "methods": {"<init>()V": "94F3A3D4", "padRight(Ljava/lang/String;I)Ljava/lang/String;": "E8C60230"}
             }
         """);
 
@@ -80,7 +84,9 @@ public class GradleClassFileCollectorTest {
                 "name": "com.example.StringUtils",
                 "path": "com/example/StringUtils.class",
                 "outputFolder": "build/classes/java/main",
-                "hash": "ECE5D94D"
+                "hash": "ECE5D94D",
+                "structureHash": "3B54BEC9",
+                "methods": {"<init>()V": "94F3A3D4", "padLeft(Ljava/lang/String;I)Ljava/lang/String;": "EB670D46", "padRight(Ljava/lang/String;I)Ljava/lang/String;": "B9EA4E68"}
             }
         """);
 
@@ -89,7 +95,9 @@ public class GradleClassFileCollectorTest {
                 "name": "com.example.LeftPadderTest",
                 "path": "com/example/LeftPadderTest.class",
                 "outputFolder": "build/classes/java/test",
-                "hash": "83A72152"
+                "hash": "83A72152",
+                "structureHash": "95B76DCE",
+                "methods": {"<init>()V": "7C7DA35D", "testPadLeft()V": "41519349"}
             }
         """);
 
@@ -98,7 +106,9 @@ public class GradleClassFileCollectorTest {
                 "name": "com.example.RightPadderTest",
                 "path": "com/example/RightPadderTest.class",
                 "outputFolder": "build/classes/java/test",
-                "hash": "E5FB1274"
+                "hash": "E5FB1274",
+                "structureHash": "890818C2",
+                "methods": {"<init>()V": "7C7DA35D", "testPadLeft()V": "D5A10C40"}
             }
         """);
 
@@ -107,7 +117,9 @@ public class GradleClassFileCollectorTest {
                 "name": "com.example.TestConstants",
                 "path": "com/example/TestConstants.class",
                 "outputFolder": "build/classes/java/test",
-                "hash": "119F463C"
+                "hash": "119F463C",
+                "structureHash": "260A2791",
+                "methods": {"<init>()V": "94F3A3D4"}
             }
         """);
     }
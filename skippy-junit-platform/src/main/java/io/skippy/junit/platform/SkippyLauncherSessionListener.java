@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.junit.platform;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * {@link LauncherSessionListener} that loads the predictions once per launcher session (before the discovery of the
+ * tests) and writes the data that is kept in memory by {@link SkippyTestApi} when the session is closed.
+ *
+ * @author Florian McKee
+ */
+public final class SkippyLauncherSessionListener implements LauncherSessionListener {
+
+    private final boolean skippyEnabled;
+
+    /**
+     * Comment to make the JavaDoc task happy.
+     */
+    public SkippyLauncherSessionListener() {
+        this.skippyEnabled = SkippyPlatformUtil.isSkippyEnabled();
+    }
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        if (skippyEnabled) {
+            // initializes the singleton: loads the prediction table (or the test impact analysis)
+            SkippyTestApi.INSTANCE.getClass();
+        }
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        if (skippyEnabled) {
+            SkippyTestApi.INSTANCE.flush();
+        }
+    }
+
+}
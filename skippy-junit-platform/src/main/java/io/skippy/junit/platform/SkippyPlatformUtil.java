@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.junit.platform;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Static utility methods that are shared by Skippy's launcher listeners and filters.
+ *
+ * @author Florian McKee
+ */
+final class SkippyPlatformUtil {
+
+    private static final String PREDICT_WITH_SKIPPY = "io.skippy.junit5.PredictWithSkippy";
+
+    private SkippyPlatformUtil() {
+    }
+
+    /**
+     * Returns {@code true} if the tests are executed in a build that uses Skippy's Gradle or Maven plugin (i.e., the
+     * Skippy folder contains a configuration file), {@code false} otherwise.
+     *
+     * @return {@code true} if the tests are executed in a build that uses Skippy
+     */
+    static boolean isSkippyEnabled() {
+        return Files.exists(Path.of(".skippy", "config.json"));
+    }
+
+    /**
+     * Returns the test class of a {@link TestSource} that is backed by a class or a method.
+     *
+     * @param source a {@link TestSource}
+     * @return the test class or an empty {@link Optional} if the {@code source} is not backed by a class or method
+     */
+    static Optional<Class<?>> getTestClass(TestSource source) {
+        if (source instanceof ClassSource classSource) {
+            return Optional.of(classSource.getJavaClass());
+        }
+        if (source instanceof MethodSource methodSource) {
+            return Optional.of(methodSource.getJavaClass());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the classes of the {@code descriptor} and its ancestors, outermost class first.
+     *
+     * @param descriptor a {@link TestDescriptor}
+     * @return the classes of the {@code descriptor} and its ancestors, outermost class first
+     */
+    static List<Class<?>> getEnclosingTestClasses(TestDescriptor descriptor) {
+        var result = new LinkedList<Class<?>>();
+        for (var current = Optional.of(descriptor); current.isPresent(); current = current.get().getParent()) {
+            var source = current.get().getSource();
+            if (source.isPresent() && source.get() instanceof ClassSource classSource) {
+                var testClass = classSource.getJavaClass();
+                if (result.isEmpty() || result.getFirst() != testClass) {
+                    result.addFirst(testClass);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if {@code testClass} or one of its enclosing classes is annotated with
+     * {@code @PredictWithSkippy}: Those tests are handled by Skippy's JUnit 5 extensions.
+     *
+     * @param testClass a test class
+     * @return {@code true} if {@code testClass} or one of its enclosing classes is annotated with
+     *         {@code @PredictWithSkippy}
+     */
+    static boolean isHandledByJupiterExtension(Class<?> testClass) {
+        for (Class<?> current = testClass; current != null; current = current.getEnclosingClass()) {
+            for (var annotation : current.getAnnotations()) {
+                if (annotation.annotationType().getName().equals(PREDICT_WITH_SKIPPY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
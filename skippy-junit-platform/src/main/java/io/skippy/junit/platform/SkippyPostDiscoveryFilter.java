@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.junit.platform;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.function.Supplier;
+
+import static io.skippy.junit.platform.SkippyPlatformUtil.getEnclosingTestClasses;
+import static io.skippy.junit.platform.SkippyPlatformUtil.isHandledByJupiterExtension;
+
+/**
+ * {@link PostDiscoveryFilter} that removes skipped test classes from the test plan before any test is executed.
+ * <br /><br />
+ * The filter works for all test engines that report the test classes via a
+ * {@link org.junit.platform.engine.support.descriptor.ClassSource} (e.g., JUnit 5, Spock and Kotest). Tests without a
+ * class (e.g., Cucumber scenarios) are always executed.
+ *
+ * @author Florian McKee
+ */
+public final class SkippyPostDiscoveryFilter implements PostDiscoveryFilter {
+
+    private final boolean skippyEnabled;
+    private final Supplier<SkippyTestApi> skippyTestApi;
+
+    /**
+     * Comment to make the JavaDoc task happy.
+     */
+    public SkippyPostDiscoveryFilter() {
+        this(SkippyPlatformUtil.isSkippyEnabled(), () -> SkippyTestApi.INSTANCE);
+    }
+
+    SkippyPostDiscoveryFilter(boolean skippyEnabled, Supplier<SkippyTestApi> skippyTestApi) {
+        this.skippyEnabled = skippyEnabled;
+        this.skippyTestApi = skippyTestApi;
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (false == skippyEnabled) {
+            return FilterResult.included("Skippy is not enabled");
+        }
+        // same evaluation order as for JUnit 5: nested classes are only evaluated if the enclosing class is executed
+        for (var testClass : getEnclosingTestClasses(descriptor)) {
+            if (isHandledByJupiterExtension(testClass)) {
+                return FilterResult.included("Predictions are made by @PredictWithSkippy");
+            }
+            if (false == skippyTestApi.get().testNeedsToBeExecuted(testClass)) {
+                return FilterResult.excluded("Skipped by Skippy: %s".formatted(testClass.getName()));
+            }
+        }
+        return FilterResult.included("");
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.junit.platform;
+
+import io.skippy.core.SkippyTestApi;
+import io.skippy.core.TestTag;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static io.skippy.junit.platform.SkippyPlatformUtil.isHandledByJupiterExtension;
+
+/**
+ * {@link TestExecutionListener} that triggers the capture of coverage data for test classes and tags failed tests.
+ *
+ * @author Florian McKee
+ */
+public final class SkippyTestExecutionListener implements TestExecutionListener {
+
+    private final boolean skippyEnabled;
+    private final Supplier<SkippyTestApi> skippyTestApi;
+
+    /**
+     * Comment to make the JavaDoc task happy.
+     */
+    public SkippyTestExecutionListener() {
+        this(SkippyPlatformUtil.isSkippyEnabled(), () -> SkippyTestApi.INSTANCE);
+    }
+
+    SkippyTestExecutionListener(boolean skippyEnabled, Supplier<SkippyTestApi> skippyTestApi) {
+        this.skippyEnabled = skippyEnabled;
+        this.skippyTestApi = skippyTestApi;
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        getTestClassContainer(testIdentifier).ifPresent(testClass -> skippyTestApi.get().beforeAll(testClass));
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+            getTestClass(testIdentifier).ifPresent(testClass -> skippyTestApi.get().tagTest(testClass, TestTag.FAILED));
+        }
+        getTestClassContainer(testIdentifier).ifPresent(testClass -> skippyTestApi.get().afterAll(testClass));
+    }
+
+    private Optional<Class<?>> getTestClassContainer(TestIdentifier testIdentifier) {
+        if (testIdentifier.isContainer() && testIdentifier.getSource().filter(ClassSource.class::isInstance).isPresent()) {
+            return getTestClass(testIdentifier);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Class<?>> getTestClass(TestIdentifier testIdentifier) {
+        if (false == skippyEnabled) {
+            return Optional.empty();
+        }
+        return testIdentifier.getSource()
+                .flatMap(SkippyPlatformUtil::getTestClass)
+                .filter(testClass -> false == isHandledByJupiterExtension(testClass));
+    }
+
+}
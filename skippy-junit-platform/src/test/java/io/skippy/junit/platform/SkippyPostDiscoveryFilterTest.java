@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.junit.platform;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link SkippyPostDiscoveryFilter}.
+ *
+ * @author Florian McKee
+ */
+public class SkippyPostDiscoveryFilterTest {
+
+    static class OuterTest {
+        class InnerTest {
+        }
+    }
+
+    @Test
+    void testSkippedClassIsExcluded() {
+        var skippyTestApi = mock(SkippyTestApi.class);
+        when(skippyTestApi.testNeedsToBeExecuted(OuterTest.class)).thenReturn(false);
+        var filter = new SkippyPostDiscoveryFilter(true, () -> skippyTestApi);
+
+        assertEquals(true, filter.apply(testMethod(OuterTest.class, classContainer(OuterTest.class, null))).excluded());
+    }
+
+    @Test
+    void testExecutedClassIsIncluded() {
+        var skippyTestApi = mock(SkippyTestApi.class);
+        when(skippyTestApi.testNeedsToBeExecuted(OuterTest.class)).thenReturn(true);
+        var filter = new SkippyPostDiscoveryFilter(true, () -> skippyTestApi);
+
+        assertEquals(true, filter.apply(testMethod(OuterTest.class, classContainer(OuterTest.class, null))).included());
+    }
+
+    @Test
+    void testNestedClassIsExcludedIfEnclosingClassIsSkipped() {
+        var skippyTestApi = mock(SkippyTestApi.class);
+        when(skippyTestApi.testNeedsToBeExecuted(OuterTest.class)).thenReturn(false);
+        var filter = new SkippyPostDiscoveryFilter(true, () -> skippyTestApi);
+        var outer = classContainer(OuterTest.class, null);
+        var inner = classContainer(OuterTest.InnerTest.class, outer);
+
+        assertEquals(true, filter.apply(testMethod(OuterTest.InnerTest.class, inner)).excluded());
+        verify(skippyTestApi, never()).testNeedsToBeExecuted(OuterTest.InnerTest.class);
+    }
+
+    @Test
+    void testNestedClassIsExcludedIfNestedClassIsSkipped() {
+        var skippyTestApi = mock(SkippyTestApi.class);
+        when(skippyTestApi.testNeedsToBeExecuted(OuterTest.class)).thenReturn(true);
+        when(skippyTestApi.testNeedsToBeExecuted(OuterTest.InnerTest.class)).thenReturn(false);
+        var filter = new SkippyPostDiscoveryFilter(true, () -> skippyTestApi);
+        var outer = classContainer(OuterTest.class, null);
+        var inner = classContainer(OuterTest.InnerTest.class, outer);
+
+        assertEquals(true, filter.apply(testMethod(OuterTest.InnerTest.class, inner)).excluded());
+        assertEquals(true, filter.apply(testMethod(OuterTest.class, outer)).included());
+    }
+
+    @Test
+    void testEverythingIsIncludedIfSkippyIsNotEnabled() {
+        var skippyTestApi = mock(SkippyTestApi.class);
+        var filter = new SkippyPostDiscoveryFilter(false, () -> skippyTestApi);
+
+        assertEquals(true, filter.apply(testMethod(OuterTest.class, classContainer(OuterTest.class, null))).included());
+        verify(skippyTestApi, never()).testNeedsToBeExecuted(any());
+    }
+
+    private static TestDescriptor classContainer(Class<?> testClass, TestDescriptor parent) {
+        var descriptor = mock(TestDescriptor.class);
+        when(descriptor.getSource()).thenReturn(Optional.of(ClassSource.from(testClass)));
+        when(descriptor.getParent()).thenReturn(Optional.ofNullable(parent));
+        return descriptor;
+    }
+
+    private static TestDescriptor testMethod(Class<?> testClass, TestDescriptor parent) {
+        var descriptor = mock(TestDescriptor.class);
+        when(descriptor.getSource()).thenReturn(Optional.of(MethodSource.from(testClass.getName(), "test")));
+        when(descriptor.getParent()).thenReturn(Optional.of(parent));
+        return descriptor;
+    }
+
+}
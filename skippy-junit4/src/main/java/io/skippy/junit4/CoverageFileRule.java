@@ -49,7 +49,11 @@ class CoverageFileRule implements TestRule {
                 try {
                     base.evaluate();
                 } catch (Throwable t) {
-                    skippyTestApi.tagTest(description.getTestClass(), TestTag.FAILED);
+                    if (description.getMethodName() != null) {
+                        skippyTestApi.tagTestMethodAsFailed(description.getTestClass(), description.getMethodName());
+                    } else {
+                        skippyTestApi.tagTest(description.getTestClass(), TestTag.FAILED);
+                    }
                     errors.add(t);
                 } finally {
                     try {
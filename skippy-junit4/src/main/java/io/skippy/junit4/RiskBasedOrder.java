@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.junit4;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Ordering;
+import org.junit.runner.manipulation.Sorter;
+
+import java.util.Comparator;
+
+/**
+ * {@link Ordering} that executes the tests that are most likely to fail first: tests that cover changed classes, then
+ * tests that failed previously, each group shortest first (see {@link SkippyTestApi#getRiskBasedOrder()}):
+ *
+ * <pre>
+ * {@literal @}RunWith(Suite.class)
+ * {@literal @}SuiteClasses({FooTest.class, BarTest.class})
+ * {@literal @}OrderWith(RiskBasedOrder.class)
+ *  public class AllTests {
+ *  }
+ * </pre>
+ *
+ * The order of the test methods within a test class is retained.
+ *
+ * @author Florian McKee
+ */
+public final class RiskBasedOrder extends Sorter implements Ordering.Factory {
+
+    /**
+     * Comment to make the JavaDoc task happy.
+     */
+    public RiskBasedOrder() {
+        this(SkippyTestApi.INSTANCE);
+    }
+
+    RiskBasedOrder(SkippyTestApi skippyTestApi) {
+        super(comparator(skippyTestApi));
+    }
+
+    @Override
+    public Ordering create(Context context) {
+        return this;
+    }
+
+    private static Comparator<Description> comparator(SkippyTestApi skippyTestApi) {
+        return Comparator.comparing(Description::getTestClass, Comparator.nullsLast(skippyTestApi.getRiskBasedOrder()));
+    }
+
+}
@@ -23,7 +23,9 @@ import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
 
 /**
- * {@link TestRule} that makes skip-or-execute predictions for test.
+ * {@link TestRule} that makes skip-or-execute predictions for test. It can be applied to test methods (via
+ * {@literal @}Rule) and to entire test classes (via {@literal @}ClassRule). Test methods are skipped individually if
+ * their coverage isn't affected by the changes that require the execution of the test class.
  *
  * @author Florian McKee
  */
@@ -43,15 +45,18 @@ class SkipOrExecuteRule implements TestRule {
         return new Statement() {
             @Override
             public void evaluate() throws Throwable {
-                if (executeTest(description.getTestClass())) {
+                if (executeTest(description.getTestClass(), description.getMethodName())) {
                     base.evaluate();
                 } else {
                     throw new AssumptionViolatedException("Test skipped by Skippy.");
                 }
             }
 
-            private boolean executeTest(Class<?> testClass) {
-                return skippyTestApi.testNeedsToBeExecuted(testClass);
+            private boolean executeTest(Class<?> testClass, String testMethod) {
+                if (testMethod == null) {
+                    return skippyTestApi.testNeedsToBeExecuted(testClass);
+                }
+                return skippyTestApi.testMethodNeedsToBeExecuted(testClass, testMethod);
             }
         };
     }
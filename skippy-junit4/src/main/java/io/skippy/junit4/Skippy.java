@@ -36,6 +36,10 @@ import org.junit.rules.TestRule;
  *
  * }
  * </pre>
+ *
+ * The coverage data of a test class is kept in memory until the next test class is executed. The coverage data of the
+ * last test class is written by the {@literal @}ClassRule returned by {@link #predictClassWithSkippy()}, the
+ * {@link SkippyRunListener} or the JUnit Platform (when the tests are executed by the JUnit Vintage engine).
  */
 public class Skippy extends ExternalResource {
 
@@ -50,4 +54,34 @@ public class Skippy extends ExternalResource {
                 .around(new CoverageFileRule());
     }
 
+    /**
+     * Creates a {@link TestRule} that makes the skip-or-execute prediction once for the entire test class:
+     *
+     * <pre>
+     * public class FooTest {
+     *
+     *    {@literal @}ClassRule
+     *     public static TestRule skippyClassRule = Skippy.predictClassWithSkippy();
+     *
+     *    {@literal @}Rule
+     *     public TestRule skippyRule = Skippy.predictWithSkippy();
+     *
+     *     ...
+     *
+     * }
+     * </pre>
+     *
+     * Skipped classes are dropped before JUnit creates any instance of the class or runs any
+     * {@literal @}Before / {@literal @}After method. The rule returned by {@link #predictWithSkippy()} is still
+     * required to capture coverage data for executed tests. The coverage data that is kept in memory for the test class
+     * is released as soon as all of its test methods have been executed.
+     *
+     * @return a {@link TestRule} that makes the skip-or-execute prediction once for the entire test class
+     */
+    public static TestRule predictClassWithSkippy() {
+        return RuleChain
+                .outerRule(new SkipOrExecuteRule())
+                .around(new ClassCoverageFileRule());
+    }
+
 }
\ No newline at end of file
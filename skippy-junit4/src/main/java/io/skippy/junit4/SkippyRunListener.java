@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.junit4;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+
+/**
+ * {@link RunListener} that releases the coverage data and writes the log statements that are kept in memory once all
+ * tests have been executed. It is optional: The coverage data of a test class is written after each of its test
+ * methods. Surefire configuration:
+ *
+ * <pre>
+ * &lt;plugin&gt;
+ *     &lt;groupId&gt;org.apache.maven.plugins&lt;/groupId&gt;
+ *     &lt;artifactId&gt;maven-surefire-plugin&lt;/artifactId&gt;
+ *     &lt;configuration&gt;
+ *         &lt;properties&gt;
+ *             &lt;property&gt;
+ *                 &lt;name&gt;listener&lt;/name&gt;
+ *                 &lt;value&gt;io.skippy.junit4.SkippyRunListener&lt;/value&gt;
+ *             &lt;/property&gt;
+ *         &lt;/properties&gt;
+ *     &lt;/configuration&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ *
+ * @author Florian McKee
+ */
+@RunListener.ThreadSafe
+public final class SkippyRunListener extends RunListener {
+
+    private final SkippyTestApi skippyTestApi;
+
+    /**
+     * Comment to make the JavaDoc task happy.
+     */
+    public SkippyRunListener() {
+        this(SkippyTestApi.INSTANCE);
+    }
+
+    SkippyRunListener(SkippyTestApi skippyTestApi) {
+        this.skippyTestApi = skippyTestApi;
+    }
+
+    @Override
+    public void testRunFinished(Result result) {
+        skippyTestApi.flush();
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.junit4;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.junit.runner.JUnitCore;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ClassCoverageFileRule}.
+ */
+public class ClassCoverageFileRuleTest {
+
+    public static class TestWithClassRule {
+
+        static SkippyTestApi skippyTestApi = mock(SkippyTestApi.class);
+
+        @ClassRule
+        public static TestRule skippyClassRule = new ClassCoverageFileRule(skippyTestApi);
+
+        @Test
+        public void test1() {
+            verify(skippyTestApi, never()).afterClass(TestWithClassRule.class);
+        }
+
+        @Test
+        public void test2() {
+            verify(skippyTestApi, never()).afterClass(TestWithClassRule.class);
+        }
+
+    }
+
+    @Test
+    public void testCoverageIsReleasedOnceAfterAllTestMethods() {
+        reset(TestWithClassRule.skippyTestApi);
+
+        var result = JUnitCore.runClasses(TestWithClassRule.class);
+
+        assertEquals(2, result.getRunCount());
+        assertEquals(0, result.getFailureCount());
+        verify(TestWithClassRule.skippyTestApi, times(1)).afterClass(TestWithClassRule.class);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.junit4;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.notification.RunListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link RiskBasedOrder}.
+ */
+public class RiskBasedOrderTest {
+
+    public static class SlowTest {
+
+        @Test
+        public void test1() {
+        }
+
+        @Test
+        public void test2() {
+        }
+
+    }
+
+    public static class FastTest {
+
+        @Test
+        public void test() {
+        }
+
+    }
+
+    @Test
+    public void testOrderWith() throws Exception {
+        var skippyTestApi = mock(SkippyTestApi.class);
+        when(skippyTestApi.getRiskBasedOrder()).thenReturn(Comparator.comparing(Class::getSimpleName));
+        var executedTests = new ArrayList<String>();
+        var junitCore = new JUnitCore();
+        junitCore.addListener(new RunListener() {
+            @Override
+            public void testStarted(Description description) {
+                executedTests.add(description.getTestClass().getSimpleName() + "#" + description.getMethodName());
+            }
+        });
+
+        var result = junitCore.run(Request.classes(SlowTest.class, FastTest.class).orderWith(new RiskBasedOrder(skippyTestApi)));
+
+        assertEquals(0, result.getFailureCount());
+        assertEquals(List.of("FastTest#test", "SlowTest#test1", "SlowTest#test2"), executedTests);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.skippy.junit4;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.junit.runner.JUnitCore;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link SkipOrExecuteRule} as {@literal @}ClassRule.
+ */
+public class SkipOrExecuteClassRuleTest {
+
+    public static class TestWithClassRule {
+
+        static SkippyTestApi skippyTestApi = mock(SkippyTestApi.class);
+        static int instances = 0;
+
+        @ClassRule
+        public static TestRule skippyClassRule = new SkipOrExecuteRule(skippyTestApi);
+
+        public TestWithClassRule() {
+            instances++;
+        }
+
+        @Test
+        public void test1() {
+        }
+
+        @Test
+        public void test2() {
+        }
+
+    }
+
+    @Test
+    public void testSkippedClassIsNeverInstantiated() {
+        TestWithClassRule.instances = 0;
+        when(TestWithClassRule.skippyTestApi.testNeedsToBeExecuted(TestWithClassRule.class)).thenReturn(false);
+
+        var result = JUnitCore.runClasses(TestWithClassRule.class);
+
+        assertEquals(0, TestWithClassRule.instances);
+        assertEquals(0, result.getRunCount());
+        assertEquals(0, result.getFailureCount());
+        assertEquals(1, result.getAssumptionFailureCount());
+    }
+
+    @Test
+    public void testExecutedClass() {
+        TestWithClassRule.instances = 0;
+        when(TestWithClassRule.skippyTestApi.testNeedsToBeExecuted(TestWithClassRule.class)).thenReturn(true);
+
+        var result = JUnitCore.runClasses(TestWithClassRule.class);
+
+        assertEquals(2, TestWithClassRule.instances);
+        assertEquals(2, result.getRunCount());
+        assertEquals(0, result.getFailureCount());
+        verify(TestWithClassRule.skippyTestApi, atLeastOnce()).testNeedsToBeExecuted(TestWithClassRule.class);
+    }
+
+}
@@ -49,4 +49,24 @@ public class SkipOrExecuteRuleTest {
         verify(base, times(0)).evaluate();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testExecutionOfTestMethod() throws Throwable {
+        doReturn(SkipOrExecuteRuleTest.class).when(description).getTestClass();
+        doReturn("testFoo").when(description).getMethodName();
+        var rule = new SkipOrExecuteRule(skippyTestApi);
+        when(skippyTestApi.testMethodNeedsToBeExecuted(SkipOrExecuteRuleTest.class, "testFoo")).thenReturn(true);
+        rule.apply(base, description).evaluate();
+        verify(base).evaluate();
+    }
+
+    @Test
+    public void testSkippingOfTestMethod() throws Throwable {
+        doReturn(SkipOrExecuteRuleTest.class).when(description).getTestClass();
+        doReturn("testFoo").when(description).getMethodName();
+        var rule = new SkipOrExecuteRule(skippyTestApi);
+        when(skippyTestApi.testMethodNeedsToBeExecuted(SkipOrExecuteRuleTest.class, "testFoo")).thenReturn(false);
+        rule.apply(base, description).evaluate();
+        verify(base, times(0)).evaluate();
+    }
+
+}
@@ -20,11 +20,11 @@ import io.skippy.core.SkippyTestApi;
 import org.junit.jupiter.api.extension.*;
 
 /**
- * Callbacks that trigger the capture of coverage data for a test class.
+ * Callbacks that trigger the capture of coverage data for a test class and its test methods.
  *
  * @author Florian McKee
  */
-public final class CoverageFileCallbacks implements BeforeAllCallback, AfterAllCallback {
+public final class CoverageFileCallbacks implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback {
 
     private final SkippyTestApi skippyTestApi = SkippyTestApi.INSTANCE;
 
@@ -38,4 +38,18 @@ public final class CoverageFileCallbacks implements BeforeAllCallback, AfterAllC
         context.getTestClass().ifPresent(skippyTestApi::afterAll);
     }
 
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (context.getTestClass().isPresent() && context.getTestMethod().isPresent()) {
+            skippyTestApi.beforeEach(context.getTestClass().get(), context.getTestMethod().get().getName());
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (context.getTestClass().isPresent() && context.getTestMethod().isPresent()) {
+            skippyTestApi.afterEach(context.getTestClass().get(), context.getTestMethod().get().getName());
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.junit5;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+
+/**
+ * {@link ClassOrderer} that executes the tests that are most likely to fail first: tests that cover changed classes,
+ * then tests that failed previously, each group shortest first (see {@link SkippyTestApi#getRiskBasedOrder()}).
+ * <br /><br />
+ * Usage (junit-platform.properties):
+ * <pre>
+ * junit.jupiter.testclass.order.default = io.skippy.junit5.RiskBasedClassOrderer
+ * </pre>
+ *
+ * @author Florian McKee
+ */
+public final class RiskBasedClassOrderer implements ClassOrderer {
+
+    private final SkippyTestApi skippyTestApi;
+
+    /**
+     * Comment to make the JavaDoc task happy.
+     */
+    public RiskBasedClassOrderer() {
+        this(SkippyTestApi.INSTANCE);
+    }
+
+    RiskBasedClassOrderer(final SkippyTestApi skippyTestApi) {
+        this.skippyTestApi = skippyTestApi;
+    }
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        context.getClassDescriptors().sort(Comparator.comparing(ClassDescriptor::getTestClass, skippyTestApi.getRiskBasedOrder()));
+    }
+
+}
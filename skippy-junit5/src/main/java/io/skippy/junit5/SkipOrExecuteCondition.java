@@ -22,7 +22,7 @@ import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 /**
- * {@link ExecutionCondition} that makes skip-or-execute predictions for tests.
+ * {@link ExecutionCondition} that makes skip-or-execute predictions for test classes and individual test methods.
  *
  * @author Florian McKee
  */
@@ -46,6 +46,12 @@ public final class SkipOrExecuteCondition implements ExecutionCondition {
         if (context.getTestClass().isEmpty()) {
             return ConditionEvaluationResult.enabled("");
         }
+        if (context.getTestMethod().isPresent()) {
+            if (skippyTestApi.testMethodNeedsToBeExecuted(context.getTestClass().get(), context.getTestMethod().get().getName())) {
+                return ConditionEvaluationResult.enabled("");
+            }
+            return ConditionEvaluationResult.disabled("");
+        }
         if (skippyTestApi.testNeedsToBeExecuted(context.getTestClass().get())) {
             return ConditionEvaluationResult.enabled("");
         }
@@ -34,7 +34,11 @@ public final class TestResultExtension implements TestWatcher {
 
     @Override
     public void testFailed(ExtensionContext context, Throwable cause) {
-        skippyTestApi.tagTest(context.getTestClass().get(), TestTag.FAILED);
+        if (context.getTestMethod().isPresent()) {
+            skippyTestApi.tagTestMethodAsFailed(context.getTestClass().get(), context.getTestMethod().get().getName());
+        } else {
+            skippyTestApi.tagTest(context.getTestClass().get(), TestTag.FAILED);
+        }
     }
 
 }
\ No newline at end of file
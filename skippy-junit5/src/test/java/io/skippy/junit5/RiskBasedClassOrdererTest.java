@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.junit5;
+
+import io.skippy.core.SkippyTestApi;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link RiskBasedClassOrderer}.
+ *
+ * @author Florian McKee
+ */
+public class RiskBasedClassOrdererTest {
+
+    @Test
+    void testOrderClasses() {
+        var skippyTestApi = mock(SkippyTestApi.class);
+        when(skippyTestApi.getRiskBasedOrder()).thenReturn(Comparator.comparing(Class::getSimpleName));
+        var integerDescriptor = descriptor(Integer.class);
+        var stringDescriptor = descriptor(String.class);
+        var booleanDescriptor = descriptor(Boolean.class);
+        var descriptors = new ArrayList<>(List.of(stringDescriptor, integerDescriptor, booleanDescriptor));
+        var context = mock(ClassOrdererContext.class);
+        doReturn(descriptors).when(context).getClassDescriptors();
+
+        new RiskBasedClassOrderer(skippyTestApi).orderClasses(context);
+
+        assertEquals(List.of(booleanDescriptor, integerDescriptor, stringDescriptor), descriptors);
+    }
+
+    private static ClassDescriptor descriptor(Class<?> testClass) {
+        var descriptor = mock(ClassDescriptor.class);
+        doReturn(testClass).when(descriptor).getTestClass();
+        return descriptor;
+    }
+
+}
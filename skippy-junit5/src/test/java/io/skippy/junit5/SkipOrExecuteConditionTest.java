@@ -71,4 +71,31 @@ public class SkipOrExecuteConditionTest {
         assertEquals(false, skippyExecutionCondition.evaluateExecutionCondition(context).isDisabled());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testSkippyAnalysisExecutionOfTestMethodRequiredFalse() throws NoSuchMethodException {
+        var skippyTestApi = mock(SkippyTestApi.class);
+        var skippyExecutionCondition = new SkipOrExecuteCondition(skippyTestApi);
+        ExtensionContext context = mock(ExtensionContext.class);
+
+        when(context.getTestClass()).thenReturn(Optional.of(Object.class));
+        when(context.getTestMethod()).thenReturn(Optional.of(Object.class.getMethod("toString")));
+        when(skippyTestApi.testNeedsToBeExecuted(any())).thenReturn(true);
+        when(skippyTestApi.testMethodNeedsToBeExecuted(Object.class, "toString")).thenReturn(false);
+
+        assertEquals(true, skippyExecutionCondition.evaluateExecutionCondition(context).isDisabled());
+    }
+
+    @Test
+    void testSkippyAnalysisExecutionOfTestMethodRequiredTrue() throws NoSuchMethodException {
+        var skippyTestApi = mock(SkippyTestApi.class);
+        var skippyExecutionCondition = new SkipOrExecuteCondition(skippyTestApi);
+        ExtensionContext context = mock(ExtensionContext.class);
+
+        when(context.getTestClass()).thenReturn(Optional.of(Object.class));
+        when(context.getTestMethod()).thenReturn(Optional.of(Object.class.getMethod("toString")));
+        when(skippyTestApi.testMethodNeedsToBeExecuted(Object.class, "toString")).thenReturn(true);
+
+        assertEquals(false, skippyExecutionCondition.evaluateExecutionCondition(context).isDisabled());
+    }
+
+}
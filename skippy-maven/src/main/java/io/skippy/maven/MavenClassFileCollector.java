@@ -18,15 +18,12 @@ package io.skippy.maven;
 
 import io.skippy.core.ClassFile;
 import io.skippy.core.ClassFileCollector;
+import io.skippy.core.ClassFileScanner;
 import org.apache.maven.project.MavenProject;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
-import static java.util.Comparator.comparing;
-
 /**
  * Collects {@link ClassFile}s in the output directories of the  project.
  *
@@ -49,31 +46,7 @@ final class MavenClassFileCollector implements ClassFileCollector {
     public List<ClassFile> collect() {
         var classesDir = new File(project.getBuild().getOutputDirectory());
         var testClassesDir = new File(project.getBuild().getTestOutputDirectory());
-        var result = new ArrayList<ClassFile>();
-        result.addAll(sort(collect(classesDir, classesDir)));
-        result.addAll(sort(collect(testClassesDir, testClassesDir)));
-        return result;
-    }
-
-    private List<ClassFile> collect(File outputFolder, File searchDirectory) {
-        var result = new LinkedList<ClassFile>();
-        File[] files = searchDirectory.listFiles();
-        if (files != null) {
-            for (File file : files) {
-                if (file.isDirectory()) {
-                    result.addAll(collect(outputFolder, file));
-                } else if (file.getName().endsWith(".class")) {
-                    result.add(ClassFile.fromFileSystem(project.getBasedir().toPath(), outputFolder.toPath(), file.toPath()));
-                }
-            }
-        }
-        return result;
-    }
-
-    private List<ClassFile> sort(List<ClassFile> input) {
-        return input.stream()
-                .sorted()
-                .toList();
+        return ClassFileScanner.scan(project.getBasedir().toPath(), List.of(classesDir, testClassesDir));
     }
 
 }
\ No newline at end of file
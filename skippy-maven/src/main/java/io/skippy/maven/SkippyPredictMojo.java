@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.maven;
+
+import io.skippy.core.SkippyBuildApi;
+import io.skippy.core.SkippyConfiguration;
+import io.skippy.core.SkippyRepository;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mojo that computes the skip-or-execute predictions for all tests after their compilation and before their execution.
+ * <br /><br />
+ * The location of the build directory is passed to the test JVMs via the {@code skippy.buildDir} user property.
+ * <br /><br />
+ * The skipped tests are written to an excludes file that is passed to Surefire and Failsafe via the
+ * {@code surefire.excludesFile} and {@code failsafe.excludesFile} properties. This prevents the plugins from forking
+ * JVMs for and scanning test classes that don't need to be executed.
+ * <br /><br />
+ * Surefire and Failsafe only apply their default exclude ({@value #DEFAULT_EXCLUDE}) if no excludes are configured at
+ * all. It is therefore added to the excludes file unless the plugins are configured with {@code <excludes>}.
+ * Otherwise, nested and anonymous classes would be executed on their own.
+ */
+@Mojo(name = "predict", defaultPhase = LifecyclePhase.PROCESS_TEST_CLASSES, requiresDependencyResolution = ResolutionScope.TEST)
+public class SkippyPredictMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project}", required = true, readonly = true)
+    MavenProject project;
+
+    @Parameter(defaultValue = "false", property = "coverageForSkippedTests")
+    private boolean coverageForSkippedTests;
+
+    @Parameter(property = "repository")
+    private String repository;
+
+    @Parameter(property = "predictionModifier")
+    private String predictionModifier;
+
+    @Component
+    private MavenSession session;
+
+    private static final List<String> EXCLUDES_FILE_PROPERTIES = List.of("surefire.excludesFile", "failsafe.excludesFile");
+    private static final List<String> TEST_PLUGINS = List.of("maven-surefire-plugin", "maven-failsafe-plugin");
+    static final String DEFAULT_EXCLUDE = "**/*$*";
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        var projectDir = project.getBasedir().toPath();
+        var buildDir = projectDir.resolve(Path.of(project.getBuild().getOutputDirectory()).getParent());
+        var skippyConfiguration = new SkippyConfiguration(
+                coverageForSkippedTests,
+                Optional.ofNullable(repository),
+                Optional.ofNullable(predictionModifier)
+        );
+        var skippyApi = new SkippyBuildApi(
+                skippyConfiguration,
+                new MavenClassFileCollector(project),
+                SkippyRepository.getInstance(skippyConfiguration, projectDir, buildDir)
+        );
+        skippyApi.predict();
+        // Surefire and Failsafe pass the user properties on to the test JVMs
+        session.getUserProperties().setProperty(SkippyRepository.BUILD_DIR_PROPERTY, buildDir.toString());
+        excludeSkippedTests(skippyApi, projectDir);
+    }
+
+    private void excludeSkippedTests(SkippyBuildApi skippyApi, Path projectDir) throws MojoExecutionException {
+        if (EXCLUDES_FILE_PROPERTIES.stream().anyMatch(this::isPropertySet)) {
+            getLog().info("Skippy: Excludes file has been configured explicitly, skipped tests will be excluded by Skippy's JUnit libraries.");
+            return;
+        }
+        try {
+            var outputFolder = projectDir.relativize(Path.of(project.getBuild().getTestOutputDirectory()));
+            var testClasspath = project.getTestClasspathElements().stream().map(Path::of).toList();
+            var skippedTests = skippyApi.excludeSkippedTests(List.of(outputFolder), testClasspath);
+            var excludesFile = Path.of(project.getBuild().getDirectory()).resolve("skippy-excludes.txt");
+            writeExcludesFile(excludesFile, skippedTests, false == excludesConfigured(project));
+            for (var property : EXCLUDES_FILE_PROPERTIES) {
+                project.getProperties().setProperty(property, excludesFile.toString());
+            }
+        } catch (DependencyResolutionRequiredException | IOException e) {
+            throw new MojoExecutionException("Unable to exclude skipped tests: %s.".formatted(e), e);
+        }
+    }
+
+    /**
+     * Writes the excludes file for the {@code skippedTests}.
+     *
+     * @param excludesFile the excludes file
+     * @param skippedTests the class names of the skipped tests
+     * @param defaultExclude {@code true} if {@value #DEFAULT_EXCLUDE} should be added, {@code false} otherwise
+     * @throws IOException if the file can't be written
+     */
+    static void writeExcludesFile(Path excludesFile, List<String> skippedTests, boolean defaultExclude) throws IOException {
+        var excludes = new ArrayList<String>();
+        for (var skippedTest : skippedTests) {
+            excludes.add(skippedTest.replace('.', '/') + ".class");
+        }
+        if (defaultExclude) {
+            excludes.add(DEFAULT_EXCLUDE);
+        }
+        Files.createDirectories(excludesFile.getParent());
+        Files.write(excludesFile, excludes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns {@code true} if Surefire or Failsafe are configured with {@code <excludes>} (either for the plugin or one
+     * of its executions), {@code false} otherwise.
+     */
+    static boolean excludesConfigured(MavenProject project) {
+        for (var plugin : project.getBuildPlugins()) {
+            if (false == TEST_PLUGINS.contains(plugin.getArtifactId())) {
+                continue;
+            }
+            if (hasExcludes(plugin.getConfiguration())) {
+                return true;
+            }
+            for (var execution : plugin.getExecutions()) {
+                if (hasExcludes(execution.getConfiguration())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasExcludes(Object configuration) {
+        return configuration instanceof Xpp3Dom dom && dom.getChild("excludes") != null;
+    }
+
+    private boolean isPropertySet(String property) {
+        return project.getProperties().containsKey(property)
+                || session.getUserProperties().containsKey(property)
+                || session.getSystemProperties().containsKey(property);
+    }
+
+}
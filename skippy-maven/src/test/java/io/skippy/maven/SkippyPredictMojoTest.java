@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.skippy.maven;
+
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SkippyPredictMojoTest {
+
+    @Test
+    void testExcludesFileContainsDefaultExclude(@TempDir Path buildDir) throws IOException {
+        var excludesFile = buildDir.resolve("skippy-excludes.txt");
+        SkippyPredictMojo.writeExcludesFile(excludesFile, List.of("com.example.FooTest", "com.example.BarTest"), true);
+        assertEquals(List.of(
+                "com/example/FooTest.class",
+                "com/example/BarTest.class",
+                "**/*$*"
+        ), Files.readAllLines(excludesFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExcludesFileWithoutDefaultExclude(@TempDir Path buildDir) throws IOException {
+        var excludesFile = buildDir.resolve("skippy-excludes.txt");
+        SkippyPredictMojo.writeExcludesFile(excludesFile, List.of("com.example.FooTest"), false);
+        assertEquals(List.of("com/example/FooTest.class"), Files.readAllLines(excludesFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExcludesConfigured() {
+        assertFalse(SkippyPredictMojo.excludesConfigured(project(surefire(new Xpp3Dom("configuration")))));
+
+        var pluginConfiguration = new Xpp3Dom("configuration");
+        pluginConfiguration.addChild(new Xpp3Dom("excludes"));
+        assertTrue(SkippyPredictMojo.excludesConfigured(project(surefire(pluginConfiguration))));
+
+        var executionConfiguration = new Xpp3Dom("configuration");
+        executionConfiguration.addChild(new Xpp3Dom("excludes"));
+        var execution = new PluginExecution();
+        execution.setConfiguration(executionConfiguration);
+        var plugin = surefire(null);
+        plugin.addExecution(execution);
+        assertTrue(SkippyPredictMojo.excludesConfigured(project(plugin)));
+    }
+
+    private static Plugin surefire(Xpp3Dom configuration) {
+        var plugin = new Plugin();
+        plugin.setGroupId("org.apache.maven.plugins");
+        plugin.setArtifactId("maven-surefire-plugin");
+        plugin.setConfiguration(configuration);
+        return plugin;
+    }
+
+    private static MavenProject project(Plugin plugin) {
+        var project = new MavenProject();
+        project.getBuild().addPlugin(plugin);
+        return project;
+    }
+
+}